@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.util.Arrays;
+
+import burp.api.montoya.core.ByteArray;
+
+/**
+ * Additive-increase / multiplicative-decrease pacing for outbound requests.
+ * The concurrency limit grows while responses stay healthy and is halved on
+ * 429/503 responses, Aura rate-limit errors, or a climbing p95 latency.
+ * Once the limit is down to one request, a doubling delay between requests
+ * is applied instead. A throttled (429/503) response also holds back every
+ * send for a short delay, after which the caller sends the request again.
+ */
+public class AdaptiveRateController {
+    private static final int LATENCY_WINDOW = 64;
+    private static final int MIN_SAMPLES_FOR_BASELINE = 20;
+    // Share of the gap the baseline closes per sample when p95 sits above it
+    private static final double BASELINE_RISE = 0.05;
+    private static final long MIN_BACKOFF_INTERVAL_MS = 1000;
+    private static final long INITIAL_PACING_DELAY_MS = 250;
+    private static final long MAX_PACING_DELAY_MS = 10000;
+    private static final long THROTTLE_RETRY_DELAY_MS = 1000;
+    // Aura rate-limit errors are short; only small or error responses are checked, and only their start
+    private static final int SMALL_RESPONSE_BYTES = 16 * 1024;
+    private static final int INSPECTED_BODY_BYTES = 4096;
+
+    private static final String[] RATE_LIMIT_MARKERS = {
+        "rate limit", "ratelimit", "request_limit_exceeded", "request limit",
+        "too many requests", "concurrent requests limit", "concurrentperorg", "try again later"
+    };
+
+    private final Object lock = new Object();
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount = 0;
+    private int latencyIndex = 0;
+
+    private int maxConcurrency = 1;
+    private double limit = 1.0;
+    private boolean slowStart = true;
+    private int inFlight = 0;
+    private long pacingDelayMs = 0;
+    private long nextSendAt = 0;
+    private long lastBackoffAt = 0;
+    private double baselineP95 = -1;
+    private long currentP95 = 0;
+
+    /**
+     * Set the user-configured ceiling for concurrent requests
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        synchronized (lock) {
+            this.maxConcurrency = Math.max(1, maxConcurrency);
+            if (limit > this.maxConcurrency) {
+                limit = this.maxConcurrency;
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Start over for a new operation: forget the latency history and grow again
+     * from one request in slow start. Requests still in flight stay counted.
+     */
+    public void reset() {
+        synchronized (lock) {
+            latencyCount = 0;
+            latencyIndex = 0;
+            baselineP95 = -1;
+            currentP95 = 0;
+            limit = 1.0;
+            slowStart = true;
+            pacingDelayMs = 0;
+            nextSendAt = 0;
+            lastBackoffAt = 0;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Block until a request may be sent under the current limit and pacing delay
+     */
+    public void acquire() throws InterruptedException {
+        synchronized (lock) {
+            while (true) {
+                long waitMs = nextSendAt - System.currentTimeMillis();
+                if (inFlight < currentLimit() && waitMs <= 0) {
+                    break;
+                }
+                lock.wait(waitMs > 0 ? waitMs : 0);
+            }
+            inFlight++;
+            if (pacingDelayMs > 0) {
+                nextSendAt = System.currentTimeMillis() + pacingDelayMs;
+            }
+        }
+    }
+
+    /**
+     * Record the outcome of a request acquired with acquire()
+     *
+     * @param statusCode HTTP status code, or 0 when no response was received
+     * @param latencyMs  time between sending the request and receiving the response
+     * @param responseBody response body used to detect Aura rate-limit errors (may be null)
+     * @return true when the request was throttled and should be sent again (after a new acquire())
+     */
+    public boolean release(int statusCode, long latencyMs, ByteArray responseBody) {
+        boolean throttled = isThrottled(statusCode);
+        boolean rateLimited = throttled || isAuraRateLimitError(statusCode, responseBody);
+
+        synchronized (lock) {
+            inFlight = Math.max(0, inFlight - 1);
+            recordLatency(latencyMs);
+
+            long now = System.currentTimeMillis();
+            // At one request slow responses are not caused by our concurrency, so the limit may grow again
+            boolean latencyClimbing = limit > 1.0 && baselineP95 > 0
+                && currentP95 > Math.max(baselineP95 * 2, baselineP95 + 500);
+
+            if (rateLimited || latencyClimbing) {
+                // Halve at most once per interval so a burst of in-flight failures counts once
+                if (now - lastBackoffAt >= Math.max(MIN_BACKOFF_INTERVAL_MS, currentP95)) {
+                    lastBackoffAt = now;
+                    slowStart = false;
+                    if (limit > 1.0) {
+                        limit = Math.max(1.0, limit / 2);
+                    } else if (rateLimited) {
+                        pacingDelayMs = pacingDelayMs == 0 ? INITIAL_PACING_DELAY_MS : Math.min(MAX_PACING_DELAY_MS, pacingDelayMs * 2);
+                    }
+                }
+            } else if (statusCode > 0 && statusCode < 500) {
+                if (pacingDelayMs > 0) {
+                    // Recover the pacing delay before growing concurrency again
+                    pacingDelayMs = pacingDelayMs / 2 < 50 ? 0 : pacingDelayMs / 2;
+                } else if (slowStart) {
+                    limit = Math.min(maxConcurrency, limit + 1.0);
+                } else {
+                    limit = Math.min(maxConcurrency, limit + 1.0 / limit);
+                }
+            }
+            if (throttled) {
+                // Hold back every sender, so the throttled request goes out again after the backoff
+                nextSendAt = Math.max(nextSendAt, now + Math.max(THROTTLE_RETRY_DELAY_MS, pacingDelayMs));
+            }
+            lock.notifyAll();
+        }
+        return throttled;
+    }
+
+    /**
+     * Whether the status code means the server refused the request for now
+     */
+    private static boolean isThrottled(int statusCode) {
+        return statusCode == 429 || statusCode == 503;
+    }
+
+    /**
+     * Give back a slot for a request that was acquired but never sent
+     */
+    public void abandon() {
+        synchronized (lock) {
+            inFlight = Math.max(0, inFlight - 1);
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Short description of the current pace for the status panel
+     */
+    public String getStatusText() {
+        synchronized (lock) {
+            StringBuilder text = new StringBuilder();
+            text.append("Pace: ").append(currentLimit()).append("/").append(maxConcurrency).append(" concurrent");
+            if (latencyCount > 0) {
+                text.append(", p95 ").append(currentP95).append(" ms");
+            }
+            if (pacingDelayMs > 0) {
+                text.append(", delay ").append(pacingDelayMs).append(" ms");
+            }
+            return text.toString();
+        }
+    }
+
+    private int currentLimit() {
+        return Math.max(1, Math.min(maxConcurrency, (int) Math.floor(limit)));
+    }
+
+    private void recordLatency(long latencyMs) {
+        if (latencyMs < 0) {
+            return;
+        }
+        latencies[latencyIndex] = latencyMs;
+        latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+        latencyCount = Math.min(LATENCY_WINDOW, latencyCount + 1);
+
+        long[] window = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(window);
+        currentP95 = window[Math.min(window.length - 1, (int) Math.ceil(window.length * 0.95) - 1)];
+
+        // The baseline drops to a lower p95 at once and follows a higher one slowly,
+        // so a lasting change in response times stops counting as climbing latency
+        if (latencyCount >= MIN_SAMPLES_FOR_BASELINE) {
+            if (baselineP95 < 0 || currentP95 < baselineP95) {
+                baselineP95 = currentP95;
+            } else {
+                baselineP95 += (currentP95 - baselineP95) * BASELINE_RISE;
+            }
+        }
+    }
+
+    private static boolean isAuraRateLimitError(int statusCode, ByteArray responseBody) {
+        if (responseBody == null) {
+            return false;
+        }
+        int length = responseBody.length();
+        if (length > SMALL_RESPONSE_BYTES && statusCode < 400) {
+            return false;
+        }
+
+        // Search the start of the body in place, case-insensitively
+        int end = Math.min(length, INSPECTED_BODY_BYTES);
+        if (responseBody.indexOf("\"ERROR\"", true, 0, end) < 0) {
+            return false;
+        }
+        for (String marker : RATE_LIMIT_MARKERS) {
+            if (responseBody.indexOf(marker, false, 0, end) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
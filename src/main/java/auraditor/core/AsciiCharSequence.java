@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only character view of ASCII bytes, without decoding or copying them.
+ * Every common charset decodes ASCII the same way, so for a body that passes
+ * isAscii() this view reads exactly like the decoded string. Subsequences
+ * share the bytes; only toString() copies.
+ */
+public final class AsciiCharSequence implements CharSequence {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    public AsciiCharSequence(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    private AsciiCharSequence(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Check whether every byte is 7-bit ASCII
+     */
+    public static boolean isAscii(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return (char) bytes[offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new AsciiCharSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Packs several Aura actions into a single "message" value and maps the
+ * response actions back to the caller's keys using the unique action ids
+ */
+public class AuraActionBatch {
+    private static final int FIRST_ACTION_ID = 100;
+
+    private final Map<String, String> keysById = new LinkedHashMap<>();
+    private final StringBuilder actions = new StringBuilder();
+    private int nextId = FIRST_ACTION_ID;
+
+    /**
+     * Add an action built from a template whose first %s is the action id.
+     * The remaining arguments must already be escaped for JSON.
+     *
+     * @return the action id assigned to this entry
+     */
+    public String addAction(String key, String actionTemplate, Object... args) {
+        String id = (nextId++) + ";a";
+        Object[] formatArgs = new Object[args.length + 1];
+        formatArgs[0] = id;
+        System.arraycopy(args, 0, formatArgs, 1, args.length);
+
+        if (actions.length() > 0) {
+            actions.append(',');
+        }
+        actions.append(String.format(actionTemplate, formatArgs));
+        keysById.put(id, key);
+        return id;
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    public List<String> getKeys() {
+        return new ArrayList<>(keysById.values());
+    }
+
+    /**
+     * Build the value for the "message" parameter
+     */
+    public String toMessage() {
+        return "{\"actions\":[" + actions + "]}";
+    }
+
+    /**
+     * Split a response into one ActionResponse per key (null when the server omitted the action)
+     */
+    public Map<String, ActionResponse> demultiplex(String responseBody) throws IOException {
+        AuraResponse auraResponse = new AuraResponse(responseBody);
+        Map<String, ActionResponse> results = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> entry : keysById.entrySet()) {
+            results.put(entry.getValue(), auraResponse.responseActionMap.get(entry.getKey()));
+        }
+
+        // Some endpoints rewrite action ids; a lone action can still be matched by position
+        if (keysById.size() == 1 && results.values().iterator().next() == null
+                && auraResponse.actions != null && auraResponse.actions.size() == 1
+                && auraResponse.actions.get(0).isObject()) {
+            String onlyKey = keysById.values().iterator().next();
+            results.put(onlyKey, new ActionResponse((ObjectNode) auraResponse.actions.get(0)));
+        }
+
+        return results;
+    }
+
+    /**
+     * Stream a response and map each action to its key, writing the result rows to the
+     * sinks instead of building a tree (null when the server omitted the action)
+     */
+    public Map<String, AuraActionStreamReader.ActionSummary> demultiplexRows(byte[] responseBody,
+                                                                            AuraActionStreamReader.RowSinkFactory sinks) throws IOException {
+        List<AuraActionStreamReader.ActionSummary> actionList = AuraActionStreamReader.read(responseBody, sinks);
+        Map<String, AuraActionStreamReader.ActionSummary> byId = new LinkedHashMap<>();
+        for (AuraActionStreamReader.ActionSummary action : actionList) {
+            if (action.id != null) {
+                byId.put(action.id, action);
+            }
+        }
+
+        Map<String, AuraActionStreamReader.ActionSummary> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : keysById.entrySet()) {
+            results.put(entry.getValue(), byId.get(entry.getKey()));
+        }
+
+        // Some endpoints rewrite action ids; a lone action can still be matched by position
+        if (keysById.size() == 1 && results.values().iterator().next() == null && actionList.size() == 1) {
+            results.put(keysById.values().iterator().next(), actionList.get(0));
+        }
+
+        return results;
+    }
+
+    /**
+     * Split a list into consecutive batches of at most batchSize entries
+     */
+    public static <T> List<List<T>> partition(List<T> items, int batchSize) {
+        int size = Math.max(1, batchSize);
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            batches.add(new ArrayList<>(items.subList(i, Math.min(items.size(), i + size))));
+        }
+        return batches;
+    }
+}
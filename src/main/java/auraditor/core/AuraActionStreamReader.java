@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Reads the actions of an Aura response as a token stream. The rows of each
+ * action's returnValue.result are counted and copied to a sink one at a time,
+ * so the result array is never built as a tree. Everything else in the action
+ * (state, error, the rest of returnValue) is small and kept as usual.
+ */
+public class AuraActionStreamReader {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = MAPPER.getFactory();
+
+    /**
+     * Opens the destination for the result rows of the action at the given index.
+     * Returning null skips the rows (they are still counted). The reader closes
+     * the sink once the rows are written, also when reading fails.
+     */
+    @FunctionalInterface
+    public interface RowSinkFactory {
+        Writer open(int actionIndex) throws IOException;
+    }
+
+    /**
+     * One action of the response without its result rows
+     */
+    public static class ActionSummary {
+        /** position of the action in the response, as passed to the RowSinkFactory */
+        public int index;
+        public String id;
+        public String state;
+        public JsonNode error;
+        /** returnValue without its "result" field */
+        public JsonNode returnValue;
+        /** true when returnValue.result was an array */
+        public boolean hasResult;
+        public int rowCount;
+    }
+
+    /**
+     * Read all actions, writing each action's rows as a pretty-printed JSON array to its sink
+     */
+    public static List<ActionSummary> read(byte[] body, RowSinkFactory sinks) throws IOException {
+        List<ActionSummary> actions = new ArrayList<>();
+        int start = jsonStart(body);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body, start, body.length - start)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return actions;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("actions".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.currentToken() == JsonToken.START_OBJECT) {
+                            actions.add(readAction(parser, actions.size(), sinks));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return actions;
+    }
+
+    private static ActionSummary readAction(JsonParser parser, int index, RowSinkFactory sinks) throws IOException {
+        ActionSummary action = new ActionSummary();
+        action.index = index;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "id":
+                    action.id = parser.getValueAsString();
+                    break;
+                case "state":
+                    action.state = parser.getValueAsString();
+                    break;
+                case "error":
+                    action.error = MAPPER.readTree(parser);
+                    break;
+                case "returnValue":
+                    if (token == JsonToken.START_OBJECT) {
+                        action.returnValue = readReturnValue(parser, action, index, sinks);
+                    } else {
+                        action.returnValue = MAPPER.readTree(parser);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return action;
+    }
+
+    private static ObjectNode readReturnValue(JsonParser parser, ActionSummary action, int index, RowSinkFactory sinks) throws IOException {
+        ObjectNode returnValue = MAPPER.createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("result".equals(field) && token == JsonToken.START_ARRAY) {
+                action.hasResult = true;
+                action.rowCount = copyRows(parser, sinks != null ? sinks.open(index) : null);
+            } else {
+                returnValue.set(field, MAPPER.readTree(parser));
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Copy the rows of the array at the current token to the sink, close it and return how many rows there were
+     */
+    private static int copyRows(JsonParser parser, Writer sink) throws IOException {
+        int rows = 0;
+        if (sink == null) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+                rows++;
+            }
+            return rows;
+        }
+
+        try (Writer out = sink; JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartArray();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                generator.copyCurrentStructure(parser);
+                rows++;
+            }
+            generator.writeEndArray();
+        }
+        return rows;
+    }
+
+    /**
+     * Offset of the JSON object, skipping a leading "while(1);" guard if present
+     */
+    private static int jsonStart(byte[] body) {
+        int i = 0;
+        while (i < body.length && Character.isWhitespace(body[i])) {
+            i++;
+        }
+        if (i < body.length && body[i] == '{') {
+            return i;
+        }
+        for (int j = i; j < body.length; j++) {
+            if (body[j] == ';') {
+                return j + 1;
+            }
+        }
+        return i;
+    }
+}
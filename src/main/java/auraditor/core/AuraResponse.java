@@ -28,8 +28,10 @@ public class AuraResponse {
 	}
 	
 	public AuraResponse(String jsonString) throws JsonProcessingException, IOException{
-		// skip past the while(1);
-		jsonString = jsonString.substring(jsonString.indexOf(';')+1,jsonString.length());
+		// skip past the while(1); (plain JSON bodies can contain ';' inside action ids)
+		if(!jsonString.trim().startsWith("{")){
+			jsonString = jsonString.substring(jsonString.indexOf(';')+1,jsonString.length());
+		}
 		
 		JsonNode result = mapper.readTree(jsonString);
 		this.auraResponse = (ObjectNode)result;
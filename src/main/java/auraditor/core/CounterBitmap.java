@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of non-negative long values, laid out like a roaring bitmap:
+ * values are grouped by their high bits into chunks of 65536, and each chunk
+ * is a sorted array while sparse and a plain bitmap once dense. Clustered
+ * values such as Salesforce record counters cost about two bytes each, or
+ * less than one bit each in dense runs.
+ *
+ * Values only ever get added. All methods are synchronized, so one thread
+ * can add while others query.
+ */
+public class CounterBitmap {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    // Sorted chunk keys (value >>> 16) and their containers
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size = 0;
+    private long cardinality = 0;
+
+    /**
+     * Add a value; returns false if it was already present
+     */
+    public synchronized boolean add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Only non-negative values are supported");
+        }
+
+        long key = value >>> CHUNK_BITS;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(containers, index, containers, index + 1, size - index);
+            keys[index] = key;
+            containers[index] = new ArrayContainer();
+            size++;
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((int) (value & CHUNK_MASK));
+        if (containers[index].cardinality() == before) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    public synchronized boolean contains(long value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, value >>> CHUNK_BITS);
+        return index >= 0 && containers[index].contains((int) (value & CHUNK_MASK));
+    }
+
+    public synchronized long cardinality() {
+        return cardinality;
+    }
+
+    public synchronized boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Number of values in from..to (inclusive)
+     */
+    public synchronized long rangeCardinality(long from, long to) {
+        if (to < from) {
+            return 0;
+        }
+        return countUpTo(to) - countUpTo(from - 1);
+    }
+
+    /**
+     * Smallest value, or -1 if the set is empty
+     */
+    public synchronized long first() {
+        return size == 0 ? -1 : combine(keys[0], containers[0].next(0));
+    }
+
+    /**
+     * Largest value, or -1 if the set is empty
+     */
+    public synchronized long last() {
+        return size == 0 ? -1 : combine(keys[size - 1], containers[size - 1].previous(CHUNK_MASK));
+    }
+
+    /**
+     * Smallest value that is at least from, or -1 if there is none
+     */
+    public synchronized long nextValue(long from) {
+        long start = Math.max(from, 0);
+        long key = start >>> CHUNK_BITS;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            int low = containers[index].next((int) (start & CHUNK_MASK));
+            if (low >= 0) {
+                return combine(key, low);
+            }
+            index++;
+        } else {
+            index = -index - 1;
+        }
+        return index < size ? combine(keys[index], containers[index].next(0)) : -1;
+    }
+
+    /**
+     * Largest value that is at most from, or -1 if there is none
+     */
+    public synchronized long previousValue(long from) {
+        if (from < 0) {
+            return -1;
+        }
+        long key = from >>> CHUNK_BITS;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            int low = containers[index].previous((int) (from & CHUNK_MASK));
+            if (low >= 0) {
+                return combine(key, low);
+            }
+            index--;
+        } else {
+            index = -index - 2;
+        }
+        return index >= 0 ? combine(keys[index], containers[index].previous(CHUNK_MASK)) : -1;
+    }
+
+    /**
+     * Smallest value that is at least from and not in the set
+     */
+    public synchronized long nextAbsent(long from) {
+        long value = Math.max(from, 0);
+        while (true) {
+            long key = value >>> CHUNK_BITS;
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            if (index < 0) {
+                return value;
+            }
+            int low = containers[index].nextAbsent((int) (value & CHUNK_MASK));
+            if (low >= 0) {
+                return combine(key, low);
+            }
+            value = (key + 1) << CHUNK_BITS; // The rest of this chunk is full
+        }
+    }
+
+    /**
+     * Largest value that is at most from and not in the set, or -1 if there is none
+     */
+    public synchronized long previousAbsent(long from) {
+        long value = from;
+        while (value >= 0) {
+            long key = value >>> CHUNK_BITS;
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            if (index < 0) {
+                return value;
+            }
+            int low = containers[index].previousAbsent((int) (value & CHUNK_MASK));
+            if (low >= 0) {
+                return combine(key, low);
+            }
+            value = (key << CHUNK_BITS) - 1; // The start of this chunk is full
+        }
+        return -1;
+    }
+
+    /**
+     * Approximate heap size of the containers in bytes
+     */
+    public synchronized long memoryBytes() {
+        long bytes = size * 16L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].memoryBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Independent copy of the current values
+     */
+    public synchronized CounterBitmap copy() {
+        CounterBitmap copy = new CounterBitmap();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 4));
+        copy.containers = new Container[copy.keys.length];
+        for (int i = 0; i < size; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.size = size;
+        copy.cardinality = cardinality;
+        return copy;
+    }
+
+    private long countUpTo(long value) {
+        if (value < 0) {
+            return 0;
+        }
+        long key = value >>> CHUNK_BITS;
+        long count = 0;
+        for (int i = 0; i < size && keys[i] <= key; i++) {
+            count += keys[i] < key ? containers[i].cardinality() : containers[i].rank((int) (value & CHUNK_MASK));
+        }
+        return count;
+    }
+
+    private static long combine(long key, int low) {
+        return (key << CHUNK_BITS) | low;
+    }
+
+    /**
+     * The values of one chunk as 16-bit numbers
+     */
+    private abstract static class Container {
+        /**
+         * Add a value, returning the container that now holds the chunk
+         */
+        abstract Container add(int value);
+
+        abstract boolean contains(int value);
+
+        abstract int cardinality();
+
+        /**
+         * Number of values that are at most value
+         */
+        abstract int rank(int value);
+
+        /**
+         * Smallest value at least from, or -1
+         */
+        abstract int next(int from);
+
+        /**
+         * Largest value at most from, or -1
+         */
+        abstract int previous(int from);
+
+        /**
+         * Smallest absent value at least from, or -1 if the rest of the chunk is full
+         */
+        abstract int nextAbsent(int from);
+
+        /**
+         * Largest absent value at most from, or -1 if the start of the chunk is full
+         */
+        abstract int previousAbsent(int from);
+
+        abstract long memoryBytes();
+
+        abstract Container copy();
+    }
+
+    /**
+     * Sorted values, used while the chunk holds at most 4096 of them
+     */
+    private static final class ArrayContainer extends Container {
+        private static final int MAX_SIZE = 4096;
+
+        private char[] values = new char[4];
+        private int size = 0;
+
+        @Override
+        Container add(int value) {
+            int index = Arrays.binarySearch(values, 0, size, (char) value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == MAX_SIZE) {
+                BitmapContainer bitmap = new BitmapContainer();
+                for (int i = 0; i < size; i++) {
+                    bitmap.add(values[i]);
+                }
+                return bitmap.add(value);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size * 2, MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = (char) value;
+            size++;
+            return this;
+        }
+
+        @Override
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, (char) value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        int rank(int value) {
+            int index = Arrays.binarySearch(values, 0, size, (char) value);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        /**
+         * Index of the first value that is at least value
+         */
+        private int lowerBound(int value) {
+            int index = Arrays.binarySearch(values, 0, size, (char) value);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        @Override
+        int next(int from) {
+            int index = lowerBound(from);
+            return index < size ? values[index] : -1;
+        }
+
+        @Override
+        int previous(int from) {
+            int index = rank(from) - 1;
+            return index >= 0 ? values[index] : -1;
+        }
+
+        @Override
+        int nextAbsent(int from) {
+            int value = from;
+            int index = lowerBound(from);
+            while (index < size && values[index] == value) {
+                index++;
+                value++;
+            }
+            return value <= CHUNK_MASK ? value : -1;
+        }
+
+        @Override
+        int previousAbsent(int from) {
+            int value = from;
+            int index = rank(from) - 1;
+            while (index >= 0 && values[index] == value) {
+                index--;
+                value--;
+            }
+            return value;
+        }
+
+        @Override
+        long memoryBytes() {
+            return 16L + values.length * 2L;
+        }
+
+        @Override
+        Container copy() {
+            ArrayContainer copy = new ArrayContainer();
+            copy.values = Arrays.copyOf(values, Math.max(size, 4));
+            copy.size = size;
+            return copy;
+        }
+    }
+
+    /**
+     * One bit per value of the chunk, used once it holds more than 4096 values
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words = new long[(CHUNK_MASK + 1) / 64];
+        private int cardinality = 0;
+
+        @Override
+        Container add(int value) {
+            long bit = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & bit) == 0) {
+                words[word] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(int value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int rank(int value) {
+            int word = value >>> 6;
+            int count = 0;
+            for (int i = 0; i < word; i++) {
+                count += Long.bitCount(words[i]);
+            }
+            // Shift by 63 - bit so that bits 0..bit remain
+            return count + Long.bitCount(words[word] << (63 - (value & 63)));
+        }
+
+        @Override
+        int next(int from) {
+            int word = from >>> 6;
+            long bits = words[word] & (-1L << from);
+            while (bits == 0) {
+                if (++word == words.length) {
+                    return -1;
+                }
+                bits = words[word];
+            }
+            return word * 64 + Long.numberOfTrailingZeros(bits);
+        }
+
+        @Override
+        int previous(int from) {
+            int word = from >>> 6;
+            long bits = words[word] & (-1L >>> (63 - (from & 63)));
+            while (bits == 0) {
+                if (--word < 0) {
+                    return -1;
+                }
+                bits = words[word];
+            }
+            return word * 64 + 63 - Long.numberOfLeadingZeros(bits);
+        }
+
+        @Override
+        int nextAbsent(int from) {
+            int word = from >>> 6;
+            long bits = ~words[word] & (-1L << from);
+            while (bits == 0) {
+                if (++word == words.length) {
+                    return -1;
+                }
+                bits = ~words[word];
+            }
+            return word * 64 + Long.numberOfTrailingZeros(bits);
+        }
+
+        @Override
+        int previousAbsent(int from) {
+            int word = from >>> 6;
+            long bits = ~words[word] & (-1L >>> (63 - (from & 63)));
+            while (bits == 0) {
+                if (--word < 0) {
+                    return -1;
+                }
+                bits = ~words[word];
+            }
+            return word * 64 + 63 - Long.numberOfLeadingZeros(bits);
+        }
+
+        @Override
+        long memoryBytes() {
+            return 16L + words.length * 8L;
+        }
+
+        @Override
+        Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, words.length);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.persistence.PersistedObject;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Extraction results keyed by the SHA-256 of the analyzed content, so a bundle
+ * served under many URLs is only analyzed once. Results are kept in memory and
+ * in the project file, and survive reloading the extension.
+ *
+ * Both tiers are bounded: the least recently used entries are dropped from
+ * memory beyond MAX_MEMORY_ENTRIES, and the oldest persisted entries are
+ * deleted from the project file beyond MAX_PERSISTED_ENTRIES.
+ */
+public class ExtractionCache {
+    private static final String PERSISTENCE_KEY = "jsExtractionCache";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int MAX_MEMORY_ENTRIES = 256;
+    private static final int MAX_PERSISTED_ENTRIES = 2048;
+
+    private final MontoyaApi api;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Access-ordered, guarded by itself
+    private final Map<String, List<String>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > MAX_MEMORY_ENTRIES;
+        }
+    };
+    private final Object persistenceLock = new Object();
+
+    public ExtractionCache(MontoyaApi api) {
+        this.api = api;
+    }
+
+    /**
+     * Hex SHA-256 of the content
+     */
+    public static String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0x0F];
+                hex[i * 2 + 1] = HEX[digest[i] & 0x0F];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Cached records of an extractor for the content hash, or null if the content was not analyzed yet
+     */
+    public List<String> get(String extractor, String contentHash) {
+        String key = extractor + ":" + contentHash;
+        List<String> records;
+        synchronized (entries) {
+            records = entries.get(key);
+        }
+        if (records != null) {
+            return records;
+        }
+
+        try {
+            String json;
+            synchronized (persistenceLock) {
+                PersistedObject store = persistedStore(false);
+                json = store != null ? store.getString(key) : null;
+                if (json != null) {
+                    store.setLong(key, System.currentTimeMillis());
+                }
+            }
+            if (json == null) {
+                return null;
+            }
+            records = List.of(objectMapper.readValue(json, String[].class));
+            synchronized (entries) {
+                entries.put(key, records);
+            }
+            return records;
+        } catch (Exception e) {
+            api.logging().logToError("Failed to read cached extraction results: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Remember the records an extractor produced for the content hash
+     */
+    public void put(String extractor, String contentHash, List<String> records) {
+        String key = extractor + ":" + contentHash;
+        List<String> copy = List.copyOf(records);
+        synchronized (entries) {
+            entries.put(key, copy);
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(copy);
+            synchronized (persistenceLock) {
+                PersistedObject store = persistedStore(true);
+                store.setString(key, json);
+                store.setLong(key, System.currentTimeMillis());
+                evictPersisted(store);
+            }
+        } catch (Exception e) {
+            api.logging().logToError("Failed to save cached extraction results: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Forget every cached result, in memory and in the project file
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        synchronized (persistenceLock) {
+            api.persistence().extensionData().deleteChildObject(PERSISTENCE_KEY);
+        }
+    }
+
+    /**
+     * Delete the least recently used persisted entries once there are too many.
+     * Trims to three quarters of the cap so the scan does not run on every put.
+     */
+    private void evictPersisted(PersistedObject store) {
+        Set<String> keys = store.stringKeys();
+        if (keys.size() <= MAX_PERSISTED_ENTRIES) {
+            return;
+        }
+
+        // Entries saved without a timestamp sort first
+        List<String> oldestFirst = new ArrayList<>(keys);
+        Map<String, Long> lastUsed = new HashMap<>();
+        for (String key : oldestFirst) {
+            Long stamp = store.getLong(key);
+            lastUsed.put(key, stamp != null ? stamp : 0L);
+        }
+        oldestFirst.sort((a, b) -> Long.compare(lastUsed.get(a), lastUsed.get(b)));
+
+        int excess = oldestFirst.size() - MAX_PERSISTED_ENTRIES * 3 / 4;
+        for (int i = 0; i < excess; i++) {
+            store.deleteString(oldestFirst.get(i));
+            store.deleteLong(oldestFirst.get(i));
+        }
+    }
+
+    private PersistedObject persistedStore(boolean create) {
+        PersistedObject extensionData = api.persistence().extensionData();
+        PersistedObject store = extensionData.getChildObject(PERSISTENCE_KEY);
+        if (store == null && create) {
+            extensionData.setChildObject(PERSISTENCE_KEY, PersistedObject.persistedObject());
+            store = extensionData.getChildObject(PERSISTENCE_KEY);
+        }
+        return store;
+    }
+}
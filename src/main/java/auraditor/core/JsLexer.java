@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.util.Arrays;
+
+/**
+ * Minimal JavaScript lexer that reports braces and string literals while
+ * skipping comments, regex literals and the insides of strings and template
+ * literals. It is pull based and allocates nothing per token: next() returns
+ * the next event and the accessors describe it.
+ *
+ * In embedded mode the source is read as the content of a JSON string (as in
+ * the component code of Aura responses): escape sequences are decoded on the
+ * fly and an unescaped double quote ends the source. Offsets are always raw
+ * offsets into the text.
+ */
+public class JsLexer {
+    public static final int END = 0;
+    public static final int OPEN_BRACE = 1;
+    public static final int CLOSE_BRACE = 2;
+    public static final int STRING = 3;
+
+    private static final int EOF = -1;
+
+    // Keywords after which a slash starts a regex literal rather than a division
+    private static final String[] REGEX_KEYWORDS = {
+        "return", "typeof", "instanceof", "in", "of", "new", "delete", "void",
+        "throw", "case", "do", "else", "yield", "await"
+    };
+
+    // Keywords whose parenthesized condition may be followed by a regex literal
+    private static final String[] CONDITION_KEYWORDS = {"if", "while", "for", "with"};
+
+    private final CharSequence text;
+    private final boolean embedded;
+    private int pos;
+    private boolean closed = false;
+    private int depth = 0;
+    private int tokenStart = -1;
+    private int tokenEnd = -1;
+    private boolean regexAllowed = true;
+    private boolean afterConditionKeyword = false;
+
+    // Per open parenthesis: whether it holds the condition of if/while/for/with
+    private boolean[] conditionParens = new boolean[16];
+    private int parenCount = 0;
+
+    // Brace depth at each open ${ of the enclosing template literals
+    private int[] templateDepths = new int[4];
+    private int templateCount = 0;
+
+    public JsLexer(CharSequence text, int start, boolean embedded) {
+        this.text = text;
+        this.pos = start;
+        this.embedded = embedded;
+    }
+
+    /**
+     * Find the closing brace that matches the brace at openPos, or -1 if it is never closed
+     */
+    public static int matchingBrace(CharSequence text, int openPos, boolean embedded) {
+        JsLexer lexer = new JsLexer(text, openPos, embedded);
+        int event;
+        while ((event = lexer.next()) != END) {
+            if (event == CLOSE_BRACE && lexer.depth() == 0) {
+                return lexer.tokenStart();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Advance to the next brace or string literal; template literals are reported
+     * once per chunk between substitutions
+     */
+    public int next() {
+        while (true) {
+            int start = pos;
+            int c = read();
+            boolean conditionParen = afterConditionKeyword;
+            if (!isWhitespace(c) && !(c == '/' && (peek() == '/' || peek() == '*'))) {
+                afterConditionKeyword = false;
+            }
+            switch (c) {
+                case EOF:
+                    return END;
+                case '{':
+                    depth++;
+                    regexAllowed = true;
+                    return token(OPEN_BRACE, start);
+                case '}':
+                    if (templateCount > 0 && depth == templateDepths[templateCount - 1]) {
+                        templateCount--;
+                        return template(start);
+                    }
+                    depth--;
+                    regexAllowed = true;
+                    return token(CLOSE_BRACE, start);
+                case '"':
+                case '\'':
+                    return string(start, c);
+                case '`':
+                    return template(start);
+                case '/':
+                    if (peek() == '/') {
+                        skipLineComment();
+                    } else if (peek() == '*') {
+                        read();
+                        skipBlockComment();
+                    } else {
+                        if (regexAllowed) {
+                            skipRegex();
+                            regexAllowed = false;
+                        } else {
+                            regexAllowed = true;
+                        }
+                    }
+                    break;
+                case '(':
+                    if (parenCount == conditionParens.length) {
+                        conditionParens = Arrays.copyOf(conditionParens, parenCount * 2);
+                    }
+                    conditionParens[parenCount++] = conditionParen;
+                    regexAllowed = true;
+                    break;
+                case ')':
+                    // After "if (...)" a statement follows, so a slash starts a regex; after any other ")" it divides
+                    regexAllowed = parenCount > 0 && conditionParens[--parenCount];
+                    break;
+                case ']':
+                    regexAllowed = false;
+                    break;
+                case '+':
+                case '-':
+                    if (peek() == c) {
+                        read();
+                        // Postfix ++/-- ends an operand (a slash after it divides); prefix leaves regexAllowed as is
+                        break;
+                    }
+                    regexAllowed = true;
+                    break;
+                default:
+                    if (isIdentifierPart(c)) {
+                        identifier(start);
+                    } else if (!isWhitespace(c)) {
+                        regexAllowed = true;
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Brace depth after the current event (1 for the first opening brace)
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Raw offset of the first character of the current event
+     */
+    public int tokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * Raw offset just past the current event
+     */
+    public int tokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Decoded value of the current single or double quoted string literal
+     */
+    public String stringValue() {
+        int resume = pos;
+        pos = tokenStart;
+        int quote = read();
+        StringBuilder value = new StringBuilder();
+        while (pos < tokenEnd) {
+            int c = read();
+            if (c == EOF || c == quote) {
+                break;
+            }
+            if (c == '\\') {
+                c = unescape(read());
+                if (c == EOF) {
+                    break;
+                }
+            }
+            value.append((char) c);
+        }
+        pos = resume;
+        return value.toString();
+    }
+
+    private int token(int event, int start) {
+        tokenStart = start;
+        tokenEnd = pos;
+        return event;
+    }
+
+    private int string(int start, int quote) {
+        while (true) {
+            int c = read();
+            if (c == EOF || c == quote || c == '\n') {
+                break; // An unterminated string ends at the line break
+            }
+            if (c == '\\') {
+                read();
+            }
+        }
+        regexAllowed = false;
+        return token(STRING, start);
+    }
+
+    private int template(int start) {
+        while (true) {
+            int c = read();
+            if (c == EOF || c == '`') {
+                regexAllowed = false;
+                break;
+            }
+            if (c == '\\') {
+                read();
+            } else if (c == '$' && peek() == '{') {
+                read();
+                if (templateCount == templateDepths.length) {
+                    templateDepths = Arrays.copyOf(templateDepths, templateCount * 2);
+                }
+                templateDepths[templateCount++] = depth;
+                regexAllowed = true;
+                break;
+            }
+        }
+        return token(STRING, start);
+    }
+
+    private void skipLineComment() {
+        int c;
+        do {
+            c = read();
+        } while (c != EOF && c != '\n' && c != '\r');
+    }
+
+    private void skipBlockComment() {
+        int previous = 0;
+        int c;
+        while ((c = read()) != EOF) {
+            if (previous == '*' && c == '/') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+    private void skipRegex() {
+        boolean inClass = false;
+        while (true) {
+            int c = read();
+            if (c == EOF || c == '\n') {
+                return;
+            }
+            if (c == '\\') {
+                read();
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                return;
+            }
+        }
+    }
+
+    private void identifier(int start) {
+        while (isIdentifierPart(peek())) {
+            read();
+        }
+        regexAllowed = isKeyword(REGEX_KEYWORDS, start, pos);
+        afterConditionKeyword = isKeyword(CONDITION_KEYWORDS, start, pos);
+    }
+
+    private boolean isKeyword(String[] keywords, int start, int end) {
+        for (String keyword : keywords) {
+            if (keyword.length() == end - start) {
+                int i = 0;
+                while (i < keyword.length() && text.charAt(start + i) == keyword.charAt(i)) {
+                    i++;
+                }
+                if (i == keyword.length()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int peek() {
+        int saved = pos;
+        boolean savedClosed = closed;
+        int c = read();
+        pos = saved;
+        closed = savedClosed;
+        return c;
+    }
+
+    /**
+     * Next source character; in embedded mode one JSON escape sequence is decoded
+     */
+    private int read() {
+        if (closed || pos >= text.length()) {
+            return EOF;
+        }
+        char c = text.charAt(pos++);
+        if (!embedded) {
+            return c;
+        }
+        if (c == '"') {
+            closed = true; // End of the enclosing JSON string
+            return EOF;
+        }
+        if (c != '\\') {
+            return c;
+        }
+        if (pos >= text.length()) {
+            return EOF;
+        }
+        char escaped = text.charAt(pos++);
+        if (escaped == 'u' && pos + 4 <= text.length()) {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(text.charAt(pos + i), 16);
+                if (digit < 0) {
+                    return escaped;
+                }
+                value = value * 16 + digit;
+            }
+            pos += 4;
+            return value;
+        }
+        return unescape(escaped);
+    }
+
+    private static int unescape(int escaped) {
+        switch (escaped) {
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            default:
+                return escaped;
+        }
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '_' || c == '$' || c >= 0x80;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == 0x0B;
+    }
+}
@@ -0,0 +1,836 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Regex matcher that runs in time linear in the input (Thompson NFA simulated
+ * as a Pike VM, like RE2). It covers the common subset of java.util.regex:
+ * literals, ".", classes, \d\w\s and their negations, anchors, \b, groups,
+ * alternation and greedy/lazy quantifiers, with the CASE_INSENSITIVE,
+ * MULTILINE and DOTALL flags. compile() returns null for anything else
+ * (back-references, lookaround, possessive quantifiers, other flags,
+ * surrogates in the pattern), so the caller can fall back to java.util.regex.
+ *
+ * Matches are the ones java.util.regex finds: case folding is US-ASCII only,
+ * \b uses ASCII word characters, and the input is read by code point.
+ */
+public final class LinearRegex {
+    private static final int MAX_PROGRAM_SIZE = 20000;
+    private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL;
+
+    private static final int CHAR = 0;
+    private static final int MATCH = 1;
+    private static final int JMP = 2;
+    private static final int SPLIT = 3;
+    private static final int BOL = 4;
+    private static final int EOL = 5;
+    private static final int WORD_BOUNDARY = 6;
+    private static final int NOT_WORD_BOUNDARY = 7;
+    private static final int INPUT_START = 8;
+    private static final int INPUT_END = 9;
+
+    /**
+     * Predicate for a single code point
+     */
+    private interface CharTest {
+        boolean test(int c);
+    }
+
+    private static final class Inst {
+        final int op;
+        int x;
+        int y;
+        final CharTest test;
+
+        Inst(int op, CharTest test) {
+            this.op = op;
+            this.test = test;
+        }
+    }
+
+    private final Inst[] program;
+    private final boolean multiline;
+    // java.util.regex does not start attempts inside a surrogate pair once the pattern has a non-BMP char test
+    private final boolean codePointStarts;
+
+    private LinearRegex(Inst[] program, boolean multiline, boolean codePointStarts) {
+        this.program = program;
+        this.multiline = multiline;
+        this.codePointStarts = codePointStarts;
+    }
+
+    /**
+     * Compile a pattern, or return null if it uses features this engine does not support
+     */
+    public static LinearRegex compile(String regex, int flags) {
+        if ((flags & ~SUPPORTED_FLAGS) != 0) {
+            return null;
+        }
+        for (int i = 0; i < regex.length(); i++) {
+            if (Character.isSurrogate(regex.charAt(i))) {
+                // java.util.regex switches to code point slicing for these
+                return null;
+            }
+        }
+        try {
+            Parser parser = new Parser(regex, flags);
+            Node root = parser.parseAlternation();
+            if (parser.pos != regex.length()) {
+                return null;
+            }
+            List<Inst> code = new ArrayList<>();
+            root.emit(code);
+            code.add(new Inst(MATCH, null));
+            if (code.size() > MAX_PROGRAM_SIZE) {
+                return null;
+            }
+            return new LinearRegex(code.toArray(new Inst[0]), (flags & Pattern.MULTILINE) != 0, parser.nonBmpTests);
+        } catch (UnsupportedOperationException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * True if the pattern matches anywhere in the text
+     */
+    public boolean find(CharSequence text) {
+        return search(text, 0, true) != null;
+    }
+
+    /**
+     * Leftmost match at or after from, as {start, end}, or null if there is none.
+     * Among matches starting at the same place, the one java.util.regex would pick is returned.
+     */
+    public int[] find(CharSequence text, int from) {
+        return search(text, from, false);
+    }
+
+    private int[] search(CharSequence text, int from, boolean anyMatch) {
+        int n = program.length;
+        // Threads waiting at positions i, i + 1 and i + 2 (a surrogate pair moves its threads two chars on)
+        ThreadList[] lists = { new ThreadList(n), new ThreadList(n), new ThreadList(n) };
+        int[] stack = new int[n * 2 + 2];
+        int[] matched = null;
+        int length = text.length();
+
+        for (int i = from; i <= length; i++) {
+            ThreadList current = lists[i % 3];
+            if (matched == null && !(codePointStarts && i > from && i < length
+                    && Character.isLowSurrogate(text.charAt(i)) && Character.isHighSurrogate(text.charAt(i - 1)))) {
+                // Start a new attempt here, with lower priority than attempts that started earlier
+                addThread(current, 0, i, text, i, stack);
+            }
+            if (current.size == 0) {
+                if (matched != null && lists[(i + 1) % 3].size == 0) {
+                    break;
+                }
+                current.clear();
+                continue;
+            }
+
+            int c = i < length ? Character.codePointAt(text, i) : -1;
+            int end = i + (c >= 0 ? Character.charCount(c) : 1);
+            ThreadList next = lists[end % 3];
+            for (int t = 0; t < current.size; t++) {
+                int pc = current.pcs[t];
+                Inst inst = program[pc];
+                if (inst.op == MATCH) {
+                    matched = new int[] { current.starts[t], i };
+                    if (anyMatch) {
+                        return matched;
+                    }
+                    // Lower-priority threads cannot win any more
+                    break;
+                }
+                if (inst.op == CHAR && c >= 0 && inst.test.test(c)) {
+                    addThread(next, pc + 1, current.starts[t], text, end, stack);
+                }
+            }
+            current.clear();
+        }
+        return matched;
+    }
+
+    /**
+     * Add the thread at pc and everything reachable through jumps, splits and
+     * assertions at this position, in priority order
+     */
+    private void addThread(ThreadList list, int pc, int start, CharSequence text, int pos, int[] stack) {
+        int top = 0;
+        stack[top++] = pc;
+        while (top > 0) {
+            int current = stack[--top];
+            if (list.contains(current)) {
+                continue;
+            }
+            list.mark(current);
+            Inst inst = program[current];
+            switch (inst.op) {
+                case JMP:
+                    stack[top++] = inst.x;
+                    break;
+                case SPLIT:
+                    // Push the lower-priority branch first so the preferred one is explored first
+                    stack[top++] = inst.y;
+                    stack[top++] = inst.x;
+                    break;
+                case BOL:
+                    if (atLineStart(text, pos)) {
+                        stack[top++] = current + 1;
+                    }
+                    break;
+                case EOL:
+                    if (atLineEnd(text, pos)) {
+                        stack[top++] = current + 1;
+                    }
+                    break;
+                case INPUT_START:
+                    if (pos == 0) {
+                        stack[top++] = current + 1;
+                    }
+                    break;
+                case INPUT_END:
+                    if (pos == text.length()) {
+                        stack[top++] = current + 1;
+                    }
+                    break;
+                case WORD_BOUNDARY:
+                case NOT_WORD_BOUNDARY:
+                    boolean before = pos > 0 && isWordAt(text, pos - 1, Character.codePointBefore(text, pos));
+                    boolean after = pos < text.length() && isWordAt(text, pos, Character.codePointAt(text, pos));
+                    if ((before != after) == (inst.op == WORD_BOUNDARY)) {
+                        stack[top++] = current + 1;
+                    }
+                    break;
+                default:
+                    list.add(current, start);
+                    break;
+            }
+        }
+    }
+
+    private boolean atLineStart(CharSequence text, int pos) {
+        if (!multiline) {
+            return pos == 0;
+        }
+        // Like java.util.regex: never at the end of the input, nor between \r and \n
+        if (pos == text.length()) {
+            return false;
+        }
+        if (pos == 0) {
+            return true;
+        }
+        char before = text.charAt(pos - 1);
+        return isLineTerminator(before) && !(before == '\r' && text.charAt(pos) == '\n');
+    }
+
+    private boolean atLineEnd(CharSequence text, int pos) {
+        int length = text.length();
+        // Without MULTILINE, $ only matches at the end or before a final line terminator (\r\n counts as one)
+        if (!multiline && (pos < length - 2
+                || (pos == length - 2 && (text.charAt(pos) != '\r' || text.charAt(pos + 1) != '\n')))) {
+            return false;
+        }
+        if (pos == length) {
+            return true;
+        }
+        char c = text.charAt(pos);
+        if (c == '\n' && pos > 0 && text.charAt(pos - 1) == '\r') {
+            return false;
+        }
+        return isLineTerminator(c);
+    }
+
+    private static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isWordChar(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Word test for \b at index, as java.util.regex does it: a non-spacing mark
+     * counts as a word character when it follows a letter or digit
+     */
+    private static boolean isWordAt(CharSequence text, int index, int codePoint) {
+        if (isWordChar(codePoint)) {
+            return true;
+        }
+        if (Character.getType(codePoint) != Character.NON_SPACING_MARK) {
+            return false;
+        }
+        for (int x = index; x >= 0; x--) {
+            int c = Character.codePointAt(text, x);
+            if (Character.isLetterOrDigit(c)) {
+                return true;
+            }
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ordered set of threads for one input position
+     */
+    private static final class ThreadList {
+        final int[] pcs;
+        final int[] starts;
+        final int[] seen;
+        int generation = 1;
+        int size = 0;
+
+        ThreadList(int programSize) {
+            pcs = new int[programSize];
+            starts = new int[programSize];
+            seen = new int[programSize];
+        }
+
+        boolean contains(int pc) {
+            return seen[pc] == generation;
+        }
+
+        void mark(int pc) {
+            seen[pc] = generation;
+        }
+
+        void add(int pc, int start) {
+            pcs[size] = pc;
+            starts[size] = start;
+            size++;
+        }
+
+        void clear() {
+            size = 0;
+            generation++;
+        }
+    }
+
+    // ---- Syntax tree ----
+
+    private abstract static class Node {
+        abstract void emit(List<Inst> code);
+
+        abstract Node copy();
+
+        /**
+         * True if the node can match the empty string
+         */
+        abstract boolean nullable();
+
+        static int emitInst(List<Inst> code, Inst inst) {
+            code.add(inst);
+            if (code.size() > MAX_PROGRAM_SIZE) {
+                throw new UnsupportedOperationException("Pattern too large");
+            }
+            return code.size() - 1;
+        }
+    }
+
+    private static final class CharNode extends Node {
+        final CharTest test;
+
+        CharNode(CharTest test) {
+            this.test = test;
+        }
+
+        void emit(List<Inst> code) {
+            emitInst(code, new Inst(CHAR, test));
+        }
+
+        Node copy() {
+            return this;
+        }
+
+        boolean nullable() {
+            return false;
+        }
+    }
+
+    private static final class AssertNode extends Node {
+        final int op;
+
+        AssertNode(int op) {
+            this.op = op;
+        }
+
+        void emit(List<Inst> code) {
+            emitInst(code, new Inst(op, null));
+        }
+
+        Node copy() {
+            return this;
+        }
+
+        boolean nullable() {
+            return true;
+        }
+    }
+
+    private static final class ConcatNode extends Node {
+        final List<Node> parts;
+
+        ConcatNode(List<Node> parts) {
+            this.parts = parts;
+        }
+
+        void emit(List<Inst> code) {
+            for (Node part : parts) {
+                part.emit(code);
+            }
+        }
+
+        Node copy() {
+            List<Node> copies = new ArrayList<>();
+            for (Node part : parts) {
+                copies.add(part.copy());
+            }
+            return new ConcatNode(copies);
+        }
+
+        boolean nullable() {
+            for (Node part : parts) {
+                if (!part.nullable()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class AltNode extends Node {
+        final List<Node> options;
+
+        AltNode(List<Node> options) {
+            this.options = options;
+        }
+
+        void emit(List<Inst> code) {
+            List<Integer> jumps = new ArrayList<>();
+            for (int i = 0; i < options.size(); i++) {
+                if (i < options.size() - 1) {
+                    Inst split = new Inst(SPLIT, null);
+                    emitInst(code, split);
+                    split.x = code.size();
+                    options.get(i).emit(code);
+                    Inst jump = new Inst(JMP, null);
+                    jumps.add(emitInst(code, jump));
+                    split.y = code.size();
+                } else {
+                    options.get(i).emit(code);
+                }
+            }
+            for (int jump : jumps) {
+                code.get(jump).x = code.size();
+            }
+        }
+
+        Node copy() {
+            List<Node> copies = new ArrayList<>();
+            for (Node option : options) {
+                copies.add(option.copy());
+            }
+            return new AltNode(copies);
+        }
+
+        boolean nullable() {
+            for (Node option : options) {
+                if (option.nullable()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class RepeatNode extends Node {
+        final Node body;
+        final int min;
+        final int max; // -1 for unbounded
+        final boolean greedy;
+
+        RepeatNode(Node body, int min, int max, boolean greedy) {
+            this.body = body;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+        }
+
+        void emit(List<Inst> code) {
+            for (int i = 0; i < min; i++) {
+                body.copy().emit(code);
+            }
+            if (max < 0) {
+                // L: split body, out; body; jmp L
+                int loop = code.size();
+                Inst split = new Inst(SPLIT, null);
+                emitInst(code, split);
+                int bodyStart = code.size();
+                body.copy().emit(code);
+                Inst jump = new Inst(JMP, null);
+                emitInst(code, jump);
+                jump.x = loop;
+                setBranches(split, bodyStart, code.size());
+            } else {
+                // Each optional copy: split body, out
+                List<Inst> splits = new ArrayList<>();
+                for (int i = min; i < max; i++) {
+                    Inst split = new Inst(SPLIT, null);
+                    emitInst(code, split);
+                    split.x = code.size();
+                    splits.add(split);
+                    body.copy().emit(code);
+                }
+                for (Inst split : splits) {
+                    setBranches(split, split.x, code.size());
+                }
+            }
+        }
+
+        private void setBranches(Inst split, int bodyStart, int out) {
+            split.x = greedy ? bodyStart : out;
+            split.y = greedy ? out : bodyStart;
+        }
+
+        Node copy() {
+            return new RepeatNode(body.copy(), min, max, greedy);
+        }
+
+        boolean nullable() {
+            return min == 0 || body.nullable();
+        }
+    }
+
+    // ---- Parser ----
+
+    private static final class Parser {
+        final String regex;
+        final boolean caseInsensitive;
+        final boolean dotAll;
+        int pos = 0;
+        int depth = 0;
+        // Set by char tests that java.util.regex treats as non-BMP (negations and case-insensitive ranges)
+        boolean nonBmpTests = false;
+
+        Parser(String regex, int flags) {
+            this.regex = regex;
+            this.caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+            this.dotAll = (flags & Pattern.DOTALL) != 0;
+        }
+
+        Node parseAlternation() {
+            List<Node> options = new ArrayList<>();
+            options.add(parseConcat());
+            while (pos < regex.length() && regex.charAt(pos) == '|') {
+                pos++;
+                options.add(parseConcat());
+            }
+            return options.size() == 1 ? options.get(0) : new AltNode(options);
+        }
+
+        Node parseConcat() {
+            List<Node> parts = new ArrayList<>();
+            while (pos < regex.length()) {
+                char c = regex.charAt(pos);
+                if (c == '|' || (c == ')' && depth > 0)) {
+                    break;
+                }
+                if (regex.startsWith("\\Q", pos)) {
+                    // A quantifier after \Q...\E applies to the last quoted char only
+                    pos += 2;
+                    int end = regex.indexOf("\\E", pos);
+                    String quoted = end < 0 ? regex.substring(pos) : regex.substring(pos, end);
+                    pos = end < 0 ? regex.length() : end + 2;
+                    if (quoted.isEmpty()) {
+                        throw new UnsupportedOperationException("Empty quote");
+                    }
+                    for (int i = 0; i < quoted.length() - 1; i++) {
+                        parts.add(literal(quoted.charAt(i)));
+                    }
+                    parts.add(parseQuantifiers(literal(quoted.charAt(quoted.length() - 1))));
+                    continue;
+                }
+                Node atom = parseAtom();
+                if (atom != null) {
+                    parts.add(parseQuantifiers(atom));
+                }
+            }
+            return new ConcatNode(parts);
+        }
+
+        Node parseQuantifiers(Node atom) {
+            while (pos < regex.length()) {
+                char c = regex.charAt(pos);
+                int min;
+                int max;
+                if (c == '*') {
+                    min = 0;
+                    max = -1;
+                    pos++;
+                } else if (c == '+') {
+                    min = 1;
+                    max = -1;
+                    pos++;
+                } else if (c == '?') {
+                    min = 0;
+                    max = 1;
+                    pos++;
+                } else if (c == '{') {
+                    int close = regex.indexOf('}', pos);
+                    if (close < 0) {
+                        throw new UnsupportedOperationException("Bad repetition");
+                    }
+                    String range = regex.substring(pos + 1, close);
+                    int comma = range.indexOf(',');
+                    if (comma < 0) {
+                        min = Integer.parseInt(range.trim());
+                        max = min;
+                    } else {
+                        min = Integer.parseInt(range.substring(0, comma).trim());
+                        String upper = range.substring(comma + 1).trim();
+                        max = upper.isEmpty() ? -1 : Integer.parseInt(upper);
+                    }
+                    if (min > 1000 || max > 1000) {
+                        throw new UnsupportedOperationException("Repetition too large");
+                    }
+                    pos = close + 1;
+                } else {
+                    return atom;
+                }
+
+                boolean greedy = true;
+                if (pos < regex.length() && regex.charAt(pos) == '?') {
+                    greedy = false;
+                    pos++;
+                } else if (pos < regex.length() && regex.charAt(pos) == '+') {
+                    throw new UnsupportedOperationException("Possessive quantifier");
+                }
+                if ((max < 0 || max > 1) && atom.nullable()) {
+                    // java.util.regex ends a loop after an empty iteration, which a Pike VM cannot mirror
+                    throw new UnsupportedOperationException("Repeated empty match");
+                }
+                atom = new RepeatNode(atom, min, max, greedy);
+            }
+            return atom;
+        }
+
+        Node parseAtom() {
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case '(':
+                    if (regex.startsWith("?:", pos)) {
+                        pos += 2;
+                    } else if (regex.startsWith("?<", pos) && pos + 2 < regex.length()
+                            && regex.charAt(pos + 2) != '=' && regex.charAt(pos + 2) != '!') {
+                        // Named group - the name is irrelevant without back-references
+                        int close = regex.indexOf('>', pos);
+                        if (close < 0) {
+                            throw new UnsupportedOperationException("Bad group name");
+                        }
+                        pos = close + 1;
+                    } else if (pos < regex.length() && regex.charAt(pos) == '?') {
+                        throw new UnsupportedOperationException("Lookaround or inline flags");
+                    }
+                    depth++;
+                    Node inner = parseAlternation();
+                    depth--;
+                    if (pos >= regex.length() || regex.charAt(pos) != ')') {
+                        throw new UnsupportedOperationException("Unclosed group");
+                    }
+                    pos++;
+                    return inner;
+                case '[':
+                    return new CharNode(parseClass());
+                case '.':
+                    return new CharNode(dotAll ? ch -> true : ch -> !isLineTerminator(ch));
+                case '^':
+                    return new AssertNode(BOL);
+                case '$':
+                    return new AssertNode(EOL);
+                case '\\':
+                    return parseEscape();
+                default:
+                    return literal(c);
+            }
+        }
+
+        Node parseEscape() {
+            char e = regex.charAt(pos++);
+            switch (e) {
+                case 'b':
+                    return new AssertNode(WORD_BOUNDARY);
+                case 'B':
+                    return new AssertNode(NOT_WORD_BOUNDARY);
+                case 'A':
+                    return new AssertNode(INPUT_START);
+                case 'z':
+                    return new AssertNode(INPUT_END);
+                default:
+                    CharTest predefined = predefinedClass(e);
+                    if (predefined != null) {
+                        nonBmpTests |= Character.isUpperCase(e);
+                        return new CharNode(predefined);
+                    }
+                    return literal(escapedChar(e));
+            }
+        }
+
+        CharTest parseClass() {
+            boolean negated = false;
+            if (pos < regex.length() && regex.charAt(pos) == '^') {
+                negated = true;
+                pos++;
+            }
+
+            List<CharTest> tests = new ArrayList<>();
+            boolean first = true;
+            while (true) {
+                char c = regex.charAt(pos++);
+                if (c == ']' && !first) {
+                    break;
+                }
+                first = false;
+                if (c == '[' || (c == '&' && pos < regex.length() && regex.charAt(pos) == '&')) {
+                    throw new UnsupportedOperationException("Nested class or intersection");
+                }
+
+                char low;
+                if (c == '\\') {
+                    char e = regex.charAt(pos++);
+                    CharTest predefined = predefinedClass(e);
+                    if (predefined != null) {
+                        nonBmpTests |= Character.isUpperCase(e);
+                        tests.add(predefined);
+                        continue;
+                    }
+                    if (e == 'Q' || e == 'b' || e == 'B') {
+                        throw new UnsupportedOperationException("Unsupported escape in class");
+                    }
+                    low = escapedChar(e);
+                } else {
+                    low = c;
+                }
+
+                // Range a-z (a trailing '-' is a literal)
+                if (pos + 1 < regex.length() && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    char high = regex.charAt(pos++);
+                    if (high == '\\') {
+                        high = escapedChar(regex.charAt(pos++));
+                    }
+                    if (high < low) {
+                        throw new IllegalArgumentException("Bad range");
+                    }
+                    final char from = low;
+                    final char to = high;
+                    CharTest range = ch -> ch >= from && ch <= to;
+                    nonBmpTests |= caseInsensitive;
+                    tests.add(caseInsensitive ? ch -> range.test(ch) || range.test(toLowerAscii(ch)) || range.test(toUpperAscii(ch)) : range);
+                } else {
+                    tests.add(single(low));
+                }
+            }
+
+            CharTest[] all = tests.toArray(new CharTest[0]);
+            final boolean invert = negated;
+            nonBmpTests |= negated;
+            return ch -> {
+                boolean hit = false;
+                for (CharTest test : all) {
+                    if (test.test(ch)) {
+                        hit = true;
+                        break;
+                    }
+                }
+                return hit != invert;
+            };
+        }
+
+        Node literal(char c) {
+            return new CharNode(single(c));
+        }
+
+        /**
+         * Test for one char; CASE_INSENSITIVE folds US-ASCII letters only, as java.util.regex does without UNICODE_CASE
+         */
+        CharTest single(char c) {
+            if (caseInsensitive && toLowerAscii(c) != toUpperAscii(c)) {
+                final int lower = toLowerAscii(c);
+                final int upper = toUpperAscii(c);
+                return ch -> ch == lower || ch == upper;
+            }
+            return ch -> ch == c;
+        }
+
+        static int toLowerAscii(int c) {
+            return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+        }
+
+        static int toUpperAscii(int c) {
+            return c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c;
+        }
+
+        static CharTest predefinedClass(char e) {
+            switch (e) {
+                case 'd':
+                    return ch -> ch >= '0' && ch <= '9';
+                case 'D':
+                    return ch -> !(ch >= '0' && ch <= '9');
+                case 'w':
+                    return LinearRegex::isWordChar;
+                case 'W':
+                    return ch -> !isWordChar(ch);
+                case 's':
+                    return ch -> ch == ' ' || ch == '\t' || ch == '\n' || ch == 0x0B || ch == '\f' || ch == '\r';
+                case 'S':
+                    return ch -> !(ch == ' ' || ch == '\t' || ch == '\n' || ch == 0x0B || ch == '\f' || ch == '\r');
+                default:
+                    return null;
+            }
+        }
+
+        char escapedChar(char e) {
+            switch (e) {
+                case 'n':
+                    return '\n';
+                case 't':
+                    return '\t';
+                case 'r':
+                    return '\r';
+                case 'f':
+                    return '\f';
+                case 'e':
+                    return '\u001B';
+                case 'a':
+                    return '\u0007';
+                case 'x':
+                    char hex = (char) Integer.parseInt(regex.substring(pos, pos + 2), 16);
+                    pos += 2;
+                    return hex;
+                case 'u':
+                    char unicode = (char) Integer.parseInt(regex.substring(pos, pos + 4), 16);
+                    pos += 4;
+                    if (Character.isSurrogate(unicode)) {
+                        throw new UnsupportedOperationException("Escaped surrogate");
+                    }
+                    return unicode;
+                default:
+                    if (Character.isLetterOrDigit(e)) {
+                        // Back-references, \p{..}, \G, \Z and other escapes are left to java.util.regex
+                        throw new UnsupportedOperationException("Unsupported escape \\" + e);
+                    }
+                    return e;
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Aho-Corasick scanner for a fixed set of ASCII literals, matched ignoring ASCII
+ * case. Each literal belongs to a group, and one pass over the text yields the
+ * sorted start offsets of every group. The offsets are meant as candidate
+ * positions for regexes that can only match where one of the literals starts.
+ */
+public class LiteralScanner {
+    private static final int ALPHABET = 128;
+
+    private final int groupCount;
+    private final int[][] transitions;
+    private final int[][] outputs;
+    private final int[] literalLengths;
+    private final int[] literalGroups;
+
+    /**
+     * Start offsets of each group's literals in one scanned text
+     */
+    public static class Hits {
+        private final int[][] starts;
+
+        private Hits(int[][] starts) {
+            this.starts = starts;
+        }
+
+        /**
+         * Sorted, distinct start offsets of the group's literals
+         */
+        public int[] starts(int group) {
+            return starts[group];
+        }
+
+        public boolean any(int group) {
+            return starts[group].length > 0;
+        }
+
+        /**
+         * A matcher that only tries the pattern at the group's start offsets
+         */
+        public CandidateMatcher matcher(Pattern pattern, CharSequence text, int group) {
+            return new CandidateMatcher(pattern.matcher(text), starts[group], text.length());
+        }
+    }
+
+    /**
+     * Behaves like Matcher.find() for a pattern whose every match starts at one of the
+     * candidate offsets, without trying the pattern anywhere else
+     */
+    public static class CandidateMatcher {
+        private final Matcher matcher;
+        private final int[] candidates;
+        private final int textLength;
+        private int next = 0;
+        private int from = 0;
+
+        private CandidateMatcher(Matcher matcher, int[] candidates, int textLength) {
+            this.matcher = matcher;
+            this.candidates = candidates;
+            this.textLength = textLength;
+            matcher.useTransparentBounds(true);
+        }
+
+        public boolean find() {
+            while (next < candidates.length) {
+                int start = candidates[next++];
+                if (start < from) {
+                    continue; // Inside the previous match
+                }
+                matcher.region(start, textLength);
+                if (matcher.lookingAt()) {
+                    from = Math.max(matcher.end(), start + 1);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public String group(int group) {
+            return matcher.group(group);
+        }
+
+        public int start() {
+            return matcher.start();
+        }
+
+        public int end() {
+            return matcher.end();
+        }
+    }
+
+    /**
+     * Build a scanner; literals[i] belongs to groups[i], and groups are numbered from 0
+     */
+    public LiteralScanner(String[] literals, int[] groups) {
+        if (literals.length != groups.length) {
+            throw new IllegalArgumentException("Every literal needs a group");
+        }
+
+        int maxGroup = -1;
+        for (int group : groups) {
+            maxGroup = Math.max(maxGroup, group);
+        }
+        this.groupCount = maxGroup + 1;
+        this.literalLengths = new int[literals.length];
+        this.literalGroups = groups.clone();
+
+        // Trie of the folded literals
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        trie.add(newState());
+        stateOutputs.add(new ArrayList<>());
+        for (int id = 0; id < literals.length; id++) {
+            String literal = literals[id];
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("Literals must not be empty");
+            }
+            literalLengths[id] = literal.length();
+            int state = 0;
+            for (int i = 0; i < literal.length(); i++) {
+                int c = fold(literal.charAt(i));
+                if (c < 0) {
+                    throw new IllegalArgumentException("Only ASCII literals are supported: " + literal);
+                }
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newState());
+                    stateOutputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[c];
+            }
+            stateOutputs.get(state).add(id);
+        }
+
+        // Breadth-first failure links, folded into a complete transition table
+        int[] failure = new int[trie.size()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(0);
+        for (int c = 0; c < ALPHABET; c++) {
+            if (root[c] < 0) {
+                root[c] = 0;
+            } else {
+                failure[root[c]] = 0;
+                queue.add(root[c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            stateOutputs.get(state).addAll(stateOutputs.get(failure[state]));
+            int[] row = trie.get(state);
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = row[c];
+                if (child < 0) {
+                    row[c] = trie.get(failure[state])[c];
+                } else {
+                    failure[child] = trie.get(failure[state])[c];
+                    queue.add(child);
+                }
+            }
+        }
+
+        this.transitions = trie.toArray(new int[0][]);
+        this.outputs = new int[trie.size()][];
+        for (int state = 0; state < trie.size(); state++) {
+            outputs[state] = stateOutputs.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Find every literal in one pass over the text
+     */
+    public Hits scan(CharSequence text) {
+        int[][] starts = new int[groupCount][8];
+        int[] counts = new int[groupCount];
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int c = fold(text.charAt(i));
+            if (c < 0) {
+                state = 0; // No literal contains non-ASCII characters
+                continue;
+            }
+            state = transitions[state][c];
+            for (int id : outputs[state]) {
+                int group = literalGroups[id];
+                if (counts[group] == starts[group].length) {
+                    starts[group] = Arrays.copyOf(starts[group], counts[group] * 2);
+                }
+                starts[group][counts[group]++] = i - literalLengths[id] + 1;
+            }
+        }
+
+        // Literals of different lengths in one group can report their starts out of order
+        for (int group = 0; group < groupCount; group++) {
+            int[] groupStarts = Arrays.copyOf(starts[group], counts[group]);
+            Arrays.sort(groupStarts);
+            starts[group] = distinct(groupStarts);
+        }
+        return new Hits(starts);
+    }
+
+    private static int[] newState() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int fold(char c) {
+        if (c >= ALPHABET) {
+            return -1;
+        }
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static int[] distinct(int[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.nio.charset.StandardCharsets;
+
+import burp.api.montoya.core.ByteArray;
+import burp.api.montoya.http.message.requests.HttpRequest;
+
+/**
+ * A form-encoded request body with the offsets of its "message" value recorded once,
+ * so new Aura requests are built by splicing the encoded message between the
+ * unchanged bytes before and after it.
+ */
+public class MessageRequestTemplate {
+    private static final byte[] MESSAGE_PARAM = "message=".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private final HttpRequest request;
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    private MessageRequestTemplate(HttpRequest request, byte[] prefix, byte[] suffix) {
+        this.request = request;
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Compile the body of a request. Returns null for GET requests, whose message
+     * parameter lives in the query string.
+     */
+    public static MessageRequestTemplate compile(HttpRequest request) {
+        if ("GET".equalsIgnoreCase(request.method())) {
+            return null;
+        }
+
+        byte[] body = request.body().getBytes();
+        int valueStart = findMessageValue(body);
+        if (valueStart < 0) {
+            // No message parameter yet - append one
+            int separator = body.length > 0 ? 1 : 0;
+            byte[] prefix = new byte[body.length + separator + MESSAGE_PARAM.length];
+            System.arraycopy(body, 0, prefix, 0, body.length);
+            if (separator > 0) {
+                prefix[body.length] = '&';
+            }
+            System.arraycopy(MESSAGE_PARAM, 0, prefix, body.length + separator, MESSAGE_PARAM.length);
+            return new MessageRequestTemplate(request, prefix, new byte[0]);
+        }
+
+        int valueEnd = valueStart;
+        while (valueEnd < body.length && body[valueEnd] != '&') {
+            valueEnd++;
+        }
+
+        byte[] prefix = new byte[valueStart];
+        System.arraycopy(body, 0, prefix, 0, valueStart);
+        byte[] suffix = new byte[body.length - valueEnd];
+        System.arraycopy(body, valueEnd, suffix, 0, suffix.length);
+        return new MessageRequestTemplate(request, prefix, suffix);
+    }
+
+    /**
+     * Build a request carrying the given message value
+     */
+    public HttpRequest build(String messageValue) {
+        byte[] value = messageValue.getBytes(StandardCharsets.UTF_8);
+
+        int encodedLength = 0;
+        for (byte b : value) {
+            encodedLength += isUnreserved(b) || b == ' ' ? 1 : 3;
+        }
+
+        byte[] body = new byte[prefix.length + encodedLength + suffix.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        int pos = prefix.length;
+        for (byte b : value) {
+            if (isUnreserved(b)) {
+                body[pos++] = b;
+            } else if (b == ' ') {
+                body[pos++] = '+';
+            } else {
+                body[pos++] = '%';
+                body[pos++] = HEX[(b >> 4) & 0x0F];
+                body[pos++] = HEX[b & 0x0F];
+            }
+        }
+        System.arraycopy(suffix, 0, body, pos, suffix.length);
+
+        return request.withBody(ByteArray.byteArray(body));
+    }
+
+    /**
+     * Offset of the first byte of the message value, or -1 if the body has no message parameter
+     */
+    private static int findMessageValue(byte[] body) {
+        int paramStart = 0;
+        while (paramStart < body.length) {
+            if (startsWith(body, paramStart, MESSAGE_PARAM)) {
+                return paramStart + MESSAGE_PARAM.length;
+            }
+            while (paramStart < body.length && body[paramStart] != '&') {
+                paramStart++;
+            }
+            paramStart++;
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte[] token) {
+        if (offset + token.length > data.length) {
+            return false;
+        }
+        for (int i = 0; i < token.length; i++) {
+            if (data[offset + i] != token[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same safe set as URLEncoder: letters, digits and ".-*_"
+     */
+    private static boolean isUnreserved(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9')
+            || b == '.' || b == '-' || b == '*' || b == '_';
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Keyed text entries kept in an append-only NDJSON temp file. Only the file
+ * offset, length and a little metadata of each entry stay in memory; the text
+ * is read back from disk when it is asked for. The file is created on the
+ * first write and deleted on close().
+ *
+ * Large values can be streamed in through openValue() instead of being built
+ * as a string first; the file takes no other writes until that writer is
+ * closed, and commit() then turns the written value into an entry.
+ */
+public class NdjsonResultStore {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Location and metadata of one stored entry
+     */
+    private static class EntryInfo {
+        final long offset;
+        final int length;
+        // Text in front of the stored value, or null
+        final String prefix;
+        final int rowCount;
+        final boolean empty;
+
+        EntryInfo(long offset, int length, String prefix, int rowCount, boolean empty) {
+            this.offset = offset;
+            this.length = length;
+            this.prefix = prefix;
+            this.rowCount = rowCount;
+            this.empty = empty;
+        }
+    }
+
+    /**
+     * Streams one value into the file as a {"v":...} line, JSON-escaping and
+     * UTF-8 encoding chars as they are written. Holds the store's write lock
+     * from openValue() until close(), so use it on one thread and always close it.
+     */
+    public class ValueWriter extends Writer {
+        private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        private final int generation;
+        private final long offset;
+        private long position;
+        private int length = -1;
+        private int hash = 0;
+
+        private ValueWriter(long offset) throws IOException {
+            this.generation = NdjsonResultStore.this.generation;
+            this.offset = offset;
+            this.position = offset;
+            putAscii("{\"v\":\"");
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) throws IOException {
+            if (length >= 0) {
+                throw new IOException("Value writer is closed");
+            }
+            for (int i = off; i < off + len; i++) {
+                char c = chars[i];
+                hash = 31 * hash + c;
+                if (buffer.remaining() < 6) {
+                    drain();
+                }
+                if (c == '"' || c == '\\') {
+                    buffer.put((byte) '\\').put((byte) c);
+                } else if (c < 0x20 || Character.isSurrogate(c)) {
+                    // Surrogate halves are escaped separately, which JSON readers join again
+                    putAscii(String.format("\\u%04x", (int) c));
+                } else if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | (c >> 6))).put((byte) (0x80 | (c & 0x3F)));
+                } else {
+                    buffer.put((byte) (0xE0 | (c >> 12))).put((byte) (0x80 | ((c >> 6) & 0x3F))).put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        /**
+         * Same value as hashCode() of the written text as a String
+         */
+        public int contentHash() {
+            return hash;
+        }
+
+        @Override
+        public void flush() {
+            // Bytes are written when the buffer fills up and on close()
+        }
+
+        /**
+         * End the line and release the store for other writes
+         */
+        @Override
+        public void close() throws IOException {
+            if (length >= 0) {
+                return;
+            }
+            try {
+                putAscii("\"}\n");
+                drain();
+            } finally {
+                length = (int) (position - offset);
+                writePosition = position;
+                writeLock.unlock();
+            }
+        }
+
+        private void putAscii(String text) throws IOException {
+            if (buffer.remaining() < text.length()) {
+                drain();
+            }
+            for (int i = 0; i < text.length(); i++) {
+                buffer.put((byte) text.charAt(i));
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            position += writeFully(buffer, position);
+            buffer.clear();
+        }
+    }
+
+    private final String filePrefix;
+    private final Map<String, EntryInfo> index = new LinkedHashMap<>();
+    // Guards writePosition and writes to the file; taken before the monitor, never after it
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private Path file;
+    private FileChannel channel;
+    private long writePosition = 0;
+    // Incremented by close(), so values streamed into a deleted file are not committed
+    private int generation = 0;
+
+    public NdjsonResultStore(String filePrefix) {
+        this.filePrefix = filePrefix;
+    }
+
+    /**
+     * Append an entry, replacing any earlier entry with the same key
+     */
+    public void put(String key, String value, int rowCount, boolean empty) {
+        writeLock.lock();
+        try {
+            byte[] line = encodeLine(key, value);
+            long offset = writePosition;
+            writePosition += writeFully(ByteBuffer.wrap(line), offset);
+            synchronized (this) {
+                // A replaced key keeps its place in the order; the old line is simply no longer referenced
+                index.put(key, new EntryInfo(offset, line.length, null, rowCount, empty));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store result entry '" + key + "': " + e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Start streaming a value into the file; pass the closed writer to commit() to store it.
+     * A value that is never committed stays in the file unreferenced until close().
+     */
+    public ValueWriter openValue() throws IOException {
+        writeLock.lock();
+        try {
+            return new ValueWriter(writePosition);
+        } catch (IOException | RuntimeException e) {
+            writeLock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Store a streamed value under the key, replacing any earlier entry with the same key
+     *
+     * @param prefix Text returned in front of the value by get(), or null
+     */
+    public synchronized void commit(String key, ValueWriter value, String prefix, int rowCount, boolean empty) {
+        if (value.length < 0) {
+            throw new IllegalStateException("Value writer for '" + key + "' is not closed");
+        }
+        if (value.generation != generation) {
+            // The store was closed while the value was being written
+            return;
+        }
+        index.put(key, new EntryInfo(value.offset, value.length, prefix, rowCount, empty));
+    }
+
+    /**
+     * Read an entry back from disk, or null if there is no such key
+     */
+    public String get(String key) {
+        EntryInfo entry;
+        FileChannel in;
+        synchronized (this) {
+            entry = index.get(key);
+            in = channel;
+        }
+        if (entry == null || in == null) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+            long position = entry.offset;
+            while (buffer.hasRemaining()) {
+                int read = in.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of result file");
+                }
+                position += read;
+            }
+            String value = decodeValue(buffer.array());
+            return entry.prefix == null || value == null ? value : entry.prefix + value;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read result entry '" + key + "': " + e.getMessage(), e);
+        }
+    }
+
+    public synchronized boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    public synchronized boolean isEmptyEntry(String key) {
+        EntryInfo entry = index.get(key);
+        return entry == null || entry.empty;
+    }
+
+    public synchronized int getRowCount(String key) {
+        EntryInfo entry = index.get(key);
+        return entry == null ? 0 : entry.rowCount;
+    }
+
+    /**
+     * Forget an entry; its bytes stay in the file until the store is closed
+     */
+    public synchronized void remove(String key) {
+        index.remove(key);
+    }
+
+    /**
+     * Keys in insertion order (a snapshot)
+     */
+    public synchronized List<String> keys() {
+        return new ArrayList<>(index.keySet());
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Drop all entries and delete the backing file
+     */
+    public void close() {
+        // Waits for a value that is being streamed in
+        writeLock.lock();
+        try {
+            synchronized (this) {
+                index.clear();
+                writePosition = 0;
+                generation++;
+                if (channel != null) {
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                        // Nothing useful to do if closing fails
+                    }
+                    channel = null;
+                }
+                if (file != null) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException ignored) {
+                        // deleteOnExit() is still registered for the file
+                    }
+                    file = null;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Write all bytes at the position (write lock held) and return how many were written
+     */
+    private int writeFully(ByteBuffer buffer, long position) throws IOException {
+        FileChannel out = openChannel();
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += out.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    private synchronized FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            file = Files.createTempFile("auraditor-" + filePrefix + "-", ".ndjson");
+            file.toFile().deleteOnExit();
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return channel;
+    }
+
+    private static byte[] encodeLine(String key, String value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(value.length() + key.length() + 32);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("k", key);
+            generator.writeStringField("v", value);
+            generator.writeEndObject();
+        }
+        out.write('\n');
+        return out.toByteArray();
+    }
+
+    private static String decodeValue(byte[] line) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("v".equals(field)) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
+}
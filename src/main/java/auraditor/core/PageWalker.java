@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Walks paged Aura results one page at a time. The request for page N+1 is
+ * sent while page N is being handled, and the walk stops on a short page,
+ * on the last allowed page, or on cancellation. Only the page being handled
+ * and the one being prefetched are held in memory.
+ */
+public class PageWalker {
+
+    /**
+     * Sends the request for a page and returns the response body (null if no response)
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        T fetch(int page) throws Exception;
+    }
+
+    /**
+     * Consumes a page and returns its row count, or a negative value to stop the walk
+     */
+    @FunctionalInterface
+    public interface PageHandler<T> {
+        int handle(int page, T responseBody) throws Exception;
+    }
+
+    /**
+     * Pages and rows handled by a walk
+     */
+    public static class Summary {
+        public final int pages;
+        public final int rows;
+
+        Summary(int pages, int rows) {
+            this.pages = pages;
+            this.rows = rows;
+        }
+    }
+
+    private final ExecutorService prefetchExecutor;
+    private final BooleanSupplier cancelled;
+
+    public PageWalker(ExecutorService prefetchExecutor, BooleanSupplier cancelled) {
+        this.prefetchExecutor = prefetchExecutor;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Walk pages starting at firstPage
+     *
+     * @param lastPage last page to request (inclusive), or 0 for no limit
+     */
+    public <T> Summary walk(int firstPage, int lastPage, int pageSize, PageFetcher<T> fetcher, PageHandler<T> handler) throws Exception {
+        int pages = 0;
+        int rows = 0;
+        int page = firstPage;
+        Future<T> current = prefetchExecutor.submit(() -> fetcher.fetch(firstPage));
+
+        try {
+            while (current != null) {
+                T body = await(current);
+                current = null;
+                if (cancelled.getAsBoolean()) {
+                    break;
+                }
+
+                // Send the next request before handling this page
+                boolean mayContinue = lastPage <= 0 || page < lastPage;
+                final int nextPage = page + 1;
+                Future<T> next = mayContinue ? prefetchExecutor.submit(() -> fetcher.fetch(nextPage)) : null;
+
+                int pageRows = handler.handle(page, body);
+                pages++;
+                if (pageRows > 0) {
+                    rows += pageRows;
+                }
+
+                if (pageRows < pageSize || cancelled.getAsBoolean()) {
+                    // Short page, failed page or cancellation - the prefetched page is not needed
+                    if (next != null) {
+                        next.cancel(true);
+                    }
+                    break;
+                }
+
+                current = next;
+                page = nextPage;
+            }
+        } finally {
+            if (current != null) {
+                current.cancel(true);
+            }
+        }
+
+        return new Summary(pages, rows);
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -7,6 +7,7 @@
 package auraditor.core;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.List;
 import java.util.ArrayList;
 import javax.swing.Timer;
@@ -18,6 +19,7 @@ public class ThreadManager {
     private static final List<Thread> managedThreads = new ArrayList<>();
     private static final List<Timer> managedTimers = new ArrayList<>();
     private static final List<CompletableFuture<?>> managedFutures = new ArrayList<>();
+    private static final List<ExecutorService> managedExecutors = new ArrayList<>();
     private static final Object lock = new Object();
     private static volatile boolean shutdownRequested = false;
 
@@ -54,6 +56,17 @@ public class ThreadManager {
         }
     }
 
+    /**
+     * Register an executor service for cleanup management
+     */
+    public static void registerExecutor(ExecutorService executor) {
+        synchronized (lock) {
+            if (!shutdownRequested) {
+                managedExecutors.add(executor);
+            }
+        }
+    }
+
     /**
      * Unregister a thread (called when thread completes normally)
      */
@@ -82,7 +95,16 @@ public class ThreadManager {
     }
 
     /**
-     * Shutdown all managed threads, timers, and futures
+     * Unregister an executor service (called when its work completes normally)
+     */
+    public static void unregisterExecutor(ExecutorService executor) {
+        synchronized (lock) {
+            managedExecutors.remove(executor);
+        }
+    }
+
+    /**
+     * Shutdown all managed threads, timers, futures, and executors
      */
     public static void shutdown() {
         synchronized (lock) {
@@ -110,6 +132,16 @@ public class ThreadManager {
             }
             managedFutures.clear();
 
+            // Stop all executors and interrupt their workers
+            for (ExecutorService executor : new ArrayList<>(managedExecutors)) {
+                try {
+                    executor.shutdownNow();
+                } catch (Exception e) {
+                    // Ignore executor shutdown exceptions
+                }
+            }
+            managedExecutors.clear();
+
             // Interrupt all threads
             for (Thread thread : new ArrayList<>(managedThreads)) {
                 try {
@@ -178,13 +210,42 @@ public class ThreadManager {
         return future;
     }
 
+    /**
+     * Create a managed fixed-size worker pool that will be automatically cleaned up
+     */
+    public static ExecutorService createManagedExecutor(int poolSize, String namePrefix) {
+        AtomicInteger workerCounter = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, poolSize), runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + workerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        registerExecutor(executor);
+        return executor;
+    }
+
+    /**
+     * Create a managed work-stealing pool with one worker per available core
+     */
+    public static ExecutorService createManagedWorkStealingPool(String namePrefix) {
+        AtomicInteger workerCounter = new AtomicInteger(0);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), forkJoinPool -> {
+            // Subclassing keeps the extension's context class loader on the workers
+            ForkJoinWorkerThread thread = new ForkJoinWorkerThread(forkJoinPool) { };
+            thread.setName(namePrefix + "-" + workerCounter.incrementAndGet());
+            return thread;
+        }, null, true);
+        registerExecutor(pool);
+        return pool;
+    }
+
     /**
      * Get count of active managed resources (for debugging)
      */
     public static String getStatus() {
         synchronized (lock) {
-            return String.format("Threads: %d, Timers: %d, Futures: %d",
-                managedThreads.size(), managedTimers.size(), managedFutures.size());
+            return String.format("Threads: %d, Timers: %d, Futures: %d, Executors: %d",
+                managedThreads.size(), managedTimers.size(), managedFutures.size(), managedExecutors.size());
         }
     }
 }
\ No newline at end of file
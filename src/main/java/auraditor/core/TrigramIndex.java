@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Case-insensitive trigram index over keyed text. Entries are indexed on a
+ * shared background thread as they are added; a query returns the keys that
+ * contain every trigram of the searched literal, which the caller then
+ * verifies. Keys that are not indexed yet must be treated as candidates.
+ *
+ * The key and its text are indexed separately, as the caller matches them
+ * separately. Text is not held in the queue: the indexing thread reads it
+ * back through the source given to add().
+ */
+public class TrigramIndex {
+    private static final Object EXECUTOR_LOCK = new Object();
+    private static ExecutorService indexExecutor;
+
+    private final Object lock = new Object();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private final List<String> docKeys = new ArrayList<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Sorted document ids for one trigram (ids only grow, so appends keep it sorted)
+     */
+    private static class Postings {
+        int[] ids = new int[4];
+        int size = 0;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    /**
+     * Queue an entry for indexing; a key that is added again replaces its earlier text
+     *
+     * @param textSource Reads the current text of a key on the indexing thread (null if the key is gone)
+     */
+    public void add(String key, Function<String, String> textSource) {
+        executor().execute(() -> {
+            if (closed) {
+                return;
+            }
+            // A key removed before its turn is not indexed
+            String text = textSource.apply(key);
+            if (text != null) {
+                index(key, text);
+            }
+        });
+    }
+
+    /**
+     * Forget a key (its postings are ignored from now on)
+     */
+    public void remove(String key) {
+        synchronized (lock) {
+            docIds.remove(key);
+        }
+    }
+
+    public boolean isIndexed(String key) {
+        synchronized (lock) {
+            return docIds.containsKey(key);
+        }
+    }
+
+    /**
+     * Indexed keys whose text may contain the literal (case-insensitive), or null when
+     * the literal is shorter than a trigram and cannot narrow the search
+     */
+    public Set<String> candidates(String literal) {
+        if (literal.length() < 3) {
+            return null;
+        }
+
+        synchronized (lock) {
+            // Intersect starting from the rarest trigram
+            List<Postings> lists = new ArrayList<>();
+            for (int i = 0; i + 3 <= literal.length(); i++) {
+                Postings list = postings.get(trigram(literal, i));
+                if (list == null) {
+                    return new HashSet<>();
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            int[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+            int resultSize = result.length;
+            for (int l = 1; l < lists.size() && resultSize > 0; l++) {
+                resultSize = intersect(result, resultSize, lists.get(l));
+            }
+
+            Set<String> keys = new HashSet<>();
+            for (int i = 0; i < resultSize; i++) {
+                int id = result[i];
+                String key = docKeys.get(id);
+                // Skip ids that belong to removed or replaced text
+                Integer currentId = docIds.get(key);
+                if (currentId != null && currentId == id) {
+                    keys.add(key);
+                }
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * Longest literal that every match of the regex must contain, or null if none
+     * of at least three characters can be found. Alternation, groups, classes and
+     * optional characters are treated conservatively.
+     */
+    public static String requiredLiteral(String regex) {
+        if (regex.indexOf('|') >= 0 || regex.contains("\\Q")) {
+            return null;
+        }
+
+        String best = "";
+        StringBuilder run = new StringBuilder();
+        int depth = 0;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < regex.length()) {
+                char escaped = regex.charAt(++i);
+                if (depth == 0 && !Character.isLetterOrDigit(escaped)) {
+                    run.append(escaped);
+                    continue;
+                }
+                best = longer(best, run);
+                continue;
+            }
+            switch (c) {
+                case '(':
+                    depth++;
+                    best = longer(best, run);
+                    break;
+                case ')':
+                    depth = Math.max(0, depth - 1);
+                    break;
+                case '[':
+                    // Skip the character class
+                    best = longer(best, run);
+                    while (i + 1 < regex.length() && regex.charAt(i + 1) != ']') {
+                        i += regex.charAt(i + 1) == '\\' ? 2 : 1;
+                    }
+                    i++;
+                    break;
+                case '*':
+                case '?':
+                case '{':
+                    // The previous character is optional
+                    if (run.length() > 0) {
+                        run.setLength(run.length() - 1);
+                    }
+                    best = longer(best, run);
+                    if (c == '{') {
+                        while (i + 1 < regex.length() && regex.charAt(i + 1) != '}') {
+                            i++;
+                        }
+                        i++;
+                    }
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    best = longer(best, run);
+                    break;
+                default:
+                    if (depth == 0) {
+                        run.append(c);
+                    }
+                    break;
+            }
+        }
+        best = longer(best, run);
+        return best.length() >= 3 ? best : null;
+    }
+
+    private static String longer(String best, StringBuilder run) {
+        String candidate = run.toString();
+        run.setLength(0);
+        return candidate.length() > best.length() ? candidate : best;
+    }
+
+    /**
+     * Stop indexing and drop all postings
+     */
+    public void close() {
+        closed = true;
+        synchronized (lock) {
+            postings.clear();
+            docIds.clear();
+            docKeys.clear();
+        }
+    }
+
+    private void index(String key, String text) {
+        // Work out the distinct trigrams before taking the lock
+        Set<Long> grams = new HashSet<>();
+        addTrigrams(grams, key);
+        addTrigrams(grams, text);
+
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            int id = docKeys.size();
+            docKeys.add(key);
+            docIds.put(key, id);
+            for (Long gram : grams) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Keep the ids in result[0..size) that also appear in the postings; returns the new size
+     */
+    private static int intersect(int[] result, int size, Postings other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < other.size; ) {
+            if (result[i] == other.ids[j]) {
+                result[kept++] = result[i];
+                i++;
+                j++;
+            } else if (result[i] < other.ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return kept;
+    }
+
+    private static void addTrigrams(Set<Long> grams, String text) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(trigram(text, i));
+        }
+    }
+
+    /**
+     * Lowercased trigram at the offset; chars are lowercased one by one so offsets never shift
+     */
+    private static long trigram(String text, int offset) {
+        return ((long) Character.toLowerCase(text.charAt(offset)) << 32)
+            | ((long) Character.toLowerCase(text.charAt(offset + 1)) << 16)
+            | Character.toLowerCase(text.charAt(offset + 2));
+    }
+
+    private static ExecutorService executor() {
+        synchronized (EXECUTOR_LOCK) {
+            if (indexExecutor == null || indexExecutor.isShutdown()) {
+                indexExecutor = ThreadManager.createManagedExecutor(1, "Auraditor-FilterIndex");
+            }
+            return indexExecutor;
+        }
+    }
+}
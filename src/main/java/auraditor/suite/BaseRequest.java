@@ -6,6 +6,7 @@
  */
 package auraditor.suite;
 
+import auraditor.core.MessageRequestTemplate;
 import burp.api.montoya.http.message.HttpRequestResponse;
 
 /**
@@ -18,6 +19,7 @@ public class BaseRequest {
     private final String url;
     private String notes;
     private final HttpRequestResponse requestResponse;
+    private volatile MessageRequestTemplate messageTemplate;
     
     public BaseRequest(HttpRequestResponse requestResponse) {
         this.id = nextId++;
@@ -53,6 +55,18 @@ public class BaseRequest {
         return requestResponse;
     }
     
+    /**
+     * Message parameter template of the stored request, compiled on first use (null for GET requests)
+     */
+    public MessageRequestTemplate getMessageTemplate() {
+        MessageRequestTemplate template = messageTemplate;
+        if (template == null && !"GET".equalsIgnoreCase(requestResponse.request().method())) {
+            template = MessageRequestTemplate.compile(requestResponse.request());
+            messageTemplate = template;
+        }
+        return template;
+    }
+    
     @Override
     public String toString() {
         return "BaseRequest{" +
@@ -7,8 +7,27 @@
 package auraditor.suite.ui;
 
 import auraditor.suite.BaseRequest;
+import auraditor.core.ActionResponse;
+import auraditor.core.AdaptiveRateController;
+import auraditor.core.AsciiCharSequence;
+import auraditor.core.AuraActionBatch;
+import auraditor.core.AuraActionStreamReader;
+import auraditor.core.ExtractionCache;
+import auraditor.core.JsLexer;
+import auraditor.core.LinearRegex;
+import auraditor.core.LiteralScanner;
+import auraditor.core.MessageRequestTemplate;
+import auraditor.core.NdjsonResultStore;
+import auraditor.core.PageWalker;
 import auraditor.core.ThreadManager;
+import auraditor.core.TrigramIndex;
 import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.Registration;
+import burp.api.montoya.http.handler.HttpHandler;
+import burp.api.montoya.http.handler.HttpRequestToBeSent;
+import burp.api.montoya.http.handler.HttpResponseReceived;
+import burp.api.montoya.http.handler.RequestToBeSentAction;
+import burp.api.montoya.http.handler.ResponseReceivedAction;
 import burp.api.montoya.http.message.HttpRequestResponse;
 import burp.api.montoya.http.message.MimeType;
 import burp.api.montoya.http.message.requests.HttpRequest;
@@ -31,6 +50,8 @@ import java.util.regex.Pattern;
 import java.util.regex.Matcher;
 import java.util.Map;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 
 /**
  * Tab for launching different types of Lightning/Aura security scans
@@ -38,12 +59,17 @@ import java.util.HashSet;
 public class ActionsTab {
     
     /**
-     * Utility class for safe regex execution with timeout protection against ReDoS attacks
+     * Utility class for safe regex execution. Patterns the linear-time engine supports run
+     * in-thread; anything else keeps the heuristic checks and timeout protection against ReDoS.
      */
     public static class SafeRegex {
         private static final int MAX_TIMEOUT_SECONDS = 10;
         private static final int MAX_MATCHES_PER_SEARCH = 10000;
         private static final int MAX_PATTERN_LENGTH = 1000;
+
+        // Linear-time programs for compiled patterns (empty when the pattern needs java.util.regex)
+        private static final java.util.Map<java.util.regex.Pattern, java.util.Optional<LinearRegex>> LINEAR_PROGRAMS =
+            java.util.Collections.synchronizedMap(new java.util.WeakHashMap<>());
         
         /**
          * Safely compile a regex pattern with basic validation
@@ -57,12 +83,22 @@ public class ActionsTab {
                 throw new java.util.regex.PatternSyntaxException("Pattern too long (max " + MAX_PATTERN_LENGTH + " chars)", regex, -1);
             }
             
-            // Check for some common ReDoS patterns
-            if (containsSuspiciousPatterns(regex)) {
+            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(regex, flags);
+
+            // Patterns that run on the linear-time engine cannot backtrack, so they need no ReDoS checks
+            if (linearProgram(pattern) == null && containsSuspiciousPatterns(regex)) {
                 throw new java.util.regex.PatternSyntaxException("Potentially unsafe pattern detected", regex, -1);
             }
             
-            return java.util.regex.Pattern.compile(regex, flags);
+            return pattern;
+        }
+
+        /**
+         * Linear-time program for a pattern, or null if it needs java.util.regex
+         */
+        private static LinearRegex linearProgram(java.util.regex.Pattern pattern) {
+            return LINEAR_PROGRAMS.computeIfAbsent(pattern,
+                p -> java.util.Optional.ofNullable(LinearRegex.compile(p.pattern(), p.flags()))).orElse(null);
         }
         
         /**
@@ -74,6 +110,19 @@ public class ActionsTab {
             if (text == null || text.isEmpty()) {
                 return matches;
             }
+
+            LinearRegex linear = linearProgram(pattern);
+            if (linear != null) {
+                int from = 0;
+                int[] match;
+                while (matches.size() < MAX_MATCHES_PER_SEARCH && from <= text.length()
+                        && (match = linear.find(text, from)) != null) {
+                    matches.add(match[0]);
+                    // Step past empty matches the same way Matcher.find() does
+                    from = match[1] > match[0] ? match[1] : match[1] + 1;
+                }
+                return matches;
+            }
             
             // Use CompletableFuture with timeout for safe execution
             java.util.concurrent.CompletableFuture<java.util.List<Integer>> future =
@@ -113,6 +162,11 @@ public class ActionsTab {
             if (text == null || text.isEmpty()) {
                 return false;
             }
+
+            LinearRegex linear = linearProgram(pattern);
+            if (linear != null) {
+                return linear.find(text);
+            }
             
             java.util.concurrent.CompletableFuture<Boolean> future =
                 ThreadManager.createManagedFuture(() -> {
@@ -193,39 +247,114 @@ public class ActionsTab {
     }
     
     /**
-     * Data structure for object by name search results
+     * Data structure for object by name search results. Entry text is kept in a
+     * per-result NDJSON temp file and read back when an entry is shown.
      */
     public static class ObjectByNameResult {
-        private final java.util.Map<String, String> objectEntries;
+        private final NdjsonResultStore store = new NdjsonResultStore("objects");
+        private final TrigramIndex filterIndex = new TrigramIndex();
         private final int totalCount;
         
         public ObjectByNameResult() {
-            this.objectEntries = new java.util.LinkedHashMap<>();
             this.totalCount = 0;
         }
         
         public ObjectByNameResult(java.util.Map<String, String> objectEntries) {
-            this.objectEntries = new java.util.LinkedHashMap<>(objectEntries);
+            for (java.util.Map.Entry<String, String> entry : objectEntries.entrySet()) {
+                addObjectEntry(entry.getKey(), entry.getValue());
+            }
             this.totalCount = objectEntries.size();
         }
         
-        public java.util.Map<String, String> getObjectEntries() { return objectEntries; }
-        public java.util.Set<String> getObjectNames() { return objectEntries.keySet(); }
-        public String getObjectData(String objectName) { return objectEntries.get(objectName); }
+        public java.util.List<String> getObjectNames() { return store.keys(); }
+        public String getObjectData(String objectName) { return store.get(objectName); }
+        public boolean isEntryEmpty(String objectName) { return store.isEmptyEntry(objectName); }
+        public int getRowCount(String objectName) { return store.getRowCount(objectName); }
+        public int size() { return store.size(); }
+        public boolean isEmpty() { return store.size() == 0; }
         public int getTotalCount() { return totalCount; }
+        public TrigramIndex getFilterIndex() { return filterIndex; }
         
         public void addObjectEntry(String objectName, String jsonData) {
-            objectEntries.put(objectName, jsonData);
+            store.put(objectName, jsonData, parseRowCount(jsonData), isObjectDataEmpty(jsonData));
+            filterIndex.add(objectName, store::get);
+        }
+
+        /**
+         * Open a writer that streams the rows of a new entry straight into the backing file
+         */
+        public NdjsonResultStore.ValueWriter openRows() throws java.io.IOException {
+            return store.openValue();
+        }
+
+        /**
+         * Add an entry whose rows were streamed through openRows(), shown after the header
+         */
+        public void addObjectRows(String objectName, String header, NdjsonResultStore.ValueWriter rows, int rowCount) {
+            store.commit(objectName, rows, header, rowCount, false);
+            filterIndex.add(objectName, store::get);
         }
 
         public void removeObject(String objectName) {
-            objectEntries.remove(objectName);
+            store.remove(objectName);
+            filterIndex.remove(objectName);
+        }
+
+        /**
+         * Release the backing file and filter index once the result is no longer shown
+         */
+        public void close() {
+            store.close();
+            filterIndex.close();
+        }
+
+        /**
+         * Read N from a "Records found in X object: N" header (0 if absent)
+         */
+        private static int parseRowCount(String jsonData) {
+            if (jsonData == null || !jsonData.startsWith("Records found in ")) {
+                return 0;
+            }
+            int lineEnd = jsonData.indexOf('\n');
+            int countStart = jsonData.lastIndexOf(": ", lineEnd < 0 ? jsonData.length() : lineEnd);
+            if (countStart < 0) {
+                return 0;
+            }
+            try {
+                return Integer.parseInt(jsonData.substring(countStart + 2, lineEnd < 0 ? jsonData.length() : lineEnd).trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        /**
+         * Check if object data should be considered "empty" for filtering purposes
+         */
+        static boolean isObjectDataEmpty(String jsonData) {
+            if (jsonData == null || jsonData.trim().isEmpty()) {
+                return true;
+            }
+            
+            // Check for explicit "No data available" message
+            if (jsonData.equals("No data available")) {
+                return true;
+            }
+            
+            // Check for "No data found for object" pattern
+            if (jsonData.contains("No data found for object") && jsonData.contains("Result: []")) {
+                return true;
+            }
+            
+            // Check for empty JSON results (just whitespace and minimal structure)
+            String trimmed = jsonData.trim();
+            if (trimmed.equals("[]") || trimmed.equals("{}")) {
+                return true;
+            }
+            
+            return false;
         }
     }
 
-    /**
-     * Data structure for route discovery results
-     */
     /**
      * Data class for storing Apex descriptor information
      */
@@ -271,43 +400,141 @@ public class ActionsTab {
         }
     }
 
+    /**
+     * Route discovery results by category. Categories are append-only segments, so extractor
+     * threads can add routes while the UI reads snapshots; a snapshot is a view of the routes
+     * present when it was taken and stays valid while more are appended.
+     */
     public static class RouteDiscoveryResult {
-        private final java.util.Map<String, java.util.List<String>> routeEntries;
+        private final java.util.Map<String, RouteSegment> routeEntries;
         private final String timestamp;
 
+        /**
+         * Append-only list of routes; a copy shares the backing array until the copy appends
+         */
+        private static final class RouteSegment {
+            private String[] routes;
+            private int size;
+            private boolean shared;
+
+            RouteSegment(String[] routes, int size, boolean shared) {
+                this.routes = routes;
+                this.size = size;
+                this.shared = shared;
+            }
+
+            synchronized int append(String route) {
+                if (shared || size == routes.length) {
+                    routes = java.util.Arrays.copyOf(routes, Math.max(16, size * 2));
+                    shared = false;
+                }
+                routes[size] = route;
+                return size++;
+            }
+
+            synchronized java.util.List<String> snapshot() {
+                // Entries below size are never written again
+                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(routes).subList(0, size));
+            }
+
+            synchronized RouteSegment copy() {
+                // Only the copy has to move to its own array; this segment keeps appending past its size
+                return new RouteSegment(routes, size, true);
+            }
+
+            synchronized int size() {
+                return size;
+            }
+        }
+
         public RouteDiscoveryResult() {
             this.routeEntries = new java.util.LinkedHashMap<>();
             this.timestamp = java.time.LocalDateTime.now().format(
                 java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         }
 
-        public java.util.Map<String, java.util.List<String>> getRouteEntries() {
-            return routeEntries;
+        /**
+         * Snapshot of all categories and their routes
+         */
+        public synchronized java.util.Map<String, java.util.List<String>> getRouteEntries() {
+            java.util.Map<String, java.util.List<String>> entries = new java.util.LinkedHashMap<>();
+            for (java.util.Map.Entry<String, RouteSegment> entry : routeEntries.entrySet()) {
+                entries.put(entry.getKey(), entry.getValue().snapshot());
+            }
+            return entries;
         }
 
-        public java.util.Set<String> getCategoryNames() {
-            return routeEntries.keySet();
+        /**
+         * Snapshot of the category names in the order they were added
+         */
+        public synchronized java.util.Set<String> getCategoryNames() {
+            return new java.util.LinkedHashSet<>(routeEntries.keySet());
         }
 
+        /**
+         * Snapshot of the routes of a category, or null if there is no such category
+         */
         public java.util.List<String> getRoutesForCategory(String category) {
-            return routeEntries.get(category);
+            RouteSegment segment;
+            synchronized (this) {
+                segment = routeEntries.get(category);
+            }
+            return segment != null ? segment.snapshot() : null;
         }
 
         public String getTimestamp() {
             return timestamp;
         }
 
-        public int getTotalCount() {
-            return routeEntries.values().stream().mapToInt(List::size).sum();
+        public synchronized int getTotalCount() {
+            return routeEntries.values().stream().mapToInt(RouteSegment::size).sum();
         }
 
+        /**
+         * Add a category with the given routes, replacing any category with the same name
+         */
         public void addRouteCategory(String categoryName, java.util.List<String> routes) {
-            routeEntries.put(categoryName, new java.util.ArrayList<>(routes));
+            String[] copy = routes.toArray(new String[0]);
+            synchronized (this) {
+                routeEntries.put(categoryName, new RouteSegment(copy, copy.length, false));
+            }
+        }
+
+        /**
+         * Append a route to a category, creating the category if needed
+         */
+        public void appendRoute(String categoryName, String route) {
+            segment(categoryName).append(route);
+        }
+
+        /**
+         * Append a route to a category, preceded by the separator unless it is the category's first route
+         */
+        public void appendRoute(String categoryName, String route, String separator) {
+            RouteSegment segment = segment(categoryName);
+            synchronized (segment) {
+                segment.append(segment.size() == 0 ? route : separator + route);
+            }
         }
 
-        public void removeCategory(String categoryName) {
+        public synchronized void removeCategory(String categoryName) {
             routeEntries.remove(categoryName);
         }
+
+        /**
+         * Copy that shares the routes found so far and is unaffected by later additions
+         */
+        public synchronized RouteDiscoveryResult snapshot() {
+            RouteDiscoveryResult snapshot = new RouteDiscoveryResult();
+            for (java.util.Map.Entry<String, RouteSegment> entry : routeEntries.entrySet()) {
+                snapshot.routeEntries.put(entry.getKey(), entry.getValue().copy());
+            }
+            return snapshot;
+        }
+
+        private synchronized RouteSegment segment(String categoryName) {
+            return routeEntries.computeIfAbsent(categoryName, name -> new RouteSegment(new String[16], 0, false));
+        }
     }
 
     /**
@@ -326,12 +553,23 @@ public class ActionsTab {
             createDiscoveredRoutesTab(resultId, routeDiscoveryResult);
         }
 
+        // Refresh a route discovery tab in the background (live discovery), without switching to it
+        default void refreshDiscoveredRoutesTab(String resultId, RouteDiscoveryResult routeDiscoveryResult) {
+            updateDiscoveredRoutesTab(resultId, routeDiscoveryResult);
+        }
+
         // New method for updating tabs without automatic switching
         default void updateObjectByNameTab(String resultId, ObjectByNameResult objectByNameResult) {
             // Default implementation falls back to createObjectByNameTab
             createObjectByNameTab(resultId, objectByNameResult);
         }
 
+        // Append entries to an object tab without rebuilding it (entries are already in objectByNameResult)
+        default void appendObjectByNameEntries(String resultId, ObjectByNameResult objectByNameResult,
+                                               java.util.Collection<String> newNames) {
+            updateObjectByNameTab(resultId, objectByNameResult);
+        }
+
         // New method for notifying operation state changes (for updating tab title)
         default void onOperationStateChanged(boolean isRunning) {
             // Default implementation does nothing
@@ -350,6 +588,9 @@ public class ActionsTab {
     private final JButton findObjectByNameBtn;
     private final JTextField objectNameField;
     private final JSpinner threadCountSpinner;
+    private final JSpinner batchSizeSpinner;
+    private final JSpinner pageSizeSpinner;
+    private final JSpinner maxPagesSpinner;
     private final JButton findDefaultObjectsPresetBtn;
     private final JButton selectWordlistBtn;
     private final JCheckBox usePresetWordlistCheckbox;
@@ -362,6 +603,7 @@ public class ActionsTab {
     private final JButton findDescriptorsFromSitemapBtn;
     private final JButton performAllSitemapSearchesBtn;
     private final JCheckBox searchSitemapOnlyCheckbox;
+    private final JCheckBox liveDiscoveryCheckbox;
     private final JComboBox<String> discoveryResultSelector;
     private final JLabel statusMessageLabel;
     private final JPanel statusPanel;
@@ -385,10 +627,22 @@ public class ActionsTab {
     
     // Progress tracking fields for bulk retrieval
     private int totalObjectsToRetrieve = 0;
-    private int objectsRetrieved = 0;
+    private final AtomicInteger objectsRetrieved = new AtomicInteger(0);
     private String currentBulkRetrievalTabId = null;
     private JLabel progressLabel;
+    private JLabel paceLabel;
+    private Timer paceTimer;
+
+    // Object entries produced by worker threads, flushed to the result tabs on a fixed cadence
+    private static final int OBJECT_UPDATE_INTERVAL_MS = 250;
+    private final java.util.concurrent.ConcurrentLinkedQueue<PendingObjectEntry> pendingObjectEntries =
+        new java.util.concurrent.ConcurrentLinkedQueue<>();
+    private Timer objectUpdateTimer;
+    private final AdaptiveRateController rateController = new AdaptiveRateController();
+    // Times a throttled (429/503) request is sent again before its response is used as is
+    private static final int MAX_THROTTLED_RETRIES = 3;
     private Thread currentOperationThread = null;
+    private volatile java.util.concurrent.ExecutorService currentBulkExecutor = null;
 
     // Router initializer paths parsing fields
     private volatile boolean routerPathsCancelled = false;
@@ -402,6 +656,27 @@ public class ActionsTab {
     private RouteDiscoveryResult currentJSPathsResults = null;
     private RouteDiscoveryResult currentDescriptorResults = null;
 
+    // Extraction results of already analyzed JavaScript bodies, keyed by content hash
+    // (bump the version suffix when an extractor changes what it finds)
+    private static final String ROUTER_PATHS_EXTRACTOR = "routerPaths.v2";
+    private static final String JS_PATHS_EXTRACTOR = "jsPaths.v1";
+    private static final String DESCRIPTORS_EXTRACTOR = "descriptors.v3";
+    private static final ObjectMapper RECORD_MAPPER = new ObjectMapper();
+    private final ExtractionCache extractionCache;
+
+    // Live discovery: an HTTP handler queues new JavaScript responses for a background worker
+    private static final String LIVE_DISCOVERY_RESULT_ID = "Live Discovery";
+    private static final String LIVE_SESSION_LABEL = "Live";
+    private static final int LIVE_DISCOVERY_MAX_PENDING = 1000;
+    private Registration liveDiscoveryRegistration = null;
+    private volatile java.util.concurrent.ExecutorService liveDiscoveryExecutor = null;
+    private final AtomicInteger liveDiscoveryPending = new AtomicInteger(0);
+    private final java.util.concurrent.atomic.AtomicBoolean liveRefreshScheduled = new java.util.concurrent.atomic.AtomicBoolean(false);
+    private volatile RouteDiscoveryResult liveDiscoveryResults = null;
+    private final Set<String> liveRouterPaths = ConcurrentHashMap.newKeySet();
+    private final Set<String> liveJSPaths = ConcurrentHashMap.newKeySet();
+    private final Set<String> liveDescriptors = ConcurrentHashMap.newKeySet();
+
     // Compiled regex patterns for router initializer extraction
     private static final Pattern ROUTER_INITIALIZER_PATTERN = Pattern.compile(
         "\"componentDef\":\\s*\\{[^}]*\"descriptor\":\\s*\"[^\"]*routerInitializer\"",
@@ -508,6 +783,109 @@ public class ActionsTab {
         "\"routes\":\\s*\\{",
         Pattern.CASE_INSENSITIVE
     );
+
+    // Pattern: $A.componentService.addModule('markup://...', \"path\",[deps],function(params){
+    // The deps array is matched possessively so it cannot backtrack
+    private static final Pattern LWC_MODULE_PATTERN = Pattern.compile(
+        "\\$A\\.componentService\\.addModule\\('[^']+',\\s*\\\\\"([^\\\\\"]+)\\\\\"\\s*,\\s*(\\[[^\\]]*+\\])\\s*,\\s*function\\s*\\(([^)]*)\\)\\s*\\{",
+        Pattern.DOTALL
+    );
+
+    // Pattern: anyIdentifier.methodName,[{params}] (method passed by reference)
+    private static final Pattern LWC_METHOD_REFERENCE_PATTERN = Pattern.compile(
+        "\\b[A-Za-z_$][\\w$]*\\.([\\w$]++)\\s*,\\s*\\[\\s*\\{([^}]+)\\}"
+    );
+
+    // Pattern: apexMethod:condition?identifier.method1:identifier.method2
+    private static final Pattern LWC_TERNARY_METHOD_PATTERN = Pattern.compile(
+        "apexMethod:[^?]++\\?[^:]*\\b[A-Za-z_$][\\w$]*\\.(\\w+)\\b[^:]*:\\s*\\b[A-Za-z_$][\\w$]*\\.(\\w+)\\b"
+    );
+
+    // Literals that every match of the extraction patterns starts with (or, for LWC Apex
+    // imports, must contain). One scan of a body finds them all, and each pattern is then
+    // only tried where its literals occur.
+    private static final int SCAN_COMPONENT_DEF = 0;
+    private static final int SCAN_ROUTES = 1;
+    private static final int SCAN_QUOTED_PATH = 2;
+    private static final int SCAN_QUOTED_URL = 3;
+    private static final int SCAN_DESCRIPTOR = 4;
+    private static final int SCAN_ADD_MODULE = 5;
+    private static final int SCAN_LWC_APEX = 6;
+    private static final LiteralScanner JS_LITERAL_SCANNER = new LiteralScanner(
+        new String[] {
+            "\"componentDef\":",
+            "\"routes\":",
+            "\"/", "'/", "`/", "\"./", "'./", "`./", "\"../", "'../", "`../",
+            "\"http", "'http", "`http",
+            "\"descriptor\"",
+            "$A.componentService.addModule('",
+            "@salesforce/apex/"
+        },
+        new int[] {
+            SCAN_COMPONENT_DEF,
+            SCAN_ROUTES,
+            SCAN_QUOTED_PATH, SCAN_QUOTED_PATH, SCAN_QUOTED_PATH, SCAN_QUOTED_PATH, SCAN_QUOTED_PATH,
+            SCAN_QUOTED_PATH, SCAN_QUOTED_PATH, SCAN_QUOTED_PATH, SCAN_QUOTED_PATH,
+            SCAN_QUOTED_URL, SCAN_QUOTED_URL, SCAN_QUOTED_URL,
+            SCAN_DESCRIPTOR,
+            SCAN_ADD_MODULE,
+            SCAN_LWC_APEX
+        }
+    );
+
+    /**
+     * One JavaScript response as seen by the extractors: its body bytes are copied out of
+     * Burp once, then hashed and scanned for literals at most once, however many extractors
+     * look at it. An ASCII body (the usual minified bundle) is read through a view over those
+     * bytes instead of being decoded into a String. release() drops it all once the item is done.
+     */
+    private static final class ScriptBody {
+        final HttpRequestResponse item;
+        private byte[] bytes;
+        private String hash;
+        private CharSequence text;
+        private LiteralScanner.Hits hits;
+
+        ScriptBody(HttpRequestResponse item) {
+            this.item = item;
+        }
+
+        private byte[] bytes() {
+            if (bytes == null) {
+                bytes = item.response().body().getBytes();
+            }
+            return bytes;
+        }
+
+        String hash() {
+            if (hash == null) {
+                hash = ExtractionCache.contentHash(bytes());
+            }
+            return hash;
+        }
+
+        CharSequence text() {
+            if (text == null) {
+                byte[] body = bytes();
+                // Only non-ASCII bodies need decoding, with the same charset handling as before
+                text = AsciiCharSequence.isAscii(body) ? new AsciiCharSequence(body) : item.response().bodyToString();
+            }
+            return text;
+        }
+
+        LiteralScanner.Hits hits() {
+            if (hits == null) {
+                hits = JS_LITERAL_SCANNER.scan(text());
+            }
+            return hits;
+        }
+
+        void release() {
+            bytes = null;
+            text = null;
+            hits = null;
+        }
+    }
     
     // Object storage for discovered objects
     private final Set<String> discoveredDefaultObjects = new HashSet<>();
@@ -515,19 +893,32 @@ public class ActionsTab {
     
     // Object by name results storage
     private ObjectByNameResult objectByNameResults = new ObjectByNameResult();
-    private final Map<String, ObjectByNameResult> tabObjectResults = new HashMap<>();
+    private final Map<String, ObjectByNameResult> tabObjectResults = new ConcurrentHashMap<>();
     
     // Object discovery payload
     private static final String DISCOVERY_PAYLOAD = "{\"actions\":[{\"id\":\"100;a\",\"descriptor\":\"serviceComponent://ui.force.components.controllers.hostConfig.HostConfigController/ACTION$getConfigData\",\"callingDescriptor\":\"UNKNOWN\",\"params\":{}}]}";
     private static final String ROUTE_DISCOVERY_PAYLOAD = "{\"actions\":[{\"id\":\"100;a\",\"descriptor\":\"aura://AppsController/ACTION$getNavItems\",\"callingDescriptor\":\"UNKNOWN\",\"params\":{\"inContextOfComponent\":\"\",\"mode\":\"VIEW\",\"layoutType\":\"FULL\",\"defaultFieldValues\":null,\"navigationLocation\":\"LIST_VIEW_ROW\"}}]}";
     
-    // Specific object search payload template - %s will be replaced with the escaped object name
-    private static final String SPECIFIC_OBJECT_PAYLOAD_TEMPLATE = "{\"actions\":[{\"id\":\"100;a\",\"descriptor\":\"serviceComponent://ui.force.components.controllers.lists.selectableListDataProvider.SelectableListDataProviderController/ACTION$getItems\",\"callingDescriptor\":\"UNKNOWN\",\"params\":{\"entityNameOrId\":\"%s\",\"layoutType\":\"FULL\",\"pageSize\":1000,\"currentPage\":0,\"useTimeout\":false,\"getCount\":false,\"enableRowActions\":false}}]}";
+    // Specific object search payload template - %s will be replaced with the escaped object name, then page size and page number
+    private static final String SPECIFIC_OBJECT_PAYLOAD_TEMPLATE = "{\"actions\":[{\"id\":\"100;a\",\"descriptor\":\"serviceComponent://ui.force.components.controllers.lists.selectableListDataProvider.SelectableListDataProviderController/ACTION$getItems\",\"callingDescriptor\":\"UNKNOWN\",\"params\":{\"entityNameOrId\":\"%s\",\"layoutType\":\"FULL\",\"pageSize\":%d,\"currentPage\":%d,\"useTimeout\":false,\"getCount\":false,\"enableRowActions\":false}}]}";
+
+    // Single-action templates for batched requests - first %s is the action id, second the escaped object name / record ID
+    private static final String SPECIFIC_OBJECT_ACTION_TEMPLATE = "{\"id\":\"%s\",\"descriptor\":\"serviceComponent://ui.force.components.controllers.lists.selectableListDataProvider.SelectableListDataProviderController/ACTION$getItems\",\"callingDescriptor\":\"UNKNOWN\",\"params\":{\"entityNameOrId\":\"%s\",\"layoutType\":\"FULL\",\"pageSize\":%d,\"currentPage\":%d,\"useTimeout\":false,\"getCount\":false,\"enableRowActions\":false}}";
+    // getItems pages are numbered from 1
+    private static final int FIRST_PAGE = 1;
+    private static final Pattern OBJECT_PAGE_SUFFIX_PATTERN = Pattern.compile(" - Page (\\d+) \\(pageSize (\\d+)\\)$");
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    // Ceiling of the Threads spinner, which sizes the bulk retrieval pool
+    private static final int MAX_THREADS = 10;
+    // Next-page fetches only overlap with handling the current page, so a few threads serve all workers
+    private static final int PREFETCH_THREADS = 2;
+    private static final String RECORD_ACTION_TEMPLATE = "{\"id\":\"%s\",\"descriptor\":\"serviceComponent://ui.force.components.controllers.detail.DetailController/ACTION$getRecord\",\"callingDescriptor\":\"UNKNOWN\",\"params\":{\"recordId\":\"%s\",\"record\":null,\"inContextOfComponent\":\"\",\"mode\":\"VIEW\",\"layoutType\":\"FULL\",\"defaultFieldValues\":null,\"navigationLocation\":\"LIST_VIEW_ROW\"}}";
     
     public ActionsTab(MontoyaApi api, List<BaseRequest> baseRequests, ResultTabCallback resultTabCallback) {
         this.api = api;
         this.baseRequests = baseRequests;
         this.resultTabCallback = resultTabCallback;
+        this.extractionCache = new ExtractionCache(api);
         
         // Create main panel
         this.mainPanel = new JPanel(new BorderLayout());
@@ -540,7 +931,10 @@ public class ActionsTab {
         this.findAllObjectsBtn = new JButton("Analyze All Objects");
         this.findObjectByNameBtn = new JButton("Find by Name");
         this.objectNameField = new JTextField(15);
-        this.threadCountSpinner = new JSpinner(new SpinnerNumberModel(1, 1, Integer.MAX_VALUE, 1));
+        this.threadCountSpinner = new JSpinner(new SpinnerNumberModel(1, 1, MAX_THREADS, 1));
+        this.batchSizeSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 100, 1));
+        this.pageSizeSpinner = new JSpinner(new SpinnerNumberModel(DEFAULT_PAGE_SIZE, 1, DEFAULT_PAGE_SIZE, 1));
+        this.maxPagesSpinner = new JSpinner(new SpinnerNumberModel(0, 0, Integer.MAX_VALUE, 1));
         this.findDefaultObjectsPresetBtn = new JButton("Scan with Wordlist");
         this.selectWordlistBtn = new JButton("Choose File...");
         this.usePresetWordlistCheckbox = new JCheckBox("Use built-in wordlist", true);
@@ -553,6 +947,7 @@ public class ActionsTab {
         this.findDescriptorsFromSitemapBtn = new JButton("Find Descriptors From Sitemap");
         this.performAllSitemapSearchesBtn = new JButton("Perform All Sitemap Searches");
         this.searchSitemapOnlyCheckbox = new JCheckBox("Search sitemap only", true);
+        this.liveDiscoveryCheckbox = new JCheckBox("Live discovery from new traffic", false);
         this.cancelBtn = new JButton("Cancel");
         this.discoveryResultSelector = new JComboBox<>();
         
@@ -682,7 +1077,7 @@ public class ActionsTab {
 
         gbc.gridx = 1;
         recordIdField.setPreferredSize(new Dimension(200, 25));
-        recordIdField.setToolTipText("Enter the record ID to retrieve");
+        recordIdField.setToolTipText("Enter the record ID to retrieve (separate multiple IDs with commas or spaces)");
         actionsPanel.add(recordIdField, gbc);
 
         // Active Router Discovery section
@@ -729,16 +1124,43 @@ public class ActionsTab {
         searchSitemapOnlyCheckbox.setToolTipText("When checked, limit passive parsing to sitemap only (applies to sitemap parsing buttons above)");
         actionsPanel.add(searchSitemapOnlyCheckbox, gbc);
 
+        gbc.gridy++; gbc.gridwidth = 2; gbc.gridx = 0;
+        liveDiscoveryCheckbox.setToolTipText("Run the router path, JS path and descriptor extraction on each new JavaScript response and update the '" + LIVE_DISCOVERY_RESULT_ID + "' tab (passive)");
+        actionsPanel.add(liveDiscoveryCheckbox, gbc);
+
         // Thread count configuration
         gbc.gridy++; gbc.gridwidth = 2; gbc.weighty = 0.0;
         JPanel threadPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
         threadPanel.add(new JLabel("Concurrent requests:"));
         threadCountSpinner.setPreferredSize(new Dimension(60, 25));
-        threadCountSpinner.setToolTipText("Number of concurrent requests for bulk operations (1-10)");
+        threadCountSpinner.setToolTipText("Number of concurrent requests for bulk operations (1-" + MAX_THREADS + ")");
         threadPanel.add(threadCountSpinner);
         threadPanel.add(new JLabel("(reduces server load with lower values)"));
         actionsPanel.add(threadPanel, gbc);
 
+        // Batch size configuration
+        gbc.gridy++; gbc.gridwidth = 2; gbc.weighty = 0.0;
+        JPanel batchPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        batchPanel.add(new JLabel("Actions per request:"));
+        batchSizeSpinner.setPreferredSize(new Dimension(60, 25));
+        batchSizeSpinner.setToolTipText("Number of getItems/getRecord actions packed into one request for object, wordlist and record scans (1-100)");
+        batchPanel.add(batchSizeSpinner);
+        batchPanel.add(new JLabel("(fewer requests with higher values)"));
+        actionsPanel.add(batchPanel, gbc);
+
+        // Pagination configuration
+        gbc.gridy++; gbc.gridwidth = 2; gbc.weighty = 0.0;
+        JPanel paginationPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        paginationPanel.add(new JLabel("Records per page:"));
+        pageSizeSpinner.setPreferredSize(new Dimension(70, 25));
+        pageSizeSpinner.setToolTipText("Number of records to retrieve per page (1-1000)");
+        paginationPanel.add(pageSizeSpinner);
+        paginationPanel.add(new JLabel("Maximum pages:"));
+        maxPagesSpinner.setPreferredSize(new Dimension(60, 25));
+        maxPagesSpinner.setToolTipText("Maximum number of pages to process (0 = unlimited)");
+        paginationPanel.add(maxPagesSpinner);
+        actionsPanel.add(paginationPanel, gbc);
+
         // Tab preference configuration
         gbc.gridy++; gbc.gridwidth = 2; gbc.weighty = 0.0;
         JPanel tabPreferencePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
@@ -792,7 +1214,17 @@ public class ActionsTab {
         progressLabel = new JLabel();
         progressLabel.setFont(progressLabel.getFont().deriveFont(Font.BOLD));
         progressLabel.setVisible(false);
-        topPanel.add(progressLabel, BorderLayout.EAST);
+
+        // Create pace label showing the adaptive request rate (visible while busy)
+        paceLabel = new JLabel();
+        paceLabel.setVisible(false);
+        paceTimer = ThreadManager.createManagedTimer(500, e -> paceLabel.setText(rateController.getStatusText()));
+        objectUpdateTimer = ThreadManager.createManagedTimer(OBJECT_UPDATE_INTERVAL_MS, e -> flushObjectUpdates());
+
+        JPanel eastPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        eastPanel.add(paceLabel);
+        eastPanel.add(progressLabel);
+        topPanel.add(eastPanel, BorderLayout.EAST);
         
         statusPanel.add(topPanel, BorderLayout.NORTH);
         
@@ -842,6 +1274,15 @@ public class ActionsTab {
         currentActiveButton = activeButton;
         originalButtonText = activeButton.getText();
 
+        // Outbound requests are paced by the shared rate controller up to the configured ceiling;
+        // each operation starts from a fresh latency baseline
+        rateController.reset();
+        rateController.setMaxConcurrency((Integer) threadCountSpinner.getValue());
+        paceLabel.setText(rateController.getStatusText());
+        paceLabel.setVisible(true);
+        paceTimer.start();
+        objectUpdateTimer.start();
+
         // Update active button to show it's working
         activeButton.setText("⟳ " + originalButtonText);
         activeButton.setEnabled(false);
@@ -865,6 +1306,9 @@ public class ActionsTab {
         objectNameField.setEnabled(false);
         recordIdField.setEnabled(false);
         threadCountSpinner.setEnabled(false);
+        batchSizeSpinner.setEnabled(false);
+        pageSizeSpinner.setEnabled(false);
+        maxPagesSpinner.setEnabled(false);
         discoveryResultSelector.setEnabled(false);
         usePresetWordlistCheckbox.setEnabled(false);
         selectWordlistBtn.setEnabled(false);
@@ -889,6 +1333,10 @@ public class ActionsTab {
      */
     private void clearBusyState() {
         isProcessing = false;
+        paceTimer.stop();
+        objectUpdateTimer.stop();
+        flushObjectUpdates();
+        paceLabel.setVisible(false);
 
         // Restore active button
         if (currentActiveButton != null) {
@@ -925,7 +1373,7 @@ public class ActionsTab {
         
         // Initialize progress tracking
         totalObjectsToRetrieve = totalObjects;
-        objectsRetrieved = 0;
+        objectsRetrieved.set(0);
         currentBulkRetrievalTabId = tabId;
         operationCancelled = false; // Reset cancellation flag for new operation
         
@@ -942,8 +1390,9 @@ public class ActionsTab {
      */
     private void updateProgressDisplay() {
         if (totalObjectsToRetrieve > 0) {
-            int percentage = (int) ((objectsRetrieved * 100.0) / totalObjectsToRetrieve);
-            progressLabel.setText(String.format("%d%% (%d/%d)", percentage, objectsRetrieved, totalObjectsToRetrieve));
+            int retrieved = objectsRetrieved.get();
+            int percentage = (int) ((retrieved * 100.0) / totalObjectsToRetrieve);
+            progressLabel.setText(String.format("%d%% (%d/%d)", percentage, retrieved, totalObjectsToRetrieve));
         }
     }
     
@@ -952,7 +1401,7 @@ public class ActionsTab {
      */
     private void clearBulkRetrievalState() {
         totalObjectsToRetrieve = 0;
-        objectsRetrieved = 0;
+        objectsRetrieved.set(0);
         currentBulkRetrievalTabId = null;
         operationCancelled = false; // Reset cancellation flag
         progressLabel.setVisible(false);
@@ -1154,7 +1603,7 @@ public class ActionsTab {
         try {
             // Create a modified request with the discovery payload in the message parameter
             HttpRequest originalRequest = baseRequest.getRequestResponse().request();
-            HttpRequest discoveryRequest = modifyMessageParameter(originalRequest, DISCOVERY_PAYLOAD);
+            HttpRequest discoveryRequest = buildMessageRequest(baseRequest, DISCOVERY_PAYLOAD);
             
             // Send the request with preserved HTTP version
             api.logging().logToOutput("Sending discovery request to: " + originalRequest.url());
@@ -1185,7 +1634,7 @@ public class ActionsTab {
         try {
             // Create a modified request with the route discovery payload in the message parameter
             HttpRequest originalRequest = baseRequest.getRequestResponse().request();
-            HttpRequest routeDiscoveryRequest = modifyMessageParameter(originalRequest, ROUTE_DISCOVERY_PAYLOAD);
+            HttpRequest routeDiscoveryRequest = buildMessageRequest(baseRequest, ROUTE_DISCOVERY_PAYLOAD);
 
             // Send the request with preserved HTTP version
             api.logging().logToOutput("Sending route discovery request to: " + originalRequest.url());
@@ -1232,41 +1681,17 @@ public class ActionsTab {
             String sessionTimestamp = java.time.LocalDateTime.now().format(
                 java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
-            // Get sitemap items
+            // Get the JavaScript responses (access actual sitemap, not just proxy history)
             api.logging().logToOutput("Retrieving sitemap entries...");
-            List<HttpRequestResponse> sitemapItems = new ArrayList<>();
-
-            // Get all sitemap items (access actual sitemap, not just proxy history)
-            sitemapItems.addAll(api.siteMap().requestResponses());
-
-            // Filter for JavaScript content-type and optionally scope
-            List<HttpRequestResponse> jsResponses = new ArrayList<>();
-            for (HttpRequestResponse item : sitemapItems) {
-                if (routerPathsCancelled) {
-                    api.logging().logToOutput("Router paths parsing cancelled by user");
-                    return;
-                }
-
-                try {
-                    if (item.response() != null &&
-                        item.response().mimeType() == MimeType.SCRIPT) {
-
-                        // Apply scope filtering if enabled
-                        if (!sitemapOnly || api.scope().isInScope(item.request().url())) {
-                            jsResponses.add(item);
-                        }
-                    }
-                } catch (Exception e) {
-                    // Skip malformed items
-                    api.logging().logToOutput("Skipping malformed sitemap item: " + e.getMessage());
-                    continue;
-                }
+            List<HttpRequestResponse> jsResponses = retrieveSitemapJavaScriptResponses(sitemapOnly,
+                () -> routerPathsCancelled);
+            if (routerPathsCancelled) {
+                api.logging().logToOutput("Router paths parsing cancelled by user");
+                return;
             }
 
             api.logging().logToOutput("Found " + jsResponses.size() + " JavaScript responses to analyze");
 
-            // Progress tracking
-            AtomicInteger processedItems = new AtomicInteger(0);
             int totalItems = jsResponses.size();
 
             if (totalItems == 0) {
@@ -1277,35 +1702,20 @@ public class ActionsTab {
                 return;
             }
 
-            // Process each JavaScript response
-            for (HttpRequestResponse item : jsResponses) {
-                if (routerPathsCancelled) {
-                    api.logging().logToOutput("Router paths parsing cancelled by user");
-                    SwingUtilities.invokeLater(() -> {
-                        clearBusyState();
-                        showStatusMessage("Router paths parsing cancelled", Color.ORANGE);
-                    });
-                    return;
-                }
-
-                try {
-                    // Process the JavaScript response
-                    processJavaScriptResponseForRouterPaths(item, resultId, sessionTimestamp);
-
-                    // Update progress
-                    int processed = processedItems.incrementAndGet();
-                    int progress = (processed * 100) / totalItems;
-
-                    SwingUtilities.invokeLater(() -> {
-                        // Update button text with progress
-                        getRouterInitializerPathsBtn.setText("⟳ Router Paths (" + progress + "%)");
-                    });
+            // Process the JavaScript responses in parallel
+            boolean completed = analyzeJavaScriptResponses(jsResponses,
+                () -> routerPathsCancelled || operationCancelled || Thread.currentThread().isInterrupted(),
+                item -> processJavaScriptResponseForRouterPaths(new ScriptBody(item)),
+                progress -> SwingUtilities.invokeLater(() ->
+                    getRouterInitializerPathsBtn.setText("⟳ Router Paths (" + progress + "%)")));
 
-                } catch (Exception e) {
-                    api.logging().logToOutput("Error processing JavaScript response: " + e.getMessage());
-                    processedItems.incrementAndGet(); // Still count as processed
-                    continue;
-                }
+            if (!completed) {
+                api.logging().logToOutput("Router paths parsing cancelled by user");
+                SwingUtilities.invokeLater(() -> {
+                    clearBusyState();
+                    showStatusMessage("Router paths parsing cancelled", Color.ORANGE);
+                });
+                return;
             }
 
             // Finalize results
@@ -1334,31 +1744,55 @@ public class ActionsTab {
     /**
      * Process a JavaScript response to extract router initializer paths
      */
-    private void processJavaScriptResponseForRouterPaths(HttpRequestResponse item, String resultId, String sessionTimestamp) {
+    private void processJavaScriptResponseForRouterPaths(ScriptBody body) {
         try {
-            String responseBody = item.response().bodyToString();
-
-            // First check if this response contains routerInitializer
-            Matcher routerMatcher = ROUTER_INITIALIZER_PATTERN.matcher(responseBody);
-            if (!routerMatcher.find()) {
-                return; // No routerInitializer found in this response
+            for (String routePath : routerPathsFor(body)) {
+                // Add to discovered paths (Set automatically handles duplicates)
+                if (discoveredRouterPaths.add(routePath)) {
+                    // New path discovered - just log it, will be added in batch at the end
+                    api.logging().logToOutput("Found router path: " + routePath);
+                }
             }
 
-            // Enhanced approach: Find routes object and extract using balanced brace matching
-            extractRoutesFromJson(responseBody, resultId, sessionTimestamp);
-
         } catch (Exception e) {
             api.logging().logToOutput("Error extracting router paths from JavaScript response: " + e.getMessage());
         }
     }
 
+    /**
+     * Router initializer paths of a response; identical bundles are only analyzed once
+     */
+    private List<String> routerPathsFor(ScriptBody body) {
+        List<String> routePaths = extractionCache.get(ROUTER_PATHS_EXTRACTOR, body.hash());
+        if (routePaths == null) {
+            routePaths = extractRouterPaths(body.text(), body.hits());
+            extractionCache.put(ROUTER_PATHS_EXTRACTOR, body.hash(), routePaths);
+        }
+        return routePaths;
+    }
+
+    /**
+     * Extract the router initializer paths of a JavaScript body
+     */
+    private List<String> extractRouterPaths(CharSequence responseBody, LiteralScanner.Hits hits) {
+        Set<String> routePaths = new java.util.LinkedHashSet<>();
+
+        // First check if this response contains routerInitializer
+        if (hits.matcher(ROUTER_INITIALIZER_PATTERN, responseBody, SCAN_COMPONENT_DEF).find()) {
+            // Enhanced approach: Find routes object and extract using balanced brace matching
+            extractRoutesFromJson(responseBody, hits, routePaths);
+        }
+
+        return new ArrayList<>(routePaths);
+    }
+
     /**
      * Enhanced route extraction using balanced brace matching for complex nested JSON
      */
-    private void extractRoutesFromJson(String responseBody, String resultId, String sessionTimestamp) {
+    private void extractRoutesFromJson(CharSequence responseBody, LiteralScanner.Hits hits, Set<String> routePaths) {
         try {
             // Find the start of the routes object
-            Matcher routesObjectMatcher = ROUTES_OBJECT_PATTERN.matcher(responseBody);
+            LiteralScanner.CandidateMatcher routesObjectMatcher = hits.matcher(ROUTES_OBJECT_PATTERN, responseBody, SCAN_ROUTES);
 
             while (routesObjectMatcher.find()) {
                 int routesStart = routesObjectMatcher.end() - 1; // Position of opening brace
@@ -1368,10 +1802,10 @@ public class ActionsTab {
 
                 if (routesJson != null && !routesJson.isEmpty()) {
                     // Try to parse as JSON for robust extraction
-                    extractRoutePathsFromRoutesJson(routesJson, resultId, sessionTimestamp);
+                    extractRoutePathsFromRoutesJson(routesJson, routePaths);
 
                     // Fallback: Also try regex pattern matching for additional coverage
-                    extractRoutePathsWithRegex(routesJson, resultId, sessionTimestamp);
+                    extractRoutePathsWithRegex(routesJson, routePaths);
                 }
             }
         } catch (Exception e) {
@@ -1382,52 +1816,22 @@ public class ActionsTab {
     /**
      * Extract balanced braces content starting from a given position
      */
-    private String extractBalancedBraces(String text, int startPos) {
+    private String extractBalancedBraces(CharSequence text, int startPos) {
         if (startPos >= text.length() || text.charAt(startPos) != '{') {
             return null;
         }
 
-        int braceCount = 0;
-        boolean inString = false;
-        boolean escaped = false;
-
-        for (int i = startPos; i < text.length(); i++) {
-            char c = text.charAt(i);
-
-            if (escaped) {
-                escaped = false;
-                continue;
-            }
-
-            if (c == '\\' && inString) {
-                escaped = true;
-                continue;
-            }
-
-            if (c == '"') {
-                inString = !inString;
-                continue;
-            }
-
-            if (!inString) {
-                if (c == '{') {
-                    braceCount++;
-                } else if (c == '}') {
-                    braceCount--;
-                    if (braceCount == 0) {
-                        return text.substring(startPos, i + 1);
-                    }
-                }
-            }
+        int endPos = JsLexer.matchingBrace(text, startPos, false);
+        if (endPos == -1) {
+            return null; // Unbalanced braces
         }
-
-        return null; // Unbalanced braces
+        return text.subSequence(startPos, endPos + 1).toString();
     }
 
     /**
      * Extract route paths using JSON parsing approach
      */
-    private void extractRoutePathsFromRoutesJson(String routesJson, String resultId, String sessionTimestamp) {
+    private void extractRoutePathsFromRoutesJson(String routesJson, Set<String> routePaths) {
         try {
             // Use Jackson to parse the routes JSON
             com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
@@ -1436,11 +1840,7 @@ public class ActionsTab {
             // Iterate through all field names (which are the route paths)
             routesNode.fieldNames().forEachRemaining(routePath -> {
                 if (routePath.startsWith("/") && isValidPath(routePath)) {
-                    // Add to discovered paths (Set automatically handles duplicates)
-                    if (discoveredRouterPaths.add(routePath)) {
-                        // New path discovered - just log it, will be added in batch at the end
-                        api.logging().logToOutput("Found router path (JSON): " + routePath);
-                    }
+                    routePaths.add(routePath);
                 }
             });
 
@@ -1453,7 +1853,7 @@ public class ActionsTab {
     /**
      * Fallback regex-based route extraction for additional coverage
      */
-    private void extractRoutePathsWithRegex(String routesContent, String resultId, String sessionTimestamp) {
+    private void extractRoutePathsWithRegex(String routesContent, Set<String> routePaths) {
         try {
             // Extract individual route paths using improved regex
             Pattern enhancedRoutePattern = Pattern.compile("\"(/[^\"]+?)\"\\s*:", Pattern.CASE_INSENSITIVE);
@@ -1462,10 +1862,8 @@ public class ActionsTab {
             while (pathMatcher.find()) {
                 String routePath = pathMatcher.group(1);
 
-                // Add to discovered paths (Set automatically handles duplicates) with validation
-                if (isValidPath(routePath) && discoveredRouterPaths.add(routePath)) {
-                    // New path discovered - just log it, will be added in batch at the end
-                    api.logging().logToOutput("Found router path (regex): " + routePath);
+                if (isValidPath(routePath)) {
+                    routePaths.add(routePath);
                 }
             }
         } catch (Exception e) {
@@ -1486,7 +1884,7 @@ public class ActionsTab {
             // Clear any existing category with the same name (in case of tab reuse)
             if (shouldReuseTab()) {
                 // Remove old category to replace with new results
-                currentRouterPathsResults.getRouteEntries().remove(categoryName);
+                currentRouterPathsResults.removeCategory(categoryName);
             }
 
             // Add all paths to results in one batch
@@ -1531,6 +1929,89 @@ public class ActionsTab {
         api.logging().logToOutput("Descriptors parsing cancellation requested");
     }
 
+    /**
+     * Get the JavaScript responses from the site map, optionally only the in-scope ones. Each node
+     * is checked as Burp walks the site map, so only the matching items are ever collected; once
+     * cancelled, the remaining nodes are skipped.
+     */
+    private List<HttpRequestResponse> retrieveSitemapJavaScriptResponses(boolean sitemapOnly, java.util.function.BooleanSupplier cancelled) {
+        AtomicInteger checkedItems = new AtomicInteger();
+        List<HttpRequestResponse> jsResponses = api.siteMap().requestResponses(node -> {
+            if (cancelled.getAsBoolean()) {
+                return false;
+            }
+            checkedItems.incrementAndGet();
+
+            try {
+                // Check the scope on the node URL first, so out-of-scope responses are never looked at
+                if (sitemapOnly && !api.scope().isInScope(node.url())) {
+                    return false;
+                }
+                HttpRequestResponse item = node.requestResponse();
+                return item != null && item.response() != null && item.response().mimeType() == MimeType.SCRIPT;
+            } catch (Exception e) {
+                // Skip malformed items
+                api.logging().logToOutput("Skipping malformed sitemap item: " + e.getMessage());
+                return false;
+            }
+        });
+
+        api.logging().logToOutput("Total sitemap items checked: " + checkedItems.get());
+        return jsResponses;
+    }
+
+    /**
+     * Run an analyzer over the JavaScript responses on a work-stealing pool sized to the cores.
+     * Progress is reported as a percentage whenever it changes. Returns false if the run was
+     * cancelled before every response was analyzed.
+     */
+    private boolean analyzeJavaScriptResponses(List<HttpRequestResponse> jsResponses, java.util.function.BooleanSupplier cancelled,
+                                               java.util.function.Consumer<HttpRequestResponse> analyzer,
+                                               java.util.function.IntConsumer progressListener) {
+        int totalItems = jsResponses.size();
+        AtomicInteger processedItems = new AtomicInteger(0);
+        AtomicInteger lastProgress = new AtomicInteger(-1);
+        java.util.concurrent.ExecutorService pool = ThreadManager.createManagedWorkStealingPool("Auraditor-SitemapAnalysis");
+
+        try {
+            for (HttpRequestResponse item : jsResponses) {
+                pool.execute(() -> {
+                    if (cancelled.getAsBoolean()) {
+                        return;
+                    }
+                    try {
+                        analyzer.accept(item);
+                    } catch (Exception e) {
+                        api.logging().logToError("Error analyzing JavaScript response: " + e.getMessage());
+                    }
+
+                    int progress = (processedItems.incrementAndGet() * 100) / totalItems;
+                    int previous = lastProgress.get();
+                    if (progress > previous && lastProgress.compareAndSet(previous, progress)) {
+                        progressListener.accept(progress);
+                    }
+                });
+            }
+            pool.shutdown();
+
+            // Wait for the workers, stopping them as soon as the run is cancelled
+            while (!pool.awaitTermination(200, java.util.concurrent.TimeUnit.MILLISECONDS)) {
+                if (cancelled.getAsBoolean()) {
+                    pool.shutdownNow();
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            ThreadManager.unregisterExecutor(pool);
+        }
+
+        return !cancelled.getAsBoolean() && processedItems.get() == totalItems;
+    }
+
     /**
      * TODO: Implement passive sitemap parsing for potential JavaScript paths
      * This is a passive operation that parses existing sitemap data without sending HTTP requests
@@ -1555,41 +2036,16 @@ public class ActionsTab {
             // Generate timestamp for this parsing session
             String sessionTimestamp = generateTimestamp();
 
-            // Get sitemap items
+            // Get the JavaScript responses (access actual sitemap, not just proxy history)
             api.logging().logToOutput("Retrieving sitemap entries...");
-            List<HttpRequestResponse> sitemapItems = new ArrayList<>();
-
-            // Get all sitemap items (access actual sitemap, not just proxy history)
-            sitemapItems.addAll(api.siteMap().requestResponses());
-
-            api.logging().logToOutput("Total sitemap items retrieved: " + sitemapItems.size());
-
-            // Filter for JavaScript responses
-            List<HttpRequestResponse> jsResponses = new ArrayList<>();
-            for (HttpRequestResponse item : sitemapItems) {
-                // Check for cancellation
-                if (jsPathsCancelled || operationCancelled || Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("JS paths parsing cancelled by user");
-                    return;
-                }
+            List<HttpRequestResponse> jsResponses = retrieveSitemapJavaScriptResponses(sitemapOnly,
+                () -> jsPathsCancelled || operationCancelled || Thread.currentThread().isInterrupted());
+            if (jsPathsCancelled || operationCancelled || Thread.currentThread().isInterrupted()) {
+                api.logging().logToOutput("JS paths parsing cancelled by user");
+                return;
+            }
 
-                try {
-                    if (item.response() != null &&
-                        item.response().mimeType() == MimeType.SCRIPT) {
-
-                        // Apply scope filtering if enabled
-                        if (!sitemapOnly || api.scope().isInScope(item.request().url())) {
-                            jsResponses.add(item);
-                        }
-                    }
-                } catch (Exception e) {
-                    // Skip malformed items
-                    api.logging().logToOutput("Skipping malformed sitemap item: " + e.getMessage());
-                    continue;
-                }
-            }
-
-            api.logging().logToOutput("Found " + jsResponses.size() + " JavaScript responses to analyze");
+            api.logging().logToOutput("Found " + jsResponses.size() + " JavaScript responses to analyze");
 
             if (jsResponses.isEmpty()) {
                 SwingUtilities.invokeLater(() -> {
@@ -1599,45 +2055,32 @@ public class ActionsTab {
                 return;
             }
 
-            // Process JavaScript responses to extract paths
-            int totalResponses = jsResponses.size();
-            int processedResponses = 0;
-
-            for (HttpRequestResponse jsResponse : jsResponses) {
-                // Check for cancellation
-                if (jsPathsCancelled || operationCancelled || Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("JS paths parsing cancelled by user");
-                    SwingUtilities.invokeLater(() -> {
-                        clearBusyState();
-                        if (!discoveredJSPaths.isEmpty()) {
-                            showStatusMessage("Operation cancelled - " + discoveredJSPaths.size() + " JS paths found so far", Color.ORANGE);
-                            // Create or update tab with whatever data was collected
-                            if (resultTabCallback != null && currentJSPathsResults != null) {
-                                if (shouldReuseTab()) {
-                                    resultTabCallback.updateDiscoveredRoutesTab(resultId, currentJSPathsResults);
-                                } else {
-                                    resultTabCallback.createDiscoveredRoutesTab(resultId, currentJSPathsResults);
-                                }
-                            }
-                        } else {
-                            showStatusMessage("Operation cancelled", Color.RED);
-                        }
-                    });
-                    return;
-                }
-
-                processedResponses++;
-                final int currentProgress = (processedResponses * 100) / totalResponses;
+            // Process JavaScript responses in parallel to extract paths
+            boolean completed = analyzeJavaScriptResponses(jsResponses,
+                () -> jsPathsCancelled || operationCancelled || Thread.currentThread().isInterrupted(),
+                jsResponse -> processJavaScriptResponseForPaths(new ScriptBody(jsResponse), sessionTimestamp),
+                progress -> SwingUtilities.invokeLater(() ->
+                    getPotentialPathsFromJSBtn.setText("⟳ JS Paths (" + progress + "%)")));
 
+            if (!completed) {
+                api.logging().logToOutput("JS paths parsing cancelled by user");
                 SwingUtilities.invokeLater(() -> {
-                    getPotentialPathsFromJSBtn.setText("⟳ JS Paths (" + currentProgress + "%)");
+                    clearBusyState();
+                    if (!discoveredJSPaths.isEmpty()) {
+                        showStatusMessage("Operation cancelled - " + discoveredJSPaths.size() + " JS paths found so far", Color.ORANGE);
+                        // Create or update tab with whatever data was collected
+                        if (resultTabCallback != null && currentJSPathsResults != null) {
+                            if (shouldReuseTab()) {
+                                resultTabCallback.updateDiscoveredRoutesTab(resultId, currentJSPathsResults);
+                            } else {
+                                resultTabCallback.createDiscoveredRoutesTab(resultId, currentJSPathsResults);
+                            }
+                        }
+                    } else {
+                        showStatusMessage("Operation cancelled", Color.RED);
+                    }
                 });
-
-                try {
-                    processJavaScriptResponseForPaths(jsResponse, baseRequest, sessionTimestamp);
-                } catch (Exception e) {
-                    api.logging().logToError("Error processing JavaScript response for paths: " + e.getMessage());
-                }
+                return;
             }
 
             api.logging().logToOutput("Completed JS paths parsing. Found " + discoveredJSPaths.size() + " unique paths");
@@ -1686,38 +2129,13 @@ public class ActionsTab {
             final String sessionTimestamp = java.time.LocalDateTime.now().format(
                 java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
-            // Get sitemap items
+            // Get the JavaScript responses (access actual sitemap, not just proxy history)
             api.logging().logToOutput("Retrieving sitemap entries...");
-            List<HttpRequestResponse> sitemapItems = new ArrayList<>();
-
-            // Get all sitemap items (access actual sitemap, not just proxy history)
-            sitemapItems.addAll(api.siteMap().requestResponses());
-
-            api.logging().logToOutput("Total sitemap items retrieved: " + sitemapItems.size());
-
-            // Filter for JavaScript responses
-            List<HttpRequestResponse> jsResponses = new ArrayList<>();
-            for (HttpRequestResponse item : sitemapItems) {
-                // Check for cancellation
-                if (descriptorsCancelled || operationCancelled || Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("Descriptors parsing cancelled by user");
-                    return;
-                }
-
-                try {
-                    if (item.response() != null &&
-                        item.response().mimeType() == MimeType.SCRIPT) {
-
-                        // Apply scope filtering if enabled
-                        if (!sitemapOnly || api.scope().isInScope(item.request().url())) {
-                            jsResponses.add(item);
-                        }
-                    }
-                } catch (Exception e) {
-                    // Skip malformed items
-                    api.logging().logToOutput("Skipping malformed sitemap item: " + e.getMessage());
-                    continue;
-                }
+            List<HttpRequestResponse> jsResponses = retrieveSitemapJavaScriptResponses(sitemapOnly,
+                () -> descriptorsCancelled || operationCancelled || Thread.currentThread().isInterrupted());
+            if (descriptorsCancelled || operationCancelled || Thread.currentThread().isInterrupted()) {
+                api.logging().logToOutput("Descriptors parsing cancelled by user");
+                return;
             }
 
             api.logging().logToOutput("Found " + jsResponses.size() + " JavaScript responses to analyze");
@@ -1730,45 +2148,32 @@ public class ActionsTab {
                 return;
             }
 
-            // Process JavaScript responses to extract descriptors
-            int totalResponses = jsResponses.size();
-            int processedResponses = 0;
-
-            for (HttpRequestResponse jsResponse : jsResponses) {
-                // Check for cancellation
-                if (descriptorsCancelled || operationCancelled || Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("Descriptors parsing cancelled by user");
-                    SwingUtilities.invokeLater(() -> {
-                        clearBusyState();
-                        if (!discoveredDescriptors.isEmpty()) {
-                            showStatusMessage("Operation cancelled - " + discoveredDescriptors.size() + " descriptors found so far", Color.ORANGE);
-                            // Create or update tab with whatever data was collected
-                            if (resultTabCallback != null && currentDescriptorResults != null) {
-                                if (shouldReuseTab()) {
-                                    resultTabCallback.updateDiscoveredRoutesTab(resultId, currentDescriptorResults);
-                                } else {
-                                    resultTabCallback.createDiscoveredRoutesTab(resultId, currentDescriptorResults);
-                                }
-                            }
-                        } else {
-                            showStatusMessage("Operation cancelled", Color.RED);
-                        }
-                    });
-                    return;
-                }
-
-                processedResponses++;
-                final int currentProgress = (processedResponses * 100) / totalResponses;
+            // Process JavaScript responses in parallel to extract descriptors
+            boolean completed = analyzeJavaScriptResponses(jsResponses,
+                () -> descriptorsCancelled || operationCancelled || Thread.currentThread().isInterrupted(),
+                jsResponse -> processJavaScriptResponseForDescriptors(new ScriptBody(jsResponse), sessionTimestamp),
+                progress -> SwingUtilities.invokeLater(() ->
+                    findDescriptorsFromSitemapBtn.setText("⟳ Descriptors (" + progress + "%)")));
 
+            if (!completed) {
+                api.logging().logToOutput("Descriptors parsing cancelled by user");
                 SwingUtilities.invokeLater(() -> {
-                    findDescriptorsFromSitemapBtn.setText("⟳ Descriptors (" + currentProgress + "%)");
+                    clearBusyState();
+                    if (!discoveredDescriptors.isEmpty()) {
+                        showStatusMessage("Operation cancelled - " + discoveredDescriptors.size() + " descriptors found so far", Color.ORANGE);
+                        // Create or update tab with whatever data was collected
+                        if (resultTabCallback != null && currentDescriptorResults != null) {
+                            if (shouldReuseTab()) {
+                                resultTabCallback.updateDiscoveredRoutesTab(resultId, currentDescriptorResults);
+                            } else {
+                                resultTabCallback.createDiscoveredRoutesTab(resultId, currentDescriptorResults);
+                            }
+                        }
+                    } else {
+                        showStatusMessage("Operation cancelled", Color.RED);
+                    }
                 });
-
-                try {
-                    processJavaScriptResponseForDescriptors(jsResponse, sessionTimestamp);
-                } catch (Exception e) {
-                    api.logging().logToError("Error processing JavaScript response for descriptors: " + e.getMessage());
-                }
+                return;
             }
 
             api.logging().logToOutput("Completed descriptors parsing. Found " + discoveredDescriptors.size() + " unique descriptors");
@@ -1802,123 +2207,173 @@ public class ActionsTab {
     /**
      * Process a JavaScript response to extract Apex descriptors and their parameters
      */
-    private void processJavaScriptResponseForDescriptors(HttpRequestResponse jsResponse, String sessionTimestamp) {
-        if (jsResponse == null || jsResponse.response() == null) {
+    private void processJavaScriptResponseForDescriptors(ScriptBody body, String sessionTimestamp) {
+        if (body.item.response() == null) {
             return;
         }
 
         try {
-            String responseBody = jsResponse.response().bodyToString();
-            String sourceUrl = jsResponse.request().url();
-
-            // Keep track of processed descriptors to avoid duplicates
-            java.util.Set<String> processedInThisResponse = new java.util.HashSet<>();
+            for (DescriptorInfo descriptorInfo : descriptorsFor(body)) {
+                if (discoveredDescriptors.add(descriptorInfo.getDescriptor())) {
+                    addDescriptorToResults(descriptorInfo, currentDescriptorResults, sessionTimestamp);
+                }
+            }
 
-            // First pass: Find descriptors with their parameter definitions using enhanced pattern
-            Matcher contextMatcher = DESCRIPTOR_CONTEXT_PATTERN.matcher(responseBody);
-            while (contextMatcher.find()) {
-                String descriptor = contextMatcher.group(1);
-                String parameterArrayJson = contextMatcher.group(2);
+        } catch (Exception e) {
+            api.logging().logToError("Exception processing JavaScript response for descriptors: " + e.getMessage());
+        }
+    }
 
-                if (descriptor != null && discoveredDescriptors.add(descriptor)) {
-                    processedInThisResponse.add(descriptor);
+    /**
+     * Apex descriptors of a response, attributed to its URL; identical bundles are only analyzed once
+     */
+    private List<DescriptorInfo> descriptorsFor(ScriptBody body) throws IOException {
+        List<String> records = extractionCache.get(DESCRIPTORS_EXTRACTOR, body.hash());
+        if (records == null) {
+            records = new ArrayList<>();
+            for (DescriptorInfo descriptorInfo : extractDescriptors(body.text(), body.hits())) {
+                records.add(encodeDescriptorRecord(descriptorInfo));
+            }
+            extractionCache.put(DESCRIPTORS_EXTRACTOR, body.hash(), records);
+        }
 
-                    // Parse parameters if available
-                    java.util.List<DescriptorInfo.ParameterInfo> parameters = new java.util.ArrayList<>();
-                    if (parameterArrayJson != null && !parameterArrayJson.trim().isEmpty()) {
-                        parameters = parseParametersFromJson(parameterArrayJson);
-                    }
+        String sourceUrl = body.item.request().url();
+        List<DescriptorInfo> descriptors = new ArrayList<>(records.size());
+        for (String record : records) {
+            DescriptorInfo descriptorInfo = decodeDescriptorRecord(record, sourceUrl);
+            if (descriptorInfo != null) {
+                descriptors.add(descriptorInfo);
+            }
+        }
+        return descriptors;
+    }
 
-                    // Create descriptor info
-                    DescriptorInfo descriptorInfo = new DescriptorInfo(descriptor, parameters, sourceUrl);
-                    addDescriptorToResults(descriptorInfo, sessionTimestamp);
+    /**
+     * Extract the Apex descriptors of a JavaScript body with their parameters (without a source URL)
+     */
+    private List<DescriptorInfo> extractDescriptors(CharSequence responseBody, LiteralScanner.Hits hits) {
+        // Keep track of processed descriptors to avoid duplicates
+        Map<String, DescriptorInfo> found = new LinkedHashMap<>();
+
+        // First pass: Find descriptors with their parameter definitions using enhanced pattern
+        LiteralScanner.CandidateMatcher contextMatcher = hits.matcher(DESCRIPTOR_CONTEXT_PATTERN, responseBody, SCAN_DESCRIPTOR);
+        while (contextMatcher.find()) {
+            String descriptor = contextMatcher.group(1);
+            String parameterArrayJson = contextMatcher.group(2);
+
+            if (descriptor != null && !found.containsKey(descriptor)) {
+                // Parse parameters if available
+                java.util.List<DescriptorInfo.ParameterInfo> parameters = new java.util.ArrayList<>();
+                if (parameterArrayJson != null && !parameterArrayJson.trim().isEmpty()) {
+                    parameters = parseParametersFromJson(parameterArrayJson);
                 }
-            }
 
-            // Second pass: Find descriptors without immediate parameter context, but search for parameters
-            Matcher simpleMatcher = DESCRIPTOR_SIMPLE_PATTERN.matcher(responseBody);
-            while (simpleMatcher.find()) {
-                String descriptor = simpleMatcher.group(1);
+                found.put(descriptor, new DescriptorInfo(descriptor, parameters, null));
+            }
+        }
 
-                if (descriptor != null && !processedInThisResponse.contains(descriptor) && discoveredDescriptors.add(descriptor)) {
-                    // Try to find parameters for this descriptor elsewhere in the response
-                    java.util.List<DescriptorInfo.ParameterInfo> parameters = findParametersForDescriptor(responseBody, descriptor);
+        // Second pass: Find descriptors without immediate parameter context, but search for parameters
+        LiteralScanner.CandidateMatcher simpleMatcher = hits.matcher(DESCRIPTOR_SIMPLE_PATTERN, responseBody, SCAN_DESCRIPTOR);
+        Map<String, java.util.List<DescriptorInfo.ParameterInfo>> parameterIndex = null;
+        while (simpleMatcher.find()) {
+            String descriptor = simpleMatcher.group(1);
 
-                    // Create descriptor info
-                    DescriptorInfo descriptorInfo = new DescriptorInfo(descriptor, parameters, sourceUrl);
-                    addDescriptorToResults(descriptorInfo, sessionTimestamp);
+            if (descriptor != null && !found.containsKey(descriptor)) {
+                // Try to find parameters for this descriptor elsewhere in the response
+                if (parameterIndex == null) {
+                    parameterIndex = indexDescriptorParameters(responseBody, hits);
                 }
+                java.util.List<DescriptorInfo.ParameterInfo> parameters =
+                    new java.util.ArrayList<>(parameterIndex.getOrDefault(descriptor.toLowerCase(), java.util.List.of()));
+                found.put(descriptor, new DescriptorInfo(descriptor, parameters, null));
             }
+        }
 
-            // Third pass: Find LWC-style Apex methods using module-based extraction
-            // This parses the entire $A.componentService.addModule(...) structure to properly
-            // map dependencies → factory parameters → aliases → method calls
-            java.util.List<LWCApexMethod> lwcMethods = extractLWCMethodsFromModules(responseBody);
-            for (LWCApexMethod method : lwcMethods) {
-                String lwcDescriptor = method.controller + "." + method.methodName;
+        // Third pass: Find LWC-style Apex methods using module-based extraction
+        // This parses the entire $A.componentService.addModule(...) structure to properly
+        // map dependencies → factory parameters → aliases → method calls
+        // Modules without an @salesforce/apex import cannot yield any method
+        java.util.List<LWCApexMethod> lwcMethods = hits.any(SCAN_LWC_APEX)
+            ? extractLWCMethodsFromModules(responseBody, hits)
+            : new ArrayList<>();
+        for (LWCApexMethod method : lwcMethods) {
+            String lwcDescriptor = method.controller + "." + method.methodName;
+            found.putIfAbsent(lwcDescriptor, new DescriptorInfo(lwcDescriptor, method.parameters, null));
+        }
 
-                if (discoveredDescriptors.add(lwcDescriptor)) {
-                    // Create descriptor info with extracted parameters
-                    DescriptorInfo descriptorInfo = new DescriptorInfo(lwcDescriptor, method.parameters, sourceUrl);
-                    addDescriptorToResults(descriptorInfo, sessionTimestamp);
-                }
-            }
+        return new ArrayList<>(found.values());
+    }
 
-        } catch (Exception e) {
-            api.logging().logToError("Exception processing JavaScript response for descriptors: " + e.getMessage());
+    /**
+     * Encode a descriptor and its parameters as a cache record
+     */
+    private static String encodeDescriptorRecord(DescriptorInfo descriptorInfo) throws IOException {
+        com.fasterxml.jackson.databind.node.ObjectNode record = RECORD_MAPPER.createObjectNode();
+        record.put("descriptor", descriptorInfo.getDescriptor());
+        com.fasterxml.jackson.databind.node.ArrayNode parameters = record.putArray("parameters");
+        for (DescriptorInfo.ParameterInfo parameter : descriptorInfo.getParameters()) {
+            parameters.addObject()
+                .put("name", parameter.getName())
+                .put("type", parameter.getType());
+        }
+        return RECORD_MAPPER.writeValueAsString(record);
+    }
+
+    /**
+     * Decode a cache record into a descriptor found at the given URL, or null if the record is malformed
+     */
+    private static DescriptorInfo decodeDescriptorRecord(String record, String sourceUrl) throws IOException {
+        JsonNode node = RECORD_MAPPER.readTree(record);
+        String descriptor = node.path("descriptor").asText(null);
+        if (descriptor == null) {
+            return null;
+        }
+
+        List<DescriptorInfo.ParameterInfo> parameters = new ArrayList<>();
+        for (JsonNode parameter : node.path("parameters")) {
+            parameters.add(new DescriptorInfo.ParameterInfo(
+                parameter.path("name").asText(null), parameter.path("type").asText(null)));
         }
+        return new DescriptorInfo(descriptor, parameters, sourceUrl);
     }
 
     /**
-     * Find parameters for a specific descriptor in the response body
+     * Index the parameters of every "descriptor":"...",...,"pa":[...] pair in the response body
+     * in one pass, keyed by lower-cased descriptor (descriptors are matched case-insensitively)
      */
-    private java.util.List<DescriptorInfo.ParameterInfo> findParametersForDescriptor(String responseBody, String targetDescriptor) {
-        java.util.List<DescriptorInfo.ParameterInfo> parameters = new java.util.ArrayList<>();
+    private Map<String, java.util.List<DescriptorInfo.ParameterInfo>> indexDescriptorParameters(CharSequence responseBody, LiteralScanner.Hits hits) {
+        Map<String, java.util.List<DescriptorInfo.ParameterInfo>> index = new java.util.HashMap<>();
+        // End of the last pair indexed per descriptor; pairs of the same descriptor must not overlap
+        Map<String, Integer> pairEnds = new java.util.HashMap<>();
 
         try {
-            // Escape the descriptor for regex search
-            String escapedDescriptor = Pattern.quote(targetDescriptor);
-
-            // Create a pattern to find parameter arrays associated with this descriptor
-            // Look for patterns like: "descriptor":"apex://...", ... "pa":[...]
-            Pattern descriptorWithParamsPattern = Pattern.compile(
-                "\"descriptor\"\\s*:\\s*\"" + escapedDescriptor + "\"[^}]*?\"pa\"\\s*:\\s*(\\[[^\\]]*\\])",
-                Pattern.CASE_INSENSITIVE | Pattern.DOTALL
-            );
-
-            Matcher matcher = descriptorWithParamsPattern.matcher(responseBody);
-            while (matcher.find()) {
-                String parameterArrayJson = matcher.group(1);
-                if (parameterArrayJson != null && !parameterArrayJson.trim().isEmpty()) {
-                    java.util.List<DescriptorInfo.ParameterInfo> foundParams = parseParametersFromJson(parameterArrayJson);
-                    parameters.addAll(foundParams);
+            // Unlike the first pass, try every descriptor: a pair may start inside another descriptor's pair
+            Matcher matcher = DESCRIPTOR_CONTEXT_PATTERN.matcher(responseBody);
+            matcher.useTransparentBounds(true);
+            for (int start : hits.starts(SCAN_DESCRIPTOR)) {
+                matcher.region(start, responseBody.length());
+                if (!matcher.lookingAt()) {
+                    continue;
                 }
-            }
 
-            // If no parameters found with the primary pattern, try alternative approaches
-            if (parameters.isEmpty()) {
-                // Look for the descriptor in action arrays and extract parameters
-                // Pattern: "ac":[...{"descriptor":"target","pa":[...]}...]
-                Pattern actionArrayPattern = Pattern.compile(
-                    "\"ac\"\\s*:\\s*\\[[^\\]]*?\\{[^}]*?\"descriptor\"\\s*:\\s*\"" + escapedDescriptor + "\"[^}]*?\"pa\"\\s*:\\s*(\\[[^\\]]*\\])",
-                    Pattern.CASE_INSENSITIVE | Pattern.DOTALL
-                );
+                String key = matcher.group(1).toLowerCase();
+                Integer previousEnd = pairEnds.get(key);
+                if (previousEnd != null && start < previousEnd) {
+                    continue;
+                }
+                pairEnds.put(key, matcher.end());
 
-                Matcher actionMatcher = actionArrayPattern.matcher(responseBody);
-                while (actionMatcher.find()) {
-                    String parameterArrayJson = actionMatcher.group(1);
-                    if (parameterArrayJson != null && !parameterArrayJson.trim().isEmpty()) {
-                        java.util.List<DescriptorInfo.ParameterInfo> foundParams = parseParametersFromJson(parameterArrayJson);
-                        parameters.addAll(foundParams);
-                    }
+                java.util.List<DescriptorInfo.ParameterInfo> parameters = index.computeIfAbsent(key, k -> new java.util.ArrayList<>());
+                String parameterArrayJson = matcher.group(2);
+                if (parameterArrayJson != null && !parameterArrayJson.trim().isEmpty()) {
+                    parameters.addAll(parseParametersFromJson(parameterArrayJson));
                 }
             }
-
         } catch (Exception e) {
-            api.logging().logToError("Error finding parameters for descriptor " + targetDescriptor + ": " + e.getMessage());
+            api.logging().logToError("Error indexing descriptor parameters: " + e.getMessage());
         }
 
-        return parameters;
+        return index;
     }
 
     /**
@@ -1936,6 +2391,21 @@ public class ActionsTab {
         }
     }
 
+    /**
+     * Helper class for an addModule() header whose factory body starts at bodyStart
+     */
+    private static class LWCModuleHeader {
+        final String depsArrayText;
+        final String factoryParamsText;
+        final int bodyStart;
+
+        LWCModuleHeader(String depsArrayText, String factoryParamsText, int bodyStart) {
+            this.depsArrayText = depsArrayText;
+            this.factoryParamsText = factoryParamsText;
+            this.bodyStart = bodyStart;
+        }
+    }
+
     /**
      * Helper class for tracking Apex dependencies within a module
      */
@@ -1953,40 +2423,38 @@ public class ActionsTab {
      * 2. Alias tracking (e.g., N=y(s))
      * 3. Method invocations (e.g., N.default({email:x}))
      */
-    private java.util.List<LWCApexMethod> extractLWCMethodsFromModules(String jsContent) {
+    private java.util.List<LWCApexMethod> extractLWCMethodsFromModules(CharSequence jsContent, LiteralScanner.Hits hits) {
         java.util.List<LWCApexMethod> results = new java.util.ArrayList<>();
 
         try {
-            // Performance safeguard: Skip very large files to prevent regex catastrophic backtracking
-            // and excessive character-by-character iteration in findMatchingBrace()
-            if (jsContent.length() > 2_000_000) {  // 2MB limit
-                api.logging().logToOutput("Skipping LWC extraction for file > 2MB (performance safeguard)");
-                return results;
-            }
-
-            // Pattern: $A.componentService.addModule('markup://...', \"path\",[deps],function(params){
-            // Limit deps array capture to prevent backtracking
-            Pattern modulePattern = Pattern.compile(
-                "\\$A\\.componentService\\.addModule\\('[^']+',\\s*\\\\\"([^\\\\\"]+)\\\\\"\\s*,\\s*(\\[[^\\]]{0,5000}\\])\\s*,\\s*function\\s*\\(([^)]*)\\)\\s*\\{",
-                Pattern.DOTALL
-            );
+            // Collect the module headers first, then find every body end in a single pass over the file
+            java.util.List<LWCModuleHeader> modules = new java.util.ArrayList<>();
+            LiteralScanner.CandidateMatcher moduleMatcher = hits.matcher(LWC_MODULE_PATTERN, jsContent, SCAN_ADD_MODULE);
+            while (moduleMatcher.find()) {
+                modules.add(new LWCModuleHeader(moduleMatcher.group(2), moduleMatcher.group(3), moduleMatcher.end()));
+            }
+
+            int[] openPositions = new int[modules.size()];
+            for (int m = 0; m < modules.size(); m++) {
+                openPositions[m] = modules.get(m).bodyStart - 1;
+            }
+            int[] bodyEnds = findMatchingBraces(jsContent, openPositions);
 
-            Matcher moduleMatcher = modulePattern.matcher(jsContent);
-            int moduleCount = 0;
-            int maxModules = 50;  // Limit number of modules to process
+            // Whole-file indexes for the fallback strategies, built on first use
+            java.util.Map<String, java.util.Set<String>> methodReferenceIndex = null;
+            java.util.Map<String, java.util.Set<String>> ternaryMethodIndex = null;
 
-            while (moduleMatcher.find() && moduleCount < maxModules) {
-                moduleCount++;
-                String modulePath = moduleMatcher.group(1);
-                String depsArrayText = moduleMatcher.group(2);
-                String factoryParamsText = moduleMatcher.group(3);
+            for (int m = 0; m < modules.size(); m++) {
+                LWCModuleHeader module = modules.get(m);
+                String depsArrayText = module.depsArrayText;
+                String factoryParamsText = module.factoryParamsText;
 
                 // Extract factory body
-                int bodyStart = moduleMatcher.end();
-                int bodyEnd = findMatchingBrace(jsContent, bodyStart - 1);
+                int bodyStart = module.bodyStart;
+                int bodyEnd = bodyEnds[m];
                 if (bodyEnd == -1) continue;
 
-                String factoryBody = jsContent.substring(bodyStart, bodyEnd);
+                String factoryBody = jsContent.subSequence(bodyStart, bodyEnd).toString();
 
                 // Extract dependencies and factory parameters
                 java.util.List<String> deps = extractDepsArrayInOrder(depsArrayText);
@@ -2047,8 +2515,10 @@ public class ActionsTab {
                     // Note: Search the ENTIRE JS file, not just this module, because the method might be
                     // exported from this module but used in another module
                     if (paramNames.isEmpty()) {
-                        java.util.List<String> params = findLWCMethodReferenceParameters(jsContent, identifiers, apexDep.methodName);
-                        paramNames.addAll(params);
+                        if (methodReferenceIndex == null) {
+                            methodReferenceIndex = indexLWCMethodReferenceParameters(jsContent);
+                        }
+                        paramNames.addAll(methodReferenceIndex.getOrDefault(apexDep.methodName, java.util.Set.of()));
                     }
 
                     // Strategy 4: Search for ternary/conditional method selection pattern
@@ -2056,8 +2526,14 @@ public class ActionsTab {
                     // Both methods in the ternary share the same params object
                     // Example: apexMethod:e.options.useContinuation?o.genericInvoke2:o.genericInvoke2NoCont
                     if (paramNames.isEmpty()) {
-                        java.util.List<String> params = findLWCTernaryMethodParameters(jsContent, identifiers, apexDep.methodName);
-                        paramNames.addAll(params);
+                        if (ternaryMethodIndex == null) {
+                            int[] moduleReach = new int[bodyEnds.length];
+                            for (int r = 0; r < bodyEnds.length; r++) {
+                                moduleReach[r] = Math.max(bodyEnds[r], r > 0 ? moduleReach[r - 1] : -1);
+                            }
+                            ternaryMethodIndex = indexLWCTernaryMethodParameters(jsContent, openPositions, moduleReach);
+                        }
+                        paramNames.addAll(ternaryMethodIndex.getOrDefault(apexDep.methodName.toLowerCase(), java.util.Set.of()));
                     }
 
                     // Create ParameterInfo objects
@@ -2078,35 +2554,121 @@ public class ActionsTab {
     }
 
     /**
-     * Find matching closing brace for a given opening brace position
-     * Limited search to prevent excessive iteration on large files
+     * Find the matching closing brace of each module body opening brace (ascending) in one pass
+     * Module code is embedded in JSON strings, so it is lexed with JSON escapes decoded; bodies
+     * the lexer cannot close fall back to plain brace counting. Returns -1 for a brace that is
+     * never closed.
+     */
+    private int[] findMatchingBraces(CharSequence text, int[] openPositions) {
+        int[] ends = new int[openPositions.length];
+        java.util.Arrays.fill(ends, -1);
+
+        // Depth each still-open module body was opened at; only as deep as the modules nest
+        int[] openIndexes = new int[4];
+        int[] openDepths = new int[4];
+        int open = 0;
+        int next = 0;
+        JsLexer lexer = null;
+        while (next < openPositions.length || open > 0) {
+            if (open == 0) {
+                // Lex each outermost module body on its own, skipping the text between them
+                lexer = new JsLexer(text, openPositions[next], true);
+            }
+            int event = lexer.next();
+            if (event == JsLexer.END) {
+                break;
+            }
+
+            // Skip module bodies that the lexer read as part of a string, comment or regex
+            while (next < openPositions.length && openPositions[next] < lexer.tokenStart()) {
+                next++;
+            }
+
+            if (event == JsLexer.OPEN_BRACE && next < openPositions.length && lexer.tokenStart() == openPositions[next]) {
+                if (open == openIndexes.length) {
+                    openIndexes = java.util.Arrays.copyOf(openIndexes, open * 2);
+                    openDepths = java.util.Arrays.copyOf(openDepths, open * 2);
+                }
+                openIndexes[open] = next++;
+                openDepths[open++] = lexer.depth() - 1;
+            } else if (event == JsLexer.CLOSE_BRACE && open > 0 && lexer.depth() == openDepths[open - 1]) {
+                ends[openIndexes[--open]] = lexer.tokenStart();
+            }
+        }
+
+        int unmatched = 0;
+        for (int end : ends) {
+            if (end == -1) {
+                unmatched++;
+            }
+        }
+        if (unmatched > 0) {
+            int[] indexes = new int[unmatched];
+            int[] positions = new int[unmatched];
+            for (int m = 0, u = 0; m < ends.length; m++) {
+                if (ends[m] == -1) {
+                    indexes[u] = m;
+                    positions[u++] = openPositions[m];
+                }
+            }
+            int[] counted = countMatchingBraces(text, positions);
+            for (int u = 0; u < unmatched; u++) {
+                ends[indexes[u]] = counted[u];
+            }
+        }
+        return ends;
+    }
+
+    /**
+     * Find the matching closing brace of each opening brace position (ascending) by plain
+     * brace counting in one pass. Returns -1 for a brace that is never closed.
      */
-    private int findMatchingBrace(String text, int openPos) {
-        int depth = 1;
-        int maxSearch = Math.min(openPos + 100000, text.length());  // Limit search to 100KB
-        for (int i = openPos + 1; i < maxSearch; i++) {
+    private int[] countMatchingBraces(CharSequence text, int[] openPositions) {
+        int[] ends = new int[openPositions.length];
+        java.util.Arrays.fill(ends, -1);
+        if (openPositions.length == 0) {
+            return ends;
+        }
+
+        int[] openIndexes = new int[4];
+        int[] openDepths = new int[4];
+        int open = 0;
+        int next = 0;
+        int depth = 0;
+        for (int i = openPositions[0]; i < text.length() && (next < openPositions.length || open > 0); i++) {
             char c = text.charAt(i);
-            if (c == '{') depth++;
-            else if (c == '}') {
+            if (next < openPositions.length && i == openPositions[next]) {
+                if (open == openIndexes.length) {
+                    openIndexes = java.util.Arrays.copyOf(openIndexes, open * 2);
+                    openDepths = java.util.Arrays.copyOf(openDepths, open * 2);
+                }
+                openIndexes[open] = next++;
+                openDepths[open++] = depth++;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}') {
                 depth--;
-                if (depth == 0) return i;
+                if (open > 0 && depth == openDepths[open - 1]) {
+                    ends[openIndexes[--open]] = i;
+                }
             }
         }
-        return -1;  // Not found within search limit
+        return ends;
     }
 
     /**
      * Extract dependencies from array text, preserving order
-     * Handles escaped quotes in JSON: [\"dep1\",\"dep2\"]
+     * The array is module code inside a JSON string: [\"dep1\",\"dep2\"]
      */
     private java.util.List<String> extractDepsArrayInOrder(String depsArrayText) {
         java.util.List<String> deps = new java.util.ArrayList<>();
-        Pattern stringPattern = Pattern.compile("\\\\\"([^\\\\\"]*?)\\\\\"");
-        Matcher matcher = stringPattern.matcher(depsArrayText);
+        JsLexer lexer = new JsLexer(depsArrayText, 0, true);
 
-        while (matcher.find()) {
-            String dep = matcher.group(1);
-            deps.add(dep);
+        int event;
+        while ((event = lexer.next()) != JsLexer.END) {
+            if (event == JsLexer.STRING) {
+                deps.add(lexer.stringValue());
+            }
         }
 
         return deps;
@@ -2216,35 +2778,34 @@ public class ActionsTab {
     }
 
     /**
-     * Find parameters from method reference pattern: anyIdentifier.methodName,[{params}]
+     * Index parameters from the method reference pattern: anyIdentifier.methodName,[{params}]
      * This handles cases where the method is passed as a reference to another function
      * Example: c.default(..., r.logUsageInteractionEvent, [{componentType:"...", componentName:"..."}])
      *
      * Note: This searches the entire JS content because the method may be exported from one module
-     * and used in a different module with a different identifier name.
+     * and used in a different module with a different identifier name. The file is searched once
+     * and the parameter names are keyed by method name.
      *
      * @param jsContent The entire JavaScript file content to search
-     * @param identifiers The identifiers from the exporting module (not used, kept for signature compatibility)
-     * @param methodName The Apex method name to search for
-     * @return List of parameter names found
+     * @return Parameter names found, by method name
      */
-    private java.util.List<String> findLWCMethodReferenceParameters(String jsContent, java.util.Set<String> identifiers, String methodName) {
-        java.util.Set<String> paramNames = new java.util.LinkedHashSet<>();
+    private java.util.Map<String, java.util.Set<String>> indexLWCMethodReferenceParameters(CharSequence jsContent) {
+        java.util.Map<String, java.util.Set<String>> index = new java.util.HashMap<>();
 
         try {
             // Pattern: ANY identifier followed by .methodName,[{...}]
             // We can't rely on the factory param identifier because the method may be used in a different module
-            String patternStr = "\\b[A-Za-z_$][\\w$]*\\." + methodName + "\\s*,\\s*\\[\\s*\\{([^}]+)\\}";
-            Pattern pattern = Pattern.compile(patternStr);
-            Matcher matcher = pattern.matcher(jsContent);
+            Matcher matcher = LWC_METHOD_REFERENCE_PATTERN.matcher(jsContent);
 
             while (matcher.find()) {
-                String objectLiteral = matcher.group(1);
+                String methodName = matcher.group(1);
+                String objectLiteral = matcher.group(2);
 
                 // Extract parameter names from the object literal
                 Pattern keyPattern = Pattern.compile("([A-Za-z_$][\\w$]*)\\s*:");
                 Matcher keyMatcher = keyPattern.matcher(objectLiteral);
 
+                java.util.Set<String> paramNames = index.computeIfAbsent(methodName, k -> new java.util.LinkedHashSet<>());
                 while (keyMatcher.find()) {
                     String paramName = keyMatcher.group(1);
                     if (!isJavaScriptKeyword(paramName)) {
@@ -2256,86 +2817,80 @@ public class ActionsTab {
             api.logging().logToError("Error finding method reference parameters: " + e.getMessage());
         }
 
-        return new java.util.ArrayList<>(paramNames);
+        return index;
     }
 
     /**
-     * Find parameters from ternary/conditional method selection pattern
+     * Index parameters from the ternary/conditional method selection pattern
      * This handles cases like: {params:{input:...,options:...}, apexMethod:condition?id.method1:id.method2}
      * Both methods in the ternary share the same params object.
      *
      * @param jsContent The entire JavaScript file content to search
-     * @param identifiers The identifiers from the exporting module
-     * @param methodName The Apex method name to search for
-     * @return List of parameter names found
+     * @param openPositions Opening brace positions of the module bodies, ascending
+     * @param moduleReach Furthest closing brace position among the module bodies opened so far
+     * @return Parameter names found, by lower-cased method name (JS may use different casing)
      */
-    private java.util.List<String> findLWCTernaryMethodParameters(String jsContent, java.util.Set<String> identifiers, String methodName) {
-        java.util.Set<String> paramNames = new java.util.LinkedHashSet<>();
+    private java.util.Map<String, java.util.Set<String>> indexLWCTernaryMethodParameters(CharSequence jsContent, int[] openPositions, int[] moduleReach) {
+        java.util.Map<String, java.util.Set<String>> index = new java.util.HashMap<>();
 
         try {
             // Pattern: return{params:{...},apexMethod:...?identifier.method1:identifier.method2}
             // The params object can contain nested ternaries, so we need to carefully extract it
 
-            // First, find all occurrences of the methodName in apexMethod ternaries
-            String ternaryPatternStr = "apexMethod:[^?]+\\?[^:]*\\b[A-Za-z_$][\\w$]*\\.(\\w+)\\b[^:]*:\\s*\\b[A-Za-z_$][\\w$]*\\.(\\w+)\\b";
-            Pattern ternaryPattern = Pattern.compile(ternaryPatternStr);
-            Matcher ternaryMatcher = ternaryPattern.matcher(jsContent);
+            // First, find all apexMethod ternaries
+            Matcher ternaryMatcher = LWC_TERNARY_METHOD_PATTERN.matcher(jsContent);
 
             while (ternaryMatcher.find()) {
                 String method1 = ternaryMatcher.group(1);
                 String method2 = ternaryMatcher.group(2);
+                java.util.Set<String> paramNames = new java.util.LinkedHashSet<>();
 
-                // Check if either side matches our target method (case-insensitive because JS may use different casing)
-                if (method1.equalsIgnoreCase(methodName) || method2.equalsIgnoreCase(methodName)) {
-                    // Found a ternary with our method! Now extract the params object that comes before it
-                    int ternaryStart = ternaryMatcher.start();
+                // Extract the params object that comes before the ternary
+                int ternaryStart = ternaryMatcher.start();
 
-                    // Search backwards for params:{...} in the same return statement
-                    String before = jsContent.substring(Math.max(0, ternaryStart - 1000), ternaryStart);
+                // Search backwards for params:{...} in the same return statement
+                String before = jsContent.subSequence(Math.max(0, ternaryStart - 1000), ternaryStart).toString();
 
-                    // Find the params object (looking for the last occurrence before apexMethod)
-                    Pattern paramsPattern = Pattern.compile("params:\\s*\\{");
-                    Matcher paramsMatcher = paramsPattern.matcher(before);
+                // Find the params object (looking for the last occurrence before apexMethod)
+                Pattern paramsPattern = Pattern.compile("params:\\s*\\{");
+                Matcher paramsMatcher = paramsPattern.matcher(before);
 
-                    int lastParamsStart = -1;
-                    while (paramsMatcher.find()) {
-                        lastParamsStart = paramsMatcher.start();
-                    }
+                int lastParamsStart = -1;
+                while (paramsMatcher.find()) {
+                    lastParamsStart = paramsMatcher.start();
+                }
 
-                    if (lastParamsStart != -1) {
-                        // Extract the params object content
-                        int paramsObjStart = before.indexOf("{", lastParamsStart) + 1;
-                        int paramsObjEnd = findMatchingBraceInLWCCode(before, paramsObjStart - 1);
+                if (lastParamsStart != -1) {
+                    // Extract the params object content
+                    int paramsObjStart = before.indexOf("{", lastParamsStart) + 1;
+                    boolean embedded = isInsideModuleBody(ternaryStart, openPositions, moduleReach);
+                    int paramsObjEnd = JsLexer.matchingBrace(before, paramsObjStart - 1, embedded);
 
-                        if (paramsObjEnd != -1) {
-                            String paramsObject = before.substring(paramsObjStart, paramsObjEnd);
-                            extractLWCParamNames(paramsObject, paramNames);
-                        }
+                    if (paramsObjEnd != -1) {
+                        String paramsObject = before.substring(paramsObjStart, paramsObjEnd);
+                        extractLWCParamNames(paramsObject, paramNames);
                     }
                 }
+
+                // Both sides of the ternary share the params object
+                index.computeIfAbsent(method1.toLowerCase(), k -> new java.util.LinkedHashSet<>()).addAll(paramNames);
+                index.computeIfAbsent(method2.toLowerCase(), k -> new java.util.LinkedHashSet<>()).addAll(paramNames);
             }
 
         } catch (Exception e) {
             api.logging().logToError("Error finding ternary method parameters: " + e.getMessage());
         }
 
-        return new java.util.ArrayList<>(paramNames);
+        return index;
     }
 
     /**
-     * Find matching closing brace in LWC code
+     * Check whether a position lies inside one of the module bodies (whose code is embedded in a JSON string)
      */
-    private int findMatchingBraceInLWCCode(String text, int openPos) {
-        int depth = 1;
-        for (int i = openPos + 1; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (c == '{') depth++;
-            else if (c == '}') {
-                depth--;
-                if (depth == 0) return i;
-            }
-        }
-        return -1;
+    private boolean isInsideModuleBody(int pos, int[] openPositions, int[] moduleReach) {
+        int m = java.util.Arrays.binarySearch(openPositions, pos);
+        m = m >= 0 ? m : -m - 2;
+        return m >= 0 && moduleReach[m] > pos;
     }
 
     /**
@@ -2495,8 +3050,8 @@ public class ActionsTab {
     /**
      * Add discovered descriptor to results with formatted display (separate Aura and LWC categories)
      */
-    private void addDescriptorToResults(DescriptorInfo descriptorInfo, String sessionTimestamp) {
-        if (descriptorInfo == null || currentDescriptorResults == null) {
+    private void addDescriptorToResults(DescriptorInfo descriptorInfo, RouteDiscoveryResult results, String sessionTimestamp) {
+        if (descriptorInfo == null || results == null) {
             return;
         }
 
@@ -2519,25 +3074,10 @@ public class ActionsTab {
         }
 
         // === Category 1: Simple List - Just descriptor names ===
-        java.util.List<String> listEntries = currentDescriptorResults.getRoutesForCategory(listCategoryName);
-        if (listEntries == null) {
-            listEntries = new java.util.ArrayList<>();
-        } else {
-            listEntries = new java.util.ArrayList<>(listEntries); // Create mutable copy
-        }
-
-        // Add just the descriptor name to the simple list
-        listEntries.add(descriptorInfo.getDescriptor());
-        currentDescriptorResults.addRouteCategory(listCategoryName, listEntries);
+        // (sitemap workers append descriptors concurrently)
+        results.appendRoute(listCategoryName, descriptorInfo.getDescriptor());
 
         // === Category 2: Detailed Information with separators ===
-        java.util.List<String> detailEntries = currentDescriptorResults.getRoutesForCategory(detailsCategoryName);
-        if (detailEntries == null) {
-            detailEntries = new java.util.ArrayList<>();
-        } else {
-            detailEntries = new java.util.ArrayList<>(detailEntries); // Create mutable copy
-        }
-
         // Format parameters for display
         String paramsDisplay;
         if (descriptorInfo.getParameters().isEmpty()) {
@@ -2577,35 +3117,18 @@ public class ActionsTab {
         // Create separator for visual distinction between entries
         String separator = "================================================================================";
 
-        // Format the complete detailed entry with separator
-        String detailEntry;
+        // Format the complete detailed entry; entries after the first are preceded by the separator
         String descriptorLabel = isLWC ? "Method" : "Descriptor";
+        String detailEntry = String.format(
+            "%s:\n%s\n\nParameters:\n%s\n\n%s:\n%s",
+            descriptorLabel,
+            descriptorInfo.getDescriptor(),
+            paramsDisplay,
+            sampleLabel,
+            sampleMessage
+        );
 
-        if (detailEntries.isEmpty()) {
-            // First entry - no leading separator
-            detailEntry = String.format(
-                "%s:\n%s\n\nParameters:\n%s\n\n%s:\n%s",
-                descriptorLabel,
-                descriptorInfo.getDescriptor(),
-                paramsDisplay,
-                sampleLabel,
-                sampleMessage
-            );
-        } else {
-            // Subsequent entries - add separator before
-            detailEntry = String.format(
-                "%s\n\n%s:\n%s\n\nParameters:\n%s\n\n%s:\n%s",
-                separator,
-                descriptorLabel,
-                descriptorInfo.getDescriptor(),
-                paramsDisplay,
-                sampleLabel,
-                sampleMessage
-            );
-        }
-
-        detailEntries.add(detailEntry);
-        currentDescriptorResults.addRouteCategory(detailsCategoryName, detailEntries);
+        results.appendRoute(detailsCategoryName, detailEntry, separator + "\n\n");
 
         String typeLabel = isLWC ? "LWC Apex method" : "Aura descriptor";
         api.logging().logToOutput("Found " + typeLabel + ": " + descriptorInfo.getDescriptor() + " with " + descriptorInfo.getParameters().size() + " parameters");
@@ -2614,65 +3137,99 @@ public class ActionsTab {
     /**
      * Process a JavaScript response to extract meaningful paths
      */
-    private void processJavaScriptResponseForPaths(HttpRequestResponse jsResponse, BaseRequest baseRequest, String sessionTimestamp) {
-        if (jsResponse == null || jsResponse.response() == null) {
+    private void processJavaScriptResponseForPaths(ScriptBody body, String sessionTimestamp) {
+        if (body.item.response() == null) {
             return;
         }
 
         try {
-            String responseBody = jsResponse.response().bodyToString();
-            String sourceUrl = jsResponse.request().url();
+            for (String[] jsPath : jsPathsFor(body)) {
+                addJSPathToResults(jsPath[1], jsPath[0], currentJSPathsResults, discoveredJSPaths, sessionTimestamp);
+            }
 
-            // Extract the base domain for absolute URL filtering
-            String baseDomain = null;
-            try {
-                java.net.URI uri = new java.net.URI(sourceUrl);
-                baseDomain = uri.getHost();
-            } catch (Exception e) {
-                api.logging().logToOutput("Could not parse source URL for domain extraction: " + sourceUrl);
+        } catch (Exception e) {
+            api.logging().logToError("Exception processing JavaScript response for paths: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Paths of a response as {type, path} pairs, keeping absolute URLs only when they are on the
+     * response's own domain. Identical bundles are only analyzed once; the domain check is per response.
+     */
+    private List<String[]> jsPathsFor(ScriptBody body) {
+        String sourceUrl = body.item.request().url();
+
+        // Extract the base domain for absolute URL filtering
+        String baseDomain = null;
+        try {
+            java.net.URI uri = new java.net.URI(sourceUrl);
+            baseDomain = uri.getHost();
+        } catch (Exception e) {
+            api.logging().logToOutput("Could not parse source URL for domain extraction: " + sourceUrl);
+        }
+
+        List<String> records = extractionCache.get(JS_PATHS_EXTRACTOR, body.hash());
+        if (records == null) {
+            records = extractJSPathRecords(body.text(), body.hits());
+            extractionCache.put(JS_PATHS_EXTRACTOR, body.hash(), records);
+        }
+
+        // Records are "type<TAB>host<TAB>path", where host is only set for absolute URLs
+        List<String[]> jsPaths = new ArrayList<>(records.size());
+        for (String record : records) {
+            String[] fields = record.split("\t", 3);
+            if (fields.length < 3) {
+                continue;
+            }
+            if (fields[1].isEmpty() || (baseDomain != null && baseDomain.equalsIgnoreCase(fields[1]))) {
+                jsPaths.add(new String[] { fields[0], fields[2] });
             }
+        }
+        return jsPaths;
+    }
 
-            // Extract relative paths (starting with /, ./, ../)
-            Matcher relativeMatcher = JS_RELATIVE_PATH_PATTERN.matcher(responseBody);
-            while (relativeMatcher.find()) {
-                String path = relativeMatcher.group(1);
-                if (isValidJSPath(path)) {
-                    addJSPathToResults(path, "Relative Path", jsResponse, sessionTimestamp);
-                }
+    /**
+     * Extract the candidate paths of a JavaScript body as "type<TAB>host<TAB>path" records
+     */
+    private List<String> extractJSPathRecords(CharSequence responseBody, LiteralScanner.Hits hits) {
+        List<String> records = new ArrayList<>();
+
+        // Extract relative paths (starting with /, ./, ../)
+        LiteralScanner.CandidateMatcher relativeMatcher = hits.matcher(JS_RELATIVE_PATH_PATTERN, responseBody, SCAN_QUOTED_PATH);
+        while (relativeMatcher.find()) {
+            String path = relativeMatcher.group(1);
+            if (isValidJSPath(path)) {
+                records.add("Relative Path\t\t" + path);
             }
+        }
 
-            // Extract parameterized paths (with placeholders like {id})
-            Matcher paramMatcher = JS_PARAMETERIZED_PATH_PATTERN.matcher(responseBody);
-            while (paramMatcher.find()) {
-                String path = paramMatcher.group(1);
-                if (isValidJSPath(path)) {
-                    addJSPathToResults(path, "Parameterized Path", jsResponse, sessionTimestamp);
-                }
+        // Extract parameterized paths (with placeholders like {id})
+        LiteralScanner.CandidateMatcher paramMatcher = hits.matcher(JS_PARAMETERIZED_PATH_PATTERN, responseBody, SCAN_QUOTED_PATH);
+        while (paramMatcher.find()) {
+            String path = paramMatcher.group(1);
+            if (isValidJSPath(path)) {
+                records.add("Parameterized Path\t\t" + path);
             }
+        }
 
-            // Extract absolute URLs and filter for same domain
-            if (baseDomain != null) {
-                Matcher urlMatcher = JS_URL_PATH_PATTERN.matcher(responseBody);
-                while (urlMatcher.find()) {
-                    String fullUrl = urlMatcher.group(1);
-                    String urlPath = urlMatcher.group(2);
+        // Extract absolute URLs along with their host
+        LiteralScanner.CandidateMatcher urlMatcher = hits.matcher(JS_URL_PATH_PATTERN, responseBody, SCAN_QUOTED_URL);
+        while (urlMatcher.find()) {
+            String fullUrl = urlMatcher.group(1);
+            String urlPath = urlMatcher.group(2);
 
-                    try {
-                        java.net.URI fullUri = new java.net.URI(fullUrl);
-                        // Only include URLs from the same domain
-                        if (baseDomain.equalsIgnoreCase(fullUri.getHost()) && urlPath != null && isValidJSPath(urlPath)) {
-                            addJSPathToResults(urlPath, "Same-Domain Path", jsResponse, sessionTimestamp);
-                        }
-                    } catch (Exception e) {
-                        // Skip malformed URLs
-                        continue;
-                    }
+            try {
+                String host = new java.net.URI(fullUrl).getHost();
+                if (host != null && urlPath != null && isValidJSPath(urlPath)) {
+                    records.add("Same-Domain Path\t" + host + "\t" + urlPath);
                 }
+            } catch (Exception e) {
+                // Skip malformed URLs
+                continue;
             }
-
-        } catch (Exception e) {
-            api.logging().logToError("Exception processing JavaScript response for paths: " + e.getMessage());
         }
+
+        return records;
     }
 
     /**
@@ -2732,76 +3289,79 @@ public class ActionsTab {
     /**
      * Add a discovered JS path to the results, handling duplicates
      */
-    private void addJSPathToResults(String path, String pathType, HttpRequestResponse sourceResponse, String sessionTimestamp) {
-        if (path == null || discoveredJSPaths.contains(path) || !isValidPath(path)) {
+    private void addJSPathToResults(String path, String pathType, RouteDiscoveryResult results, Set<String> seenPaths, String sessionTimestamp) {
+        if (path == null || !isValidPath(path) || !seenPaths.add(path)) {
             return; // Skip duplicates and invalid paths
         }
 
-        // Add to discovered set
-        discoveredJSPaths.add(path);
-
         // Add to results by category - use timestamped category name for all paths
-        if (currentJSPathsResults != null) {
+        if (results != null) {
             String categoryName = "Potential Paths (" + sessionTimestamp + ")";
 
-            // Get existing routes for this category, or create new list
-            java.util.List<String> existingRoutes = currentJSPathsResults.getRoutesForCategory(categoryName);
-            if (existingRoutes == null) {
-                existingRoutes = new java.util.ArrayList<>();
-            } else {
-                existingRoutes = new java.util.ArrayList<>(existingRoutes); // Create mutable copy
-            }
-
-            // Add the new path (clean, without source info)
-            existingRoutes.add(path);
-
-            // Update the category
-            currentJSPathsResults.addRouteCategory(categoryName, existingRoutes);
+            // Add the new path (clean, without source info); sitemap workers append concurrently
+            results.appendRoute(categoryName, path);
 
             api.logging().logToOutput("Found JS path: " + path + " (" + pathType + ")");
         }
     }
 
     /**
-     * Perform specific object search by modifying the request and parsing the response
+     * Perform specific object search by modifying the request and parsing the response.
+     * Pages are requested until a short page, the "Maximum pages" limit or cancellation.
      */
     private void performSpecificObjectSearch(BaseRequest baseRequest, String resultId, String objectName) {
         api.logging().logToOutput("Starting specific object search for: " + objectName);
-        
+
+        int pageSize = (Integer) pageSizeSpinner.getValue();
+        int maxPages = (Integer) maxPagesSpinner.getValue();
+        java.util.concurrent.ExecutorService prefetchExecutor = ThreadManager.createManagedExecutor(1, "Auraditor-PagePrefetch");
+
         try {
-            // Escape the object name for JSON
-            String escapedObjectName = objectName.replace("\\", "\\\\").replace("\"", "\\\"");
-            
-            // Create the specific object payload with the escaped object name
-            String specificObjectPayload = String.format(SPECIFIC_OBJECT_PAYLOAD_TEMPLATE, escapedObjectName);
-            
-            // Create a modified request with the specific object payload in the message parameter
-            HttpRequest originalRequest = baseRequest.getRequestResponse().request();
-            HttpRequest specificObjectRequest = modifyMessageParameter(originalRequest, specificObjectPayload);
-            
-            // Send the request with preserved HTTP version
-            api.logging().logToOutput("Sending specific object request to: " + originalRequest.url());
-            HttpRequestResponse response = sendRequestWithPreservedHttpVersion(specificObjectRequest, baseRequest);
-            
-            if (response.response() == null) {
-                throw new RuntimeException("No response received");
-            }
-            
-            // Parse the response to extract object data
-            String responseBody = response.response().bodyToString();
-            api.logging().logToOutput("Specific object response received, parsing data...");
-            
-            // Pass the request ID to the parser
-            parseSpecificObjectResponse(responseBody, resultId, objectName, baseRequest.getId());
-            
+            // Make sure the results holder exists before pages start arriving
+            tabObjectResults.computeIfAbsent(resultId, k -> new ObjectByNameResult());
+
+            PageWalker walker = new PageWalker(prefetchExecutor, () -> operationCancelled);
+            PageWalker.Summary summary = walker.walk(FIRST_PAGE, maxPages, pageSize,
+                createObjectPageFetcher(baseRequest, objectName, pageSize),
+                createObjectPageHandler(resultId, objectName, baseRequest.getId(), pageSize, true, 0));
+
+            final int pages = summary.pages;
+            final int records = summary.rows;
+            SwingUtilities.invokeLater(() -> {
+                flushObjectUpdates();
+                ObjectByNameResult tabResult = tabObjectResults.get(resultId);
+                if (tabResult != null && !tabResult.isEmpty()) {
+                    resultTabCallback.createObjectByNameTab(resultId, tabResult);
+                }
+
+                clearBusyState();
+
+                if (operationCancelled) {
+                    showStatusMessage("Operation cancelled - " + records + " records retrieved for object '" + objectName + "'", Color.ORANGE);
+                } else if (records == 0) {
+                    showStatusMessage("✗ No results found for object '" + objectName + "' - " + resultId, Color.ORANGE);
+                    api.logging().logToOutput("No data found for object: " + objectName);
+                } else {
+                    showStatusMessage("✓ Found " + records + " records for object '" + objectName + "' in " + pages + " page(s) - " + resultId, Color.GREEN);
+                    api.logging().logToOutput("Specific object search completed successfully:");
+                    api.logging().logToOutput("  Object: " + objectName);
+                    api.logging().logToOutput("  Records found in " + objectName + " object: " + records + " (" + pages + " page(s))");
+                }
+            });
+
         } catch (Exception e) {
             api.logging().logToError("Specific object search failed: " + e.getMessage());
-            throw e;
+            throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e.getMessage(), e);
+        } finally {
+            prefetchExecutor.shutdownNow();
+            ThreadManager.unregisterExecutor(prefetchExecutor);
         }
     }
     
     /**
-     * Perform bulk object retrieval with incremental results and progress tracking
+     * Perform bulk object retrieval with incremental results and progress tracking.
+     * Requests are sent through a worker pool sized by the "Concurrent requests" spinner,
+     * each carrying up to "Actions per request" getItems actions.
      */
     private void performBulkObjectRetrieval(BaseRequest baseRequest, String tabId, Set<String> objectNames, String objectTypeDescription) {
         api.logging().logToOutput("Starting bulk object retrieval for " + objectNames.size() + " " + objectTypeDescription);
@@ -2821,196 +3381,243 @@ public class ActionsTab {
         });
         
         int totalObjects = objectNames.size();
-        final int[] successfulObjects = {0};
-        
+        AtomicInteger successfulObjects = new AtomicInteger(0);
+
+        boolean cancelled;
         try {
-            for (String objectName : objectNames) {
-                // Check if thread was interrupted (cancelled)
-                if (Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("Bulk object retrieval cancelled by user");
-                    SwingUtilities.invokeLater(() -> {
-                        clearBulkRetrievalState();
-                        currentOperationThread = null; // Clear thread reference
-                        
-                        // Create tab with whatever data was collected so far
-                        ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                        if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                            resultTabCallback.createObjectByNameTab(tabId, tabResult); // Use original tabId to update existing tab
-                            showStatusMessage("Operation cancelled - " + successfulObjects[0] + " objects retrieved", Color.ORANGE);
-                        } else {
-                            showStatusMessage("Operation cancelled", Color.RED);
-                        }
-                    });
-                    return;
+            cancelled = runObjectBatches(baseRequest, tabId, new ArrayList<>(objectNames), objectTypeDescription,
+                false, successfulObjects, null);
+        } catch (Exception e) {
+            SwingUtilities.invokeLater(() -> {
+                clearBulkRetrievalState();
+                currentOperationThread = null; // Clear thread reference
+                showErrorMessage("Bulk retrieval failed: " + e.getMessage());
+                api.logging().logToError("Bulk object retrieval failed: " + e.getMessage());
+            });
+            return;
+        }
+
+        if (cancelled) {
+            api.logging().logToOutput("Bulk object retrieval cancelled by user");
+            final int retrievedSoFar = successfulObjects.get();
+            SwingUtilities.invokeLater(() -> {
+                clearBulkRetrievalState();
+                currentOperationThread = null; // Clear thread reference
+
+                // Create tab with whatever data was collected so far
+                ObjectByNameResult tabResult = tabObjectResults.get(tabId);
+                if (tabResult != null && !tabResult.isEmpty()) {
+                    resultTabCallback.createObjectByNameTab(tabId, tabResult); // Use original tabId to update existing tab
+                    showStatusMessage("Operation cancelled - " + retrievedSoFar + " objects retrieved", Color.ORANGE);
+                } else {
+                    showStatusMessage("Operation cancelled", Color.RED);
                 }
-                
-                try {
-                    // Check for cancellation again before processing each object
-                    if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                        api.logging().logToOutput("Bulk object retrieval cancelled during processing");
-                        SwingUtilities.invokeLater(() -> {
-                            clearBulkRetrievalState();
-                            currentOperationThread = null; // Clear thread reference
+            });
+            return;
+        }
 
-                            // Create tab with whatever data was collected so far
-                            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                            if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                                showStatusMessage("Operation cancelled - " + successfulObjects[0] + " objects retrieved", Color.ORANGE);
-                            } else {
-                                showStatusMessage("Operation cancelled", Color.RED);
-                            }
-                        });
-                        return;
-                    }
-                    
-                    // Update progress tracking
-                    objectsRetrieved++;
-                    SwingUtilities.invokeLater(() -> {
-                        updateProgressDisplay();
-                        showStatusMessage("⟳ Retrieving " + objectTypeDescription + ": " + objectName, Color.BLUE);
-                    });
-                    
-                    // Escape the object name for JSON
-                    String escapedObjectName = objectName.replace("\\", "\\\\").replace("\"", "\\\"");
-                    
-                    // Create the specific object payload with the escaped object name
-                    String specificObjectPayload = String.format(SPECIFIC_OBJECT_PAYLOAD_TEMPLATE, escapedObjectName);
-                    
-                    // Create a modified request with the specific object payload in the message parameter
-                    HttpRequest originalRequest = baseRequest.getRequestResponse().request();
-                    HttpRequest specificObjectRequest = modifyMessageParameter(originalRequest, specificObjectPayload);
+        // Final update - remove in-progress indicator and show completion
+        final int finalSuccessful = successfulObjects.get();
+        final int finalTotal = totalObjects;
+        SwingUtilities.invokeLater(() -> {
+            clearBulkRetrievalState();
+            currentOperationThread = null; // Clear thread reference
+            
+            // Update tab title to remove "In Progress..." indicator
+            resultTabCallback.createObjectByNameTab(tabId, tabObjectResults.get(tabId));
+            
+            // Show completion status
+            Color statusColor = finalSuccessful == finalTotal ? Color.GREEN : Color.ORANGE;
+            showStatusMessage("✓ Bulk retrieval completed: " + finalSuccessful + "/" + finalTotal + " " + objectTypeDescription + " - " + tabId, statusColor);
+            
+            api.logging().logToOutput("Bulk object retrieval completed:");
+            api.logging().logToOutput("  Type: " + objectTypeDescription);
+            api.logging().logToOutput("  Successful: " + finalSuccessful + "/" + finalTotal);
+        });
+    }
 
-                    // Check for cancellation BEFORE sending request (this is critical)
-                    if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                        api.logging().logToOutput("Bulk object retrieval cancelled before sending request for: " + objectName);
-                        SwingUtilities.invokeLater(() -> {
-                            clearBulkRetrievalState();
-                            currentOperationThread = null;
+    /**
+     * Send getItems requests for the given objects on a bounded worker pool, packing
+     * "Actions per request" objects into each request.
+     *
+     * @param wordlistMode only add objects whose action shows they exist (foundObjects counts them)
+     * @return true if the run was cancelled before all batches completed
+     */
+    private boolean runObjectBatches(BaseRequest baseRequest, String tabId, List<String> objectNames, String description,
+                                     boolean wordlistMode, AtomicInteger successfulObjects, AtomicInteger foundObjects) {
+        int batchSize = (Integer) batchSizeSpinner.getValue();
+        List<List<String>> batches = AuraActionBatch.partition(objectNames, batchSize);
+
+        int pageSize = (Integer) pageSizeSpinner.getValue();
+        int maxPages = (Integer) maxPagesSpinner.getValue();
+
+        int threadCount = Math.max(1, Math.min((Integer) threadCountSpinner.getValue(), Math.max(1, batches.size())));
+        java.util.concurrent.ExecutorService executor = ThreadManager.createManagedExecutor(threadCount, "Auraditor-BulkRetrieval");
+        // Separate pool for next-page requests so a worker never waits on its own pool
+        java.util.concurrent.ExecutorService prefetchExecutor = ThreadManager.createManagedExecutor(
+            Math.min(threadCount, PREFETCH_THREADS), "Auraditor-PagePrefetch");
+        currentBulkExecutor = executor;
+        api.logging().logToOutput("Sending " + objectNames.size() + " object request(s) as " + batches.size() +
+            " request(s) of up to " + batchSize + " action(s) using " + threadCount + " concurrent request(s)");
 
-                            // Create tab with whatever data was collected so far
-                            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                            if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                                showStatusMessage("Operation cancelled - " + successfulObjects[0] + " objects retrieved", Color.ORANGE);
-                            } else {
-                                showStatusMessage("Operation cancelled", Color.RED);
-                            }
-                        });
-                        return;
-                    }
+        try {
+            for (List<String> batch : batches) {
+                executor.submit(() -> retrieveObjectBatch(baseRequest, tabId, batch, description, wordlistMode,
+                    successfulObjects, foundObjects, pageSize, maxPages, prefetchExecutor));
+            }
+            executor.shutdown();
 
-                    // Send the request
-                    api.logging().logToOutput("Sending HTTP request for object: " + objectName);
-                    HttpRequestResponse response = sendRequestWithPreservedHttpVersion(specificObjectRequest, baseRequest);
-                    api.logging().logToOutput("HTTP request completed for object: " + objectName);
-                    
-                    // Check for cancellation after request
-                    if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                        api.logging().logToOutput("Bulk object retrieval cancelled after request");
-                        SwingUtilities.invokeLater(() -> {
-                            clearBulkRetrievalState();
-                            currentOperationThread = null; // Clear thread reference
+            // Wait for the workers, stopping them as soon as the user cancels
+            while (!executor.awaitTermination(200, java.util.concurrent.TimeUnit.MILLISECONDS)) {
+                if (operationCancelled || Thread.currentThread().isInterrupted()) {
+                    executor.shutdownNow();
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            executor.shutdownNow();
+            throw e;
+        } finally {
+            prefetchExecutor.shutdownNow();
+            ThreadManager.unregisterExecutor(prefetchExecutor);
+            ThreadManager.unregisterExecutor(executor);
+            currentBulkExecutor = null;
+        }
 
-                            // Create tab with whatever data was collected so far
-                            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                            if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                                showStatusMessage("Operation cancelled - " + successfulObjects[0] + " objects retrieved", Color.ORANGE);
-                            } else {
-                                showStatusMessage("Operation cancelled", Color.RED);
-                            }
-                        });
-                        return;
-                    }
-                    
-                    if (response.response() == null) {
-                        api.logging().logToError("No response received for object: " + objectName);
-                        continue;
-                    }
-                    
-                    // Check for cancellation before parsing response
-                    if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                        api.logging().logToOutput("Bulk object retrieval cancelled before parsing response");
-                        SwingUtilities.invokeLater(() -> {
-                            clearBulkRetrievalState();
-                            currentOperationThread = null; // Clear thread reference
+        return operationCancelled || Thread.currentThread().isInterrupted();
+    }
 
-                            // Create tab with whatever data was collected so far
-                            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                            if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                                showStatusMessage("Operation cancelled - " + successfulObjects[0] + " objects retrieved", Color.ORANGE);
-                            } else {
-                                showStatusMessage("Operation cancelled", Color.RED);
-                            }
-                        });
-                        return;
-                    }
+    /**
+     * Retrieve one batch of objects on a bulk retrieval worker thread. The first page of every
+     * object comes from the batched request; objects with a full page continue page by page.
+     */
+    private void retrieveObjectBatch(BaseRequest baseRequest, String tabId, List<String> objectNames, String description,
+                                     boolean wordlistMode, AtomicInteger successfulObjects, AtomicInteger foundObjects,
+                                     int pageSize, int maxPages, java.util.concurrent.ExecutorService prefetchExecutor) {
+        // Check for cancellation before processing each batch
+        if (operationCancelled || Thread.currentThread().isInterrupted()) {
+            return;
+        }
 
-                    // Parse the response to extract object data
-                    String responseBody = response.response().bodyToString();
+        String batchLabel = objectNames.size() == 1 ? objectNames.get(0) :
+            objectNames.get(0) + " (+" + (objectNames.size() - 1) + " more)";
 
-                    // Parse and immediately add to tab using a modified parseSpecificObjectResponse
-                    parseBulkObjectResponseIncremental(responseBody, tabId, objectName, baseRequest.getId());
-                    successfulObjects[0]++;
-                    
-                    // Small delay to prevent overwhelming the server - adjusted based on thread count
-                    try {
-                        int threadCount = (Integer) threadCountSpinner.getValue();
-                        int delayMs = Math.max(50, 200 / threadCount); // Faster with more "threads"
-                        Thread.sleep(delayMs);
-                    } catch (InterruptedException e) {
-                        api.logging().logToOutput("Bulk object retrieval interrupted by user");
-                        SwingUtilities.invokeLater(() -> {
-                            clearBulkRetrievalState();
-                            currentOperationThread = null; // Clear thread reference
-                            
-                            // Create tab with whatever data was collected so far
-                            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                            if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                resultTabCallback.createObjectByNameTab(tabId, tabResult); // Use original tabId to update existing tab
-                                showStatusMessage("Operation cancelled - " + successfulObjects[0] + " objects retrieved", Color.ORANGE);
-                            } else {
-                                showStatusMessage("Operation cancelled", Color.RED);
-                            }
-                        });
-                        Thread.currentThread().interrupt(); // Preserve interrupt status
-                        return;
+        try {
+            // Update progress tracking
+            objectsRetrieved.addAndGet(objectNames.size());
+            SwingUtilities.invokeLater(() -> {
+                updateProgressDisplay();
+                showStatusMessage("⟳ " + (wordlistMode ? "Scanning wordlist" : "Retrieving " + description) + ": " + batchLabel, Color.BLUE);
+            });
+
+            // Pack one getItems action per object, each with a unique id
+            AuraActionBatch batch = new AuraActionBatch();
+            for (String objectName : objectNames) {
+                // Escape the object name for JSON
+                String escapedObjectName = objectName.replace("\\", "\\\\").replace("\"", "\\\"");
+                batch.addAction(objectName, SPECIFIC_OBJECT_ACTION_TEMPLATE, escapedObjectName, pageSize, FIRST_PAGE);
+            }
+
+            // Create a modified request with the batched payload in the message parameter
+            HttpRequest batchRequest = buildMessageRequest(baseRequest, batch.toMessage());
+
+            // Check for cancellation BEFORE sending request (this is critical)
+            if (operationCancelled || Thread.currentThread().isInterrupted()) {
+                api.logging().logToOutput("Bulk object retrieval cancelled before sending request for: " + batchLabel);
+                return;
+            }
+
+            // Send the request
+            api.logging().logToOutput("Sending HTTP request for object: " + batchLabel);
+            HttpRequestResponse response = sendRequestWithPreservedHttpVersion(batchRequest, baseRequest);
+            api.logging().logToOutput("HTTP request completed for object: " + batchLabel);
+
+            // Check for cancellation after request
+            if (operationCancelled || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            if (response.response() == null) {
+                api.logging().logToError("No response received for object: " + batchLabel);
+                return;
+            }
+
+            // Route each action in the response back to its object by id; rows go straight to the tab's store
+            Map<Integer, NdjsonResultStore.ValueWriter> rowWriters = new HashMap<>();
+            Map<String, AuraActionStreamReader.ActionSummary> actionResults = batch.demultiplexRows(
+                response.response().body().getBytes(), objectRowSinks(tabId, rowWriters));
+            for (Map.Entry<String, AuraActionStreamReader.ActionSummary> entry : actionResults.entrySet()) {
+                String objectName = entry.getKey();
+                AuraActionStreamReader.ActionSummary actionResponse = entry.getValue();
+                if (actionResponse == null) {
+                    api.logging().logToError("No action returned in response for object: " + objectName);
+                    continue;
+                }
+                successfulObjects.incrementAndGet();
+
+                if (wordlistMode) {
+                    if (!isWordlistObjectFound(actionResponse)) {
+                        api.logging().logToOutput("Skipped object (no valid data): " + objectName);
+                        continue;
                     }
-                    
-                } catch (Exception e) {
-                    api.logging().logToError("Failed to retrieve object '" + objectName + "': " + e.getMessage());
+                    foundObjects.incrementAndGet();
+                    api.logging().logToOutput("Added object to tab: " + objectName);
+                }
+
+                if (!hasObjectRows(objectName, actionResponse)) {
+                    continue;
+                }
+                NdjsonResultStore.ValueWriter rows = rowWriters.get(actionResponse.index);
+                if (!addObjectRowsToTab(objectName, actionResponse.rowCount, rows, tabId, baseRequest.getId(), FIRST_PAGE, pageSize)) {
+                    continue;
+                }
+
+                // A full first page means there may be more rows
+                if (actionResponse.rowCount >= pageSize && (maxPages <= 0 || maxPages > FIRST_PAGE)) {
+                    continueObjectPages(baseRequest, tabId, objectName, pageSize, maxPages, rows.contentHash(), prefetchExecutor);
                 }
             }
-            
-            // Final update - remove in-progress indicator and show completion
-            final int finalSuccessful = successfulObjects[0];
-            final int finalTotal = totalObjects;
-            SwingUtilities.invokeLater(() -> {
-                clearBulkRetrievalState();
-                currentOperationThread = null; // Clear thread reference
-                
-                // Update tab title to remove "In Progress..." indicator
-                resultTabCallback.createObjectByNameTab(tabId, tabObjectResults.get(tabId));
-                
-                // Show completion status
-                Color statusColor = finalSuccessful == finalTotal ? Color.GREEN : Color.ORANGE;
-                showStatusMessage("✓ Bulk retrieval completed: " + finalSuccessful + "/" + finalTotal + " " + objectTypeDescription + " - " + tabId, statusColor);
-                
-                api.logging().logToOutput("Bulk object retrieval completed:");
-                api.logging().logToOutput("  Type: " + objectTypeDescription);
-                api.logging().logToOutput("  Successful: " + finalSuccessful + "/" + finalTotal);
-            });
-            
+
         } catch (Exception e) {
-            SwingUtilities.invokeLater(() -> {
-                clearBulkRetrievalState();
-                currentOperationThread = null; // Clear thread reference
-                showErrorMessage("Bulk retrieval failed: " + e.getMessage());
-                api.logging().logToError("Bulk object retrieval failed: " + e.getMessage());
-            });
+            api.logging().logToError("Failed to retrieve object '" + batchLabel + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Request the remaining pages of an object after its first page was retrieved in a batch
+     */
+    private void continueObjectPages(BaseRequest baseRequest, String tabId, String objectName, int pageSize, int maxPages,
+                                     int firstPageHash, java.util.concurrent.ExecutorService prefetchExecutor) {
+        try {
+            PageWalker walker = new PageWalker(prefetchExecutor,
+                () -> operationCancelled || Thread.currentThread().isInterrupted());
+            PageWalker.Summary summary = walker.walk(FIRST_PAGE + 1, maxPages, pageSize,
+                createObjectPageFetcher(baseRequest, objectName, pageSize),
+                createObjectPageHandler(tabId, objectName, baseRequest.getId(), pageSize, false, firstPageHash));
+            api.logging().logToOutput("Retrieved " + summary.rows + " more record(s) in " + summary.pages +
+                " additional page(s) for object: " + objectName);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            api.logging().logToError("Failed to retrieve further pages for object '" + objectName + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether a wordlist getItems action shows that the object exists
+     */
+    private boolean isWordlistObjectFound(AuraActionStreamReader.ActionSummary actionResponse) {
+        // Check if we have actual result data (not just empty array)
+        if (actionResponse.hasResult && actionResponse.rowCount > 0) {
+            return true;
         }
+
+        // Otherwise accept explicit success without an INVALID_TYPE error
+        String actionText = String.valueOf(actionResponse.returnValue) + String.valueOf(actionResponse.error);
+        return actionText.contains("\"success\":true") && !actionText.contains("INVALID_TYPE");
     }
 
     /**
@@ -3066,7 +3673,7 @@ public class ActionsTab {
 
         // Update progress tracking with total count
         totalObjectsToRetrieve = wordlist.size();
-        objectsRetrieved = 0;
+        objectsRetrieved.set(0);
         SwingUtilities.invokeLater(() -> updateProgressDisplay());
 
         // Create the result tab immediately with in-progress indicator
@@ -3082,241 +3689,153 @@ public class ActionsTab {
         });
 
         int totalWords = wordlist.size();
-        final int[] successfulObjects = {0};
-        final int[] foundObjects = {0};
+        AtomicInteger successfulObjects = new AtomicInteger(0);
+        AtomicInteger foundObjects = new AtomicInteger(0);
 
         api.logging().logToOutput("Loaded " + totalWords + " words from " + wordlistSource);
 
+        boolean cancelled;
         try {
-            for (String objectName : wordlist) {
-                // Check for cancellation before processing each word
-                if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("Wordlist scan cancelled during processing");
-                    SwingUtilities.invokeLater(() -> {
-                        clearBulkRetrievalState();
-                        currentOperationThread = null;
-
-                        // Create tab with whatever data was collected so far
-                        ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                        if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                            resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                            showStatusMessage("Wordlist scan cancelled - " + foundObjects[0] + " objects found", Color.ORANGE);
-                        } else {
-                            showStatusMessage("Wordlist scan cancelled", Color.RED);
-                        }
-                    });
-                    return;
-                }
-
-                try {
-                    // Update progress tracking
-                    objectsRetrieved++;
-                    SwingUtilities.invokeLater(() -> {
-                        updateProgressDisplay();
-                        showStatusMessage("⟳ Scanning wordlist: " + objectName, Color.BLUE);
-                    });
-
-                    // Create a specific object request for this word
-                    String escapedObjectName = objectName.replace("\\", "\\\\").replace("\"", "\\\"");
-                    String specificObjectPayload = String.format(SPECIFIC_OBJECT_PAYLOAD_TEMPLATE, escapedObjectName);
-                    HttpRequest originalRequest = baseRequest.getRequestResponse().request();
-                    HttpRequest specificObjectRequest = modifyMessageParameter(originalRequest, specificObjectPayload);
-
-                    // Check for cancellation BEFORE sending request (this is critical)
-                    if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                        api.logging().logToOutput("Wordlist scan cancelled before sending request for: " + objectName);
-                        SwingUtilities.invokeLater(() -> {
-                            clearBulkRetrievalState();
-                            currentOperationThread = null;
-
-                            // Create tab with whatever data was collected so far
-                            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                            if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                                showStatusMessage("Wordlist scan cancelled - " + foundObjects[0] + " objects found", Color.ORANGE);
-                            } else {
-                                showStatusMessage("Wordlist scan cancelled", Color.RED);
-                            }
-                        });
-                        return;
-                    }
-
-                    // Send the request
-                    api.logging().logToOutput("Sending HTTP request for object: " + objectName);
-                    HttpRequestResponse response = sendRequestWithPreservedHttpVersion(specificObjectRequest, baseRequest);
-                    api.logging().logToOutput("HTTP request completed for object: " + objectName);
-
-                    // Check for cancellation after request
-                    if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                        api.logging().logToOutput("Wordlist scan cancelled after request");
-                        return;
-                    }
-
-                    successfulObjects[0]++;
-
-                    // Check for cancellation before parsing response
-                    if (operationCancelled || Thread.currentThread().isInterrupted()) {
-                        api.logging().logToOutput("Wordlist scan cancelled before parsing response");
-                        SwingUtilities.invokeLater(() -> {
-                            clearBulkRetrievalState();
-                            currentOperationThread = null;
-
-                            // Create tab with whatever data was collected so far
-                            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                            if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                                showStatusMessage("Wordlist scan cancelled - " + foundObjects[0] + " objects found", Color.ORANGE);
-                            } else {
-                                showStatusMessage("Wordlist scan cancelled", Color.RED);
-                            }
-                        });
-                        return;
-                    }
-
-                    // Parse response and check if object exists
-                    String responseBody = response.response().bodyToString();
-
-                    // Debug logging to understand response format
-                    api.logging().logToOutput("Wordlist scan - checking object: " + objectName);
-                    api.logging().logToOutput("Response contains success:true: " + responseBody.contains("\"success\":true"));
-                    api.logging().logToOutput("Response contains INVALID_TYPE: " + responseBody.contains("INVALID_TYPE"));
-
-                    // Try to parse the response to see if it contains actual data
-                    boolean hasValidData = false;
-                    try {
-                        // Use the same parsing logic as the incremental parser to check for valid data
-                        ObjectMapper mapper = new ObjectMapper();
-                        JsonNode rootNode = mapper.readTree(responseBody);
-                        JsonNode actionsNode = rootNode.path("actions");
-
-                        if (actionsNode.isArray() && actionsNode.size() > 0) {
-                            JsonNode firstAction = actionsNode.get(0);
-                            JsonNode returnValue = firstAction.path("returnValue");
-                            JsonNode resultArray = returnValue.path("result");
-
-                            // Check if we have actual result data (not just empty array)
-                            if (resultArray.isArray() && resultArray.size() > 0) {
-                                hasValidData = true;
-                                api.logging().logToOutput("Found valid data for object: " + objectName + " (records: " + resultArray.size() + ")");
-                            }
-                        }
-                    } catch (Exception e) {
-                        api.logging().logToOutput("Error parsing response for object " + objectName + ": " + e.getMessage());
-                    }
-
-                    // Use either the original condition OR the new data validation
-                    if ((responseBody.contains("\"success\":true") && !responseBody.contains("INVALID_TYPE")) || hasValidData) {
-                        foundObjects[0]++;
-
-                        // Parse and immediately add to tab
-                        parseBulkObjectResponseIncremental(responseBody, tabId, objectName, baseRequest.getId());
-
-                        api.logging().logToOutput("Added object to tab: " + objectName);
-                    } else {
-                        api.logging().logToOutput("Skipped object (no valid data): " + objectName);
-                    }
-
-                    // Add delay if configured
-                    int delayMs = (Integer) threadCountSpinner.getValue() > 1 ? 100 : 200;
-                    if (delayMs > 0) {
-                        try {
-                            Thread.sleep(delayMs);
-                        } catch (InterruptedException e) {
-                            api.logging().logToOutput("Wordlist scan interrupted during delay");
-                            SwingUtilities.invokeLater(() -> {
-                                clearBulkRetrievalState();
-                                currentOperationThread = null;
-
-                                // Create tab with whatever data was collected so far
-                                ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                                if (tabResult != null && !tabResult.getObjectEntries().isEmpty()) {
-                                    resultTabCallback.createObjectByNameTab(tabId, tabResult);
-                                    showStatusMessage("Wordlist scan cancelled - " + foundObjects[0] + " objects found", Color.ORANGE);
-                                } else {
-                                    showStatusMessage("Wordlist scan cancelled", Color.RED);
-                                }
-                            });
-                            Thread.currentThread().interrupt();
-                            return;
-                        }
-                    }
-
-                } catch (Exception e) {
-                    api.logging().logToError("Failed to test object '" + objectName + "': " + e.getMessage());
-                }
-            }
-
-            // Final update - show completion
-            final int finalSuccessful = successfulObjects[0];
-            final int finalFound = foundObjects[0];
-            final int finalTotal = totalWords;
+            cancelled = runObjectBatches(baseRequest, tabId, wordlist, "wordlist objects", true, successfulObjects, foundObjects);
+        } catch (Exception e) {
             SwingUtilities.invokeLater(() -> {
                 clearBulkRetrievalState();
                 currentOperationThread = null;
-
-                // Update tab title to remove "In Progress..." indicator
-                resultTabCallback.createObjectByNameTab(tabId, tabObjectResults.get(tabId));
-
-                // Show completion status
-                Color statusColor = finalFound > 0 ? Color.GREEN : Color.ORANGE;
-                showStatusMessage("✓ Wordlist scan completed: " + finalFound + " objects found (" + finalSuccessful + "/" + finalTotal + " tested) - " + tabId, statusColor);
-
-                api.logging().logToOutput("Wordlist scan completed:");
-                api.logging().logToOutput("  Source: " + wordlistSource);
-                api.logging().logToOutput("  Tested: " + finalSuccessful + "/" + finalTotal);
-                api.logging().logToOutput("  Found: " + finalFound + " objects");
+                showErrorMessage("Wordlist scan failed: " + e.getMessage());
+                api.logging().logToError("Wordlist scan failed: " + e.getMessage());
             });
+            return;
+        }
 
-        } catch (Exception e) {
+        if (cancelled) {
+            api.logging().logToOutput("Wordlist scan cancelled during processing");
+            final int foundSoFar = foundObjects.get();
             SwingUtilities.invokeLater(() -> {
                 clearBulkRetrievalState();
                 currentOperationThread = null;
-                showErrorMessage("Wordlist scan failed: " + e.getMessage());
-                api.logging().logToError("Wordlist scan failed: " + e.getMessage());
+
+                // Create tab with whatever data was collected so far
+                ObjectByNameResult tabResult = tabObjectResults.get(tabId);
+                if (tabResult != null && !tabResult.isEmpty()) {
+                    resultTabCallback.createObjectByNameTab(tabId, tabResult);
+                    showStatusMessage("Wordlist scan cancelled - " + foundSoFar + " objects found", Color.ORANGE);
+                } else {
+                    showStatusMessage("Wordlist scan cancelled", Color.RED);
+                }
             });
+            return;
         }
+
+        // Final update - show completion
+        final int finalSuccessful = successfulObjects.get();
+        final int finalFound = foundObjects.get();
+        final int finalTotal = totalWords;
+        SwingUtilities.invokeLater(() -> {
+            clearBulkRetrievalState();
+            currentOperationThread = null;
+
+            // Update tab title to remove "In Progress..." indicator
+            resultTabCallback.createObjectByNameTab(tabId, tabObjectResults.get(tabId));
+
+            // Show completion status
+            Color statusColor = finalFound > 0 ? Color.GREEN : Color.ORANGE;
+            showStatusMessage("✓ Wordlist scan completed: " + finalFound + " objects found (" + finalSuccessful + "/" + finalTotal + " tested) - " + tabId, statusColor);
+
+            api.logging().logToOutput("Wordlist scan completed:");
+            api.logging().logToOutput("  Source: " + wordlistSource);
+            api.logging().logToOutput("  Tested: " + finalSuccessful + "/" + finalTotal);
+            api.logging().logToOutput("  Found: " + finalFound + " objects");
+        });
     }
 
     /**
-     * Perform record retrieval by modifying the request with getRecord action
+     * Perform record retrieval by modifying the request with getRecord actions.
+     * Up to "Actions per request" record IDs are sent in each request.
      */
-    private void performRecordRetrieval(BaseRequest baseRequest, String resultId, String recordId) {
-        api.logging().logToOutput("Starting record retrieval for ID: " + recordId);
+    private void performRecordRetrieval(BaseRequest baseRequest, String resultId, List<String> recordIds) {
+        api.logging().logToOutput("Starting record retrieval for ID(s): " + String.join(", ", recordIds));
 
         try {
-            // Escape the record ID for JSON
-            String escapedRecordId = recordId.replace("\\", "\\\\").replace("\"", "\\\"");
+            int batchSize = (Integer) batchSizeSpinner.getValue();
+            int retrievedRecords = 0;
 
-            // Create the record retrieval payload with the specified format
-            String recordPayload = String.format(
-                "{\"actions\":[{\"id\":\"100;a\",\"descriptor\":\"serviceComponent://ui.force.components.controllers.detail.DetailController/ACTION$getRecord\",\"callingDescriptor\":\"UNKNOWN\",\"params\":{\"recordId\":\"%s\",\"record\":null,\"inContextOfComponent\":\"\",\"mode\":\"VIEW\",\"layoutType\":\"FULL\",\"defaultFieldValues\":null,\"navigationLocation\":\"LIST_VIEW_ROW\"}}]}",
-                escapedRecordId
-            );
+            for (List<String> batchIds : AuraActionBatch.partition(recordIds, batchSize)) {
+                if (operationCancelled || Thread.currentThread().isInterrupted()) {
+                    api.logging().logToOutput("Record retrieval cancelled by user");
+                    return;
+                }
 
-            // Create a modified request with the record retrieval payload in the message parameter
-            HttpRequest originalRequest = baseRequest.getRequestResponse().request();
-            HttpRequest recordRequest = modifyMessageParameter(originalRequest, recordPayload);
+                // Create the record retrieval payload with one getRecord action per ID
+                AuraActionBatch batch = new AuraActionBatch();
+                for (String recordId : batchIds) {
+                    // Escape the record ID for JSON
+                    String escapedRecordId = recordId.replace("\\", "\\\\").replace("\"", "\\\"");
+                    batch.addAction(recordId, RECORD_ACTION_TEMPLATE, escapedRecordId);
+                }
 
-            // Send the request with preserved HTTP version
-            api.logging().logToOutput("Sending record retrieval request to: " + originalRequest.url());
-            HttpRequestResponse response = sendRequestWithPreservedHttpVersion(recordRequest, baseRequest);
+                // Create a modified request with the record retrieval payload in the message parameter
+                HttpRequest originalRequest = baseRequest.getRequestResponse().request();
+                HttpRequest recordRequest = buildMessageRequest(baseRequest, batch.toMessage());
 
-            if (response.response() == null) {
-                throw new RuntimeException("No response received");
-            }
+                // Send the request with preserved HTTP version
+                api.logging().logToOutput("Sending record retrieval request to: " + originalRequest.url());
+                HttpRequestResponse response = sendRequestWithPreservedHttpVersion(recordRequest, baseRequest);
 
-            // Parse the response to extract record data
-            String responseBody = response.response().bodyToString();
-            api.logging().logToOutput("Record retrieval response received, parsing data...");
+                if (response.response() == null) {
+                    throw new RuntimeException("No response received");
+                }
+
+                // Parse the response to extract record data
+                String responseBody = response.response().bodyToString();
+                api.logging().logToOutput("Record retrieval response received, parsing data...");
+
+                if (batch.size() == 1) {
+                    // Single record - keep the full response for display
+                    String recordId = batchIds.get(0);
+                    String resultContent = formatRecordRetrievalResult(recordId, responseBody);
+                    SwingUtilities.invokeLater(() -> resultTabCallback.createRecordTab(resultId, recordId, resultContent, baseRequest));
+                    retrievedRecords++;
+                    continue;
+                }
+
+                // Split the batched response back into one entry per record
+                Map<String, ActionResponse> actionResults;
+                try {
+                    actionResults = batch.demultiplex(responseBody);
+                } catch (IOException e) {
+                    throw new RuntimeException("Invalid batched record response: " + e.getMessage(), e);
+                }
+
+                ObjectMapper mapper = new ObjectMapper();
+                for (Map.Entry<String, ActionResponse> entry : actionResults.entrySet()) {
+                    String recordId = entry.getKey();
+                    ActionResponse actionResponse = entry.getValue();
+                    if (actionResponse == null) {
+                        api.logging().logToError("No action returned in response for record: " + recordId);
+                        continue;
+                    }
 
-            // Create the result content for the tab
-            String resultContent = formatRecordRetrievalResult(recordId, responseBody);
+                    com.fasterxml.jackson.databind.node.ObjectNode actionNode = mapper.createObjectNode();
+                    actionNode.put("id", actionResponse.id);
+                    actionNode.put("state", actionResponse.state);
+                    actionNode.set("returnValue", actionResponse.returnValue);
+                    actionNode.set("error", actionResponse.error);
 
-            // Create the result tab with request information
+                    String resultContent = formatRecordRetrievalResult(recordId, actionNode.toString());
+                    SwingUtilities.invokeLater(() -> resultTabCallback.createRecordTab(resultId, recordId, resultContent, baseRequest));
+                    retrievedRecords++;
+                }
+            }
+
+            final int finalRetrieved = retrievedRecords;
             SwingUtilities.invokeLater(() -> {
-                resultTabCallback.createRecordTab(resultId, recordId, resultContent, baseRequest);
                 clearBusyState();
-                showStatusMessage("✓ Record retrieved successfully: " + recordId, Color.GREEN);
+                if (recordIds.size() == 1) {
+                    showStatusMessage("✓ Record retrieved successfully: " + recordIds.get(0), Color.GREEN);
+                } else {
+                    showStatusMessage("✓ Records retrieved: " + finalRetrieved + "/" + recordIds.size(),
+                        finalRetrieved == recordIds.size() ? Color.GREEN : Color.ORANGE);
+                }
             });
 
         } catch (Exception e) {
@@ -3352,6 +3871,18 @@ public class ActionsTab {
         return result.toString();
     }
 
+    /**
+     * Build a request with the given message value from the base request's compiled body template,
+     * falling back to parameter rewriting for GET requests
+     */
+    private HttpRequest buildMessageRequest(BaseRequest baseRequest, String messageValue) {
+        MessageRequestTemplate template = baseRequest.getMessageTemplate();
+        if (template != null) {
+            return template.build(messageValue);
+        }
+        return modifyMessageParameter(baseRequest.getRequestResponse().request(), messageValue);
+    }
+
     /**
      * Modify the message parameter in the request while preserving other parameters
      */
@@ -3482,6 +4013,7 @@ public class ActionsTab {
      * Send HTTP request while being aware of HTTP version compatibility.
      * This logs HTTP version information to help diagnose 400 Bad Request errors
      * that can occur when there are HTTP version mismatches.
+     * A throttled (429/503) request is sent again after the rate controller's backoff.
      */
     private HttpRequestResponse sendRequestWithPreservedHttpVersion(HttpRequest modifiedRequest, BaseRequest baseRequest) {
         try {
@@ -3501,15 +4033,46 @@ public class ActionsTab {
                                         ". This may cause 400 Bad Request errors.");
                 api.logging().logToOutput("If you encounter 400 errors, this HTTP version mismatch may be the cause.");
             }
+        } catch (Exception e) {
+            api.logging().logToError("Error during HTTP version check: " + e.getMessage());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            // Wait for the shared rate controller before sending
+            try {
+                rateController.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Request cancelled before sending");
+            }
+            if (operationCancelled) {
+                // The wait may have outlasted the operation
+                rateController.abandon();
+                throw new RuntimeException("Request cancelled before sending");
+            }
 
-            // Send the request - let Montoya API handle HTTP version automatically
-            // The API should negotiate the appropriate version based on the connection
-            return api.http().sendRequest(modifiedRequest);
+            long startTime = System.currentTimeMillis();
+            HttpRequestResponse response = null;
+            boolean throttled;
+            try {
+                // Send the request - let Montoya API handle HTTP version automatically
+                // The API should negotiate the appropriate version based on the connection
+                response = api.http().sendRequest(modifiedRequest);
+            } finally {
+                // Feed status, latency and body back into the rate controller (the body is searched in place)
+                long latencyMs = System.currentTimeMillis() - startTime;
+                if (response != null && response.response() != null) {
+                    throttled = rateController.release(response.response().statusCode(), latencyMs, response.response().body());
+                } else {
+                    throttled = rateController.release(0, latencyMs, null);
+                }
+            }
 
-        } catch (Exception e) {
-            api.logging().logToError("Error during HTTP version-aware request sending: " + e.getMessage());
-            // Fallback to direct send
-            return api.http().sendRequest(modifiedRequest);
+            if (!throttled || attempt > MAX_THROTTLED_RETRIES || operationCancelled || Thread.currentThread().isInterrupted()) {
+                return response;
+            }
+            api.logging().logToOutput("Request throttled with HTTP " + response.response().statusCode()
+                + " - sending it again after the backoff (retry " + attempt + "/" + MAX_THROTTLED_RETRIES + ")");
         }
     }
 
@@ -3661,33 +4224,52 @@ public class ActionsTab {
     }
 
     /**
-     * Parse the specific object response to extract object data from result array
+     * Check that a getItems action succeeded and carried a result array (logged otherwise)
      */
-    private void parseSpecificObjectResponse(String responseBody, String resultId, String objectName, int requestId) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode rootNode = mapper.readTree(responseBody);
-            
-            // Navigate to actions[0].returnValue.result
-            JsonNode actionsNode = rootNode.path("actions");
-            if (!actionsNode.isArray() || actionsNode.size() == 0) {
-                throw new RuntimeException("Invalid response format: no actions array");
-            }
-            
-            JsonNode firstAction = actionsNode.get(0);
-            String state = firstAction.path("state").asText();
-            
-            if (!"SUCCESS".equals(state)) {
-                throw new RuntimeException("Specific object request failed with state: " + state);
-            }
-            
-            JsonNode returnValue = firstAction.path("returnValue");
-            JsonNode resultArray = returnValue.path("result");
-            
-            if (resultArray.isMissingNode() || !resultArray.isArray()) {
-                throw new RuntimeException("No result array found in response");
+    private boolean hasObjectRows(String objectName, AuraActionStreamReader.ActionSummary action) {
+        if (!"SUCCESS".equals(action.state)) {
+            api.logging().logToError("Object request failed for '" + objectName + "' with state: " + action.state);
+            return false;
+        }
+        if (!action.hasResult) {
+            api.logging().logToError("No result array found for object: " + objectName);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sink factory that streams each action's result rows into the tab's result store,
+     * keeping the opened writers by action index (rows are skipped once the tab is gone)
+     */
+    private AuraActionStreamReader.RowSinkFactory objectRowSinks(String tabId, Map<Integer, NdjsonResultStore.ValueWriter> rowWriters) {
+        return actionIndex -> {
+            ObjectByNameResult tabResult = tabObjectResults.get(tabId);
+            if (tabResult == null) {
+                return null;
             }
-            
+            NdjsonResultStore.ValueWriter writer = tabResult.openRows();
+            rowWriters.put(actionIndex, writer);
+            return writer;
+        };
+    }
+
+    /**
+     * Add one page of getItems rows, already streamed into the tab's store, to the tab. Entries other
+     * than a default-sized first page carry a " - Page N (pageSize M)" suffix so they stay unique and
+     * can be re-requested.
+     *
+     * @return false if the entry could not be added (the tab is gone)
+     */
+    private boolean addObjectRowsToTab(String objectName, int rowCount, NdjsonResultStore.ValueWriter rows, String tabId,
+                                       int requestId, int page, int pageSize) {
+        ObjectByNameResult tabResult = tabObjectResults.get(tabId);
+        if (tabResult == null || rows == null) {
+            // The tab was deleted while its pages were being fetched
+            return false;
+        }
+
+        try {
             // Get current timestamp for the request entry
             java.time.LocalDateTime now = java.time.LocalDateTime.now();
             java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
@@ -3695,142 +4277,163 @@ public class ActionsTab {
             
             // Create object entry name with request info
             String objectEntryName = objectName + " Object (request" + requestId + "-" + timestamp + ")";
+            if (page != FIRST_PAGE || pageSize != DEFAULT_PAGE_SIZE) {
+                objectEntryName += " - Page " + page + " (pageSize " + pageSize + ")";
+            }
+            final String entryName = objectEntryName;
             
-            // Format the JSON result data
-            String jsonData;
-            if (resultArray.size() == 0) {
-                jsonData = "No data found for object '" + objectName + "'\nResult: []";
+            if (rowCount == 0) {
+                tabResult.addObjectEntry(entryName, "No data found for object '" + objectName + "'\nResult: []");
             } else {
-                StringBuilder jsonContent = new StringBuilder();
-                jsonContent.append("Records found in ").append(objectName).append(" object: ").append(resultArray.size()).append("\n\n");
-                jsonContent.append("JSON Result Data:\n");
-                jsonContent.append("──────────────────\n\n");
-                
-                // Pretty print the result array
-                try {
-                    jsonContent.append(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(resultArray));
-                } catch (Exception e) {
-                    // Fallback to raw JSON if pretty printing fails
-                    jsonContent.append(resultArray.toString());
-                }
-                jsonData = jsonContent.toString();
+                // Rows were pretty-printed into the store while streaming the response; only the header is added
+                String header = "Records found in " + objectName + " object: " + rowCount + "\n\n"
+                    + "JSON Result Data:\n"
+                    + "──────────────────\n\n";
+                tabResult.addObjectRows(entryName, header, rows, rowCount);
             }
+            
+            // Queue the entry; the update timer appends queued entries to the tab in one go
+            queueObjectEntry(tabId, entryName);
+            return true;
+            
+        } catch (Exception e) {
+            api.logging().logToError("Failed to parse object response for '" + objectName + "': " + e.getMessage());
+            return false;
+        }
+    }
 
+    /**
+     * Stored object entry waiting to be shown in a result tab
+     */
+    private static class PendingObjectEntry {
+        final String tabId;
+        final String entryName;
 
-            // Add the object entry to the tab's ObjectByNameResult (like other operations)
-            SwingUtilities.invokeLater(() -> {
-                // Initialize the ObjectByNameResult for this tab (or use existing if appending)
-                if (!tabObjectResults.containsKey(resultId)) {
-                    // New tab - create fresh results
-                    tabObjectResults.put(resultId, new ObjectByNameResult());
-                }
+        PendingObjectEntry(String tabId, String entryName) {
+            this.tabId = tabId;
+            this.entryName = entryName;
+        }
+    }
 
-                // Add entry to the tab's results
-                ObjectByNameResult tabResult = tabObjectResults.get(resultId);
-                api.logging().logToOutput("TabResult from tabObjectResults: " + (tabResult != null ? "not null" : "NULL"));
-                if (tabResult != null) {
-                    tabResult.addObjectEntry(objectEntryName, jsonData);
-                    // Update the tab content
-                    api.logging().logToOutput("About to call resultTabCallback.createObjectByNameTab - resultId: " + resultId);
-                    api.logging().logToOutput("TabResult object entries: " + tabResult.getObjectEntries().size());
-                    resultTabCallback.createObjectByNameTab(resultId, tabResult);
-                    api.logging().logToOutput("Called resultTabCallback.createObjectByNameTab successfully");
-                }
+    /**
+     * Queue the name of a stored object entry for the next tab update (safe to call from any thread).
+     * The entry text is already in the tab's store, so only the name reaches the EDT.
+     */
+    private void queueObjectEntry(String tabId, String entryName) {
+        pendingObjectEntries.add(new PendingObjectEntry(tabId, entryName));
+        if (!objectUpdateTimer.isRunning()) {
+            // No operation is running the timer, so flush on the next EDT pass
+            SwingUtilities.invokeLater(this::flushObjectUpdates);
+        }
+    }
 
-                clearBusyState();
+    /**
+     * Show queued object entries in their tabs, appending each tab's new entries at once (EDT only)
+     */
+    private void flushObjectUpdates() {
+        if (pendingObjectEntries.isEmpty()) {
+            return;
+        }
 
-                if (resultArray.size() == 0) {
-                    showStatusMessage("✗ No results found for object '" + objectName + "' - " + resultId, Color.ORANGE);
-                    api.logging().logToOutput("No data found for object: " + objectName);
-                } else {
-                    showStatusMessage("✓ Found " + resultArray.size() + " records for object '" + objectName + "' - " + resultId, Color.GREEN);
-                    api.logging().logToOutput("Specific object search completed successfully:");
-                    api.logging().logToOutput("  Object: " + objectName);
-                    api.logging().logToOutput("  Records found in " + objectName + " object: " + resultArray.size());
-                }
-            });
-            
-        } catch (Exception e) {
-            SwingUtilities.invokeLater(() -> {
-                clearBusyState();
-                showErrorMessage("Failed to parse specific object response: " + e.getMessage());
-            });
-            throw new RuntimeException("Failed to parse specific object response", e);
+        Map<String, Set<String>> namesByTab = new LinkedHashMap<>();
+        PendingObjectEntry pending;
+        while ((pending = pendingObjectEntries.poll()) != null) {
+            namesByTab.computeIfAbsent(pending.tabId, k -> new LinkedHashSet<>()).add(pending.entryName);
+        }
+
+        for (Map.Entry<String, Set<String>> tabNames : namesByTab.entrySet()) {
+            ObjectByNameResult tabResult = tabObjectResults.get(tabNames.getKey());
+            if (tabResult == null) {
+                continue;
+            }
+            // Update the tab content without automatic switching (for incremental updates)
+            resultTabCallback.appendObjectByNameEntries(tabNames.getKey(), tabResult, tabNames.getValue());
         }
     }
-    
+
     /**
-     * Parse bulk object response incrementally and add to tab immediately
+     * Build a fetcher that sends a single getItems action for the requested page
      */
-    private void parseBulkObjectResponseIncremental(String responseBody, String tabId, String objectName, int requestId) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode rootNode = mapper.readTree(responseBody);
-            
-            // Navigate to actions[0].returnValue.result
-            JsonNode actionsNode = rootNode.path("actions");
-            if (!actionsNode.isArray() || actionsNode.size() == 0) {
-                api.logging().logToError("Invalid response format for object '" + objectName + "': no actions array");
-                return;
-            }
-            
-            JsonNode firstAction = actionsNode.get(0);
-            String state = firstAction.path("state").asText();
-            
-            if (!"SUCCESS".equals(state)) {
-                api.logging().logToError("Object request failed for '" + objectName + "' with state: " + state);
-                return;
+    private PageWalker.PageFetcher<byte[]> createObjectPageFetcher(BaseRequest baseRequest, String objectName, int pageSize) {
+        // Escape the object name for JSON
+        String escapedObjectName = objectName.replace("\\", "\\\\").replace("\"", "\\\"");
+
+        return page -> {
+            if (operationCancelled) {
+                return null;
             }
-            
-            JsonNode returnValue = firstAction.path("returnValue");
-            JsonNode resultArray = returnValue.path("result");
-            
-            if (resultArray.isMissingNode() || !resultArray.isArray()) {
-                api.logging().logToError("No result array found for object: " + objectName);
-                return;
+            String pagePayload = String.format(SPECIFIC_OBJECT_PAYLOAD_TEMPLATE, escapedObjectName, pageSize, page);
+            HttpRequest pageRequest = buildMessageRequest(baseRequest, pagePayload);
+
+            api.logging().logToOutput("Requesting page " + page + " of object: " + objectName);
+            HttpRequestResponse response = sendRequestWithPreservedHttpVersion(pageRequest, baseRequest);
+            return response.response() == null ? null : response.response().body().getBytes();
+        };
+    }
+
+    /**
+     * Build a handler that adds each page of rows to the tab as it arrives
+     *
+     * @param strict throw when the first page fails instead of logging it
+     * @param previousPageHash hash of the rows of the page before the first handled page (0 if none),
+     *                         used to stop when the server ignores currentPage and repeats a page
+     */
+    private PageWalker.PageHandler<byte[]> createObjectPageHandler(String tabId, String objectName, int requestId, int pageSize,
+                                                           boolean strict, int previousPageHash) {
+        int[] lastHash = { previousPageHash };
+
+        return (page, responseBody) -> {
+            boolean failLoudly = strict && page == FIRST_PAGE;
+            if (responseBody == null) {
+                if (failLoudly) {
+                    throw new RuntimeException("No response received");
+                }
+                api.logging().logToError("No response received for page " + page + " of object: " + objectName);
+                return -1;
             }
-            
-            // Get current timestamp for the request entry
-            java.time.LocalDateTime now = java.time.LocalDateTime.now();
-            java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            String timestamp = now.format(formatter);
-            
-            // Create object entry name with request info
-            String objectEntryName = objectName + " Object (request" + requestId + "-" + timestamp + ")";
-            
-            // Format the JSON result data
-            String jsonData;
-            if (resultArray.size() == 0) {
-                jsonData = "No data found for object '" + objectName + "'\nResult: []";
-            } else {
-                StringBuilder jsonContent = new StringBuilder();
-                jsonContent.append("Records found in ").append(objectName).append(" object: ").append(resultArray.size()).append("\n\n");
-                jsonContent.append("JSON Result Data:\n");
-                jsonContent.append("──────────────────\n\n");
-                
-                // Pretty print the result array
-                try {
-                    jsonContent.append(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(resultArray));
-                } catch (Exception e) {
-                    // Fallback to raw JSON if pretty printing fails
-                    jsonContent.append(resultArray.toString());
+
+            Map<Integer, NdjsonResultStore.ValueWriter> rowWriters = new HashMap<>();
+            List<AuraActionStreamReader.ActionSummary> actions = AuraActionStreamReader.read(responseBody, objectRowSinks(tabId, rowWriters));
+            if (actions.isEmpty()) {
+                if (failLoudly) {
+                    throw new RuntimeException("Invalid response format: no actions array");
                 }
-                jsonData = jsonContent.toString();
+                api.logging().logToError("Invalid response format for page " + page + " of object '" + objectName + "': no actions array");
+                return -1;
             }
-            
-            // Add the object entry to the tab's ObjectByNameResult and update the tab
-            SwingUtilities.invokeLater(() -> {
-                ObjectByNameResult tabResult = tabObjectResults.get(tabId);
-                if (tabResult != null) {
-                    tabResult.addObjectEntry(objectEntryName, jsonData);
-                    // Update the tab content without automatic switching (for incremental updates)
-                    resultTabCallback.updateObjectByNameTab(tabId, tabResult);
+
+            AuraActionStreamReader.ActionSummary action = actions.get(0);
+            if (failLoudly && !"SUCCESS".equals(action.state)) {
+                throw new RuntimeException("Specific object request failed with state: " + action.state);
+            }
+
+            if (!hasObjectRows(objectName, action)) {
+                if (failLoudly) {
+                    throw new RuntimeException("No result array found in response");
                 }
-            });
-            
-        } catch (Exception e) {
-            api.logging().logToError("Failed to parse object response for '" + objectName + "': " + e.getMessage());
-        }
+                return -1;
+            }
+
+            NdjsonResultStore.ValueWriter rows = rowWriters.get(action.index);
+            if (rows == null) {
+                // The tab was deleted while its pages were being fetched
+                return -1;
+            }
+
+            // Some endpoints ignore currentPage and keep returning the first page
+            int hash = rows.contentHash();
+            if (page > FIRST_PAGE && action.rowCount > 0 && hash == lastHash[0]) {
+                api.logging().logToOutput("Page " + page + " of object '" + objectName + "' repeats the previous page - stopping");
+                return -1;
+            }
+            lastHash[0] = hash;
+
+            // An empty page after a full one only marks the end of the data
+            if (action.rowCount > 0 || page == FIRST_PAGE) {
+                addObjectRowsToTab(objectName, action.rowCount, rows, tabId, requestId, page, pageSize);
+            }
+            return action.rowCount;
+        };
     }
     
     /**
@@ -3939,6 +4542,13 @@ public class ActionsTab {
         getPotentialPathsFromJSBtn.addActionListener(e -> executeAction("GetPotentialPathsFromJS"));
         findDescriptorsFromSitemapBtn.addActionListener(e -> executeAction("FindDescriptorsFromSitemap"));
         performAllSitemapSearchesBtn.addActionListener(e -> executeAction("PerformAllSitemapSearches"));
+        liveDiscoveryCheckbox.addActionListener(e -> {
+            if (liveDiscoveryCheckbox.isSelected()) {
+                startLiveDiscovery();
+            } else {
+                stopLiveDiscovery();
+            }
+        });
 
         // Record ID field handler - enable/disable button based on text content
         recordIdField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
@@ -3969,6 +4579,7 @@ public class ActionsTab {
             routerPathsCancelled = true; // Cancel router paths parsing if in progress
             jsPathsCancelled = true; // Cancel JS paths parsing if in progress
             descriptorsCancelled = true; // Cancel descriptors parsing if in progress
+            stopBulkExecutor();
 
             // More aggressive thread stopping
             if (currentOperationThread != null && currentOperationThread.isAlive()) {
@@ -4239,6 +4850,11 @@ public class ActionsTab {
                     return;
                 }
 
+                // Several IDs may be given, separated by commas or whitespace
+                List<String> recordIds = new ArrayList<>(new java.util.LinkedHashSet<>(
+                    java.util.Arrays.asList(recordId.split("[,\\s]+"))));
+                recordIds.removeIf(String::isEmpty);
+
                 // Ask user about tab choice before starting record retrieval
                 String recordResultId = getUserTabChoiceForRecordRetrieval(recordId);
                 if (recordResultId == null) {
@@ -4252,7 +4868,7 @@ public class ActionsTab {
                 // Perform record retrieval in background thread
                 currentOperationThread = ThreadManager.createManagedThread(() -> {
                     try {
-                        performRecordRetrieval(selectedRequest, recordResultId, recordId);
+                        performRecordRetrieval(selectedRequest, recordResultId, recordIds);
                     } catch (Exception e) {
                         SwingUtilities.invokeLater(() -> {
                             clearBusyState();
@@ -4441,6 +5057,9 @@ public class ActionsTab {
 
         // These controls should be enabled regardless of baseline request availability
         threadCountSpinner.setEnabled(true);
+        batchSizeSpinner.setEnabled(true);
+        pageSizeSpinner.setEnabled(true);
+        maxPagesSpinner.setEnabled(true);
         alwaysCreateNewTabCheckbox.setEnabled(true);
 
         // Discovery result selector depends on having discovery results
@@ -5548,10 +6167,12 @@ public class ActionsTab {
         public void updateRouteDiscoveryResult(RouteDiscoveryResult newResult) {
             if (newResult == null) return;
 
-            // Merge new results with existing ones
-            for (String categoryName : newResult.getCategoryNames()) {
-                java.util.List<String> routes = newResult.getRoutesForCategory(categoryName);
-                this.routeDiscoveryResult.addRouteCategory(categoryName, routes);
+            // Merge new results with existing ones (unless the panel already shows this result)
+            if (newResult != this.routeDiscoveryResult) {
+                for (String categoryName : newResult.getCategoryNames()) {
+                    java.util.List<String> routes = newResult.getRoutesForCategory(categoryName);
+                    this.routeDiscoveryResult.addRouteCategory(categoryName, routes);
+                }
             }
 
             // Update UI models (preserves current selection)
@@ -5949,15 +6570,15 @@ public class ActionsTab {
      * Similar style to DiscoveryResultPanel but shows object entries and their JSON data
      */
     public static class ObjectByNameResultPanel extends BaseResultPanel {
-        private final ObjectByNameResult objectByNameResult;
+        private ObjectByNameResult objectByNameResult;
         private final JList<String> objectList;
         private final JTextArea jsonDataArea;
         private final JSplitPane splitPane;
         private final List<BaseRequest> baseRequests;
         private final MontoyaApi api;
 
-        // Additional field to hold current data for updates
-        private java.util.Map<String, String> currentObjectData;
+        // Names currently listed (entry text is loaded from the result on demand)
+        private final java.util.Set<String> listedObjectNames = new java.util.HashSet<>();
 
         // Filter state (specific to ObjectByNameResultPanel)
         private DefaultListModel<String> originalObjectModel;
@@ -5968,8 +6589,6 @@ public class ActionsTab {
             this.baseRequests = baseRequests;
             this.api = api;
 
-            // Initialize current object data with initial data
-            this.currentObjectData = new java.util.HashMap<>(objectByNameResult.getObjectEntries());
             this.setLayout(new BorderLayout());
             
             // Initialize list models
@@ -5980,6 +6599,7 @@ public class ActionsTab {
             for (String objectName : objectByNameResult.getObjectNames()) {
                 originalObjectModel.addElement(objectName);
                 filteredObjectModel.addElement(objectName);
+                listedObjectNames.add(objectName);
             }
             
             // Create toolbar with search and filter controls
@@ -6055,23 +6675,21 @@ public class ActionsTab {
             originalObjectModel.clear();
             filteredObjectModel.clear();
 
-            // Update current object data
-            currentObjectData.clear();
-            currentObjectData.putAll(newObjectByNameResult.getObjectEntries());
+            // Switch to the new result and list its entries
+            objectByNameResult = newObjectByNameResult;
+            List<String> objectNames = newObjectByNameResult.getObjectNames();
+            listedObjectNames.clear();
+            listedObjectNames.addAll(objectNames);
 
             // Populate with new object entries (add to original model only)
-            for (String objectName : newObjectByNameResult.getObjectNames()) {
-                originalObjectModel.addElement(objectName);
-            }
+            originalObjectModel.addAll(objectNames);
 
             // Re-apply existing filter if there was one, otherwise show all items
             if (hasActiveFilter) {
                 applyFilter(); // This will populate filteredObjectModel based on current filter criteria
             } else {
                 // No filter was active, so copy all items to filtered model
-                for (String objectName : newObjectByNameResult.getObjectNames()) {
-                    filteredObjectModel.addElement(objectName);
-                }
+                filteredObjectModel.addAll(objectNames);
                 objectList.setModel(originalObjectModel); // Use original model when no filter
             }
 
@@ -6098,6 +6716,47 @@ public class ActionsTab {
             updateJsonData();
         }
 
+        /**
+         * Append new entries to the lists without rebuilding them; only the new
+         * entries are checked against the active filter
+         */
+        public void appendEntries(java.util.Collection<String> newNames) {
+            boolean hasActiveFilter = !filterField.getText().trim().isEmpty() || hideEmptyCheckBox.isSelected();
+            String currentSelection = objectList.getSelectedValue();
+            boolean selectionUpdated = false;
+
+            List<String> addedNames = new ArrayList<>();
+            for (String objectName : newNames) {
+                if (listedObjectNames.add(objectName)) {
+                    addedNames.add(objectName);
+                } else {
+                    // Entry was replaced in the result
+                    selectionUpdated |= objectName.equals(currentSelection);
+                }
+            }
+
+            // One interval event per model instead of one per entry
+            originalObjectModel.addAll(addedNames);
+            if (hasActiveFilter) {
+                FilterQuery query = new FilterQuery();
+                List<String> matchingNames = new ArrayList<>();
+                for (String objectName : addedNames) {
+                    if (query.matches(objectName)) {
+                        matchingNames.add(objectName);
+                    }
+                }
+                filteredObjectModel.addAll(matchingNames);
+            } else {
+                filteredObjectModel.addAll(addedNames);
+            }
+
+            if (objectList.getSelectedIndex() == -1 && objectList.getModel().getSize() > 0) {
+                objectList.setSelectedIndex(0);
+            } else if (selectionUpdated) {
+                updateJsonData();
+            }
+        }
+
         /**
          * Add enhanced mouse listeners for context menus
          */
@@ -6228,7 +6887,7 @@ public class ActionsTab {
             if (result == JOptionPane.YES_OPTION) {
                 // Remove from object result and current data
                 objectByNameResult.removeObject(selectedObject);
-                currentObjectData.remove(selectedObject);
+                listedObjectNames.remove(selectedObject);
 
                 // Remove from both list models
                 originalObjectModel.removeElement(selectedObject);
@@ -6321,7 +6980,7 @@ public class ActionsTab {
 
             String selectedObject = objectList.getSelectedValue();
             if (selectedObject != null) {
-                String jsonData = currentObjectData.get(selectedObject);
+                String jsonData = objectByNameResult.getObjectData(selectedObject);
                 jsonDataArea.setText(jsonData != null ? jsonData : "No data available");
             } else {
                 jsonDataArea.setText("Select an object to view its data");
@@ -6462,74 +7121,15 @@ public class ActionsTab {
             // Create filtered model
             filteredObjectModel.clear();
             
+            FilterQuery query = new FilterQuery();
+            List<String> matchingNames = new ArrayList<>();
             for (int i = 0; i < originalObjectModel.getSize(); i++) {
                 String objectName = originalObjectModel.getElementAt(i);
-                boolean includeItem = true;
-                
-                // Apply text filter - search in both object name AND JSON content
-                if (!filterText.isEmpty()) {
-                    if (filterRegexCheckBox.isSelected()) {
-                        try {
-                            java.util.regex.Pattern pattern = SafeRegex.safeCompile(filterText,
-                                java.util.regex.Pattern.CASE_INSENSITIVE);
-
-                            // Check object name first
-                            boolean matchesName = SafeRegex.safeMatches(pattern, objectName);
-
-                            // Check JSON content if name doesn't match
-                            boolean matchesContent = false;
-                            if (!matchesName) {
-                                String jsonData = objectByNameResult.getObjectData(objectName);
-                                if (jsonData != null && !jsonData.trim().isEmpty()) {
-                                    matchesContent = SafeRegex.safeMatches(pattern, jsonData);
-                                }
-                            }
-
-                            includeItem = matchesName || matchesContent;
-                        } catch (Exception e) {
-                            // If regex fails, fall back to plain text matching
-                            String lowerFilterText = filterText.toLowerCase();
-                            boolean matchesName = objectName.toLowerCase().contains(lowerFilterText);
-
-                            // Check JSON content if name doesn't match
-                            boolean matchesContent = false;
-                            if (!matchesName) {
-                                String jsonData = objectByNameResult.getObjectData(objectName);
-                                if (jsonData != null && !jsonData.trim().isEmpty()) {
-                                    matchesContent = jsonData.toLowerCase().contains(lowerFilterText);
-                                }
-                            }
-
-                            includeItem = matchesName || matchesContent;
-                        }
-                    } else {
-                        // Plain text search - search in both object name AND JSON content
-                        String lowerFilterText = filterText.toLowerCase();
-                        boolean matchesName = objectName.toLowerCase().contains(lowerFilterText);
-
-                        // Check JSON content if name doesn't match
-                        boolean matchesContent = false;
-                        if (!matchesName) {
-                            String jsonData = objectByNameResult.getObjectData(objectName);
-                            if (jsonData != null && !jsonData.trim().isEmpty()) {
-                                matchesContent = jsonData.toLowerCase().contains(lowerFilterText);
-                            }
-                        }
-
-                        includeItem = matchesName || matchesContent;
-                    }
-                }
-                
-                // Apply hide empty filter
-                if (includeItem && hideEmptyCheckBox.isSelected()) {
-                    String jsonData = objectByNameResult.getObjectData(objectName);
-                    includeItem = !isObjectDataEmpty(jsonData);
-                }
-                
-                if (includeItem) {
-                    filteredObjectModel.addElement(objectName);
+                if (query.matches(objectName)) {
+                    matchingNames.add(objectName);
                 }
             }
+            filteredObjectModel.addAll(matchingNames);
             
             objectList.setModel(filteredObjectModel);
             
@@ -6539,6 +7139,72 @@ public class ActionsTab {
             }
         }
         
+        /**
+         * Filter settings prepared once per filter pass. The regex is compiled once, and the
+         * trigram index narrows which entries need their text loaded and checked.
+         */
+        private class FilterQuery {
+            private final String lowerFilterText;
+            private final java.util.regex.Pattern pattern;
+            private final java.util.Set<String> candidates;
+            private final boolean hideEmpty;
+
+            FilterQuery() {
+                String filterText = filterField.getText().trim();
+                this.lowerFilterText = filterText.toLowerCase();
+                this.hideEmpty = hideEmptyCheckBox.isSelected();
+
+                java.util.regex.Pattern compiled = null;
+                String literal = filterText;
+                if (!filterText.isEmpty() && filterRegexCheckBox.isSelected()) {
+                    try {
+                        compiled = SafeRegex.safeCompile(filterText, java.util.regex.Pattern.CASE_INSENSITIVE);
+                        literal = TrigramIndex.requiredLiteral(filterText);
+                    } catch (Exception e) {
+                        // If regex fails, fall back to plain text matching
+                        compiled = null;
+                    }
+                }
+                this.pattern = compiled;
+                this.candidates = filterText.isEmpty() || literal == null ? null
+                    : objectByNameResult.getFilterIndex().candidates(literal);
+            }
+
+            /**
+             * Check an entry against the text filter and the "hide empty" option
+             */
+            boolean matches(String objectName) {
+                // Apply hide empty filter (from stored metadata, no text needed)
+                if (hideEmpty && objectByNameResult.isEntryEmpty(objectName)) {
+                    return false;
+                }
+                if (lowerFilterText.isEmpty()) {
+                    return true;
+                }
+
+                // Indexed entries outside the candidate set cannot match
+                if (candidates != null && !candidates.contains(objectName)
+                        && objectByNameResult.getFilterIndex().isIndexed(objectName)) {
+                    return false;
+                }
+
+                // Search in both object name AND JSON content
+                if (pattern != null) {
+                    if (SafeRegex.safeMatches(pattern, objectName)) {
+                        return true;
+                    }
+                    String jsonData = objectByNameResult.getObjectData(objectName);
+                    return jsonData != null && !jsonData.trim().isEmpty() && SafeRegex.safeMatches(pattern, jsonData);
+                }
+
+                if (objectName.toLowerCase().contains(lowerFilterText)) {
+                    return true;
+                }
+                String jsonData = objectByNameResult.getObjectData(objectName);
+                return jsonData != null && !jsonData.trim().isEmpty() && jsonData.toLowerCase().contains(lowerFilterText);
+            }
+        }
+
         protected void clearSearch() {
             currentSearchIndex = -1;
             searchMatches.clear();
@@ -6566,33 +7232,6 @@ public class ActionsTab {
             }
         }
         
-        /**
-         * Check if object data should be considered "empty" for filtering purposes
-         */
-        private boolean isObjectDataEmpty(String jsonData) {
-            if (jsonData == null || jsonData.trim().isEmpty()) {
-                return true;
-            }
-            
-            // Check for explicit "No data available" message
-            if (jsonData.equals("No data available")) {
-                return true;
-            }
-            
-            // Check for "No data found for object" pattern
-            if (jsonData.contains("No data found for object") && jsonData.contains("Result: []")) {
-                return true;
-            }
-            
-            // Check for empty JSON results (just whitespace and minimal structure)
-            String trimmed = jsonData.trim();
-            if (trimmed.equals("[]") || trimmed.equals("{}")) {
-                return true;
-            }
-            
-            return false;
-        }
-
         /**
          * Show the HTTP request for the currently selected object entry
          */
@@ -6741,7 +7380,16 @@ public class ActionsTab {
             // Create the object retrieval payload using the same template as other operations
             // Need to escape the object name like in the bulk operations
             String escapedObjectName = actualObjectName.replace("\\", "\\\\").replace("\"", "\\\"");
-            String objectRetrievalPayload = String.format(SPECIFIC_OBJECT_PAYLOAD_TEMPLATE, escapedObjectName);
+
+            // Paged entries end with " - Page N (pageSize M)"
+            int page = FIRST_PAGE;
+            int pageSize = DEFAULT_PAGE_SIZE;
+            Matcher pageMatcher = OBJECT_PAGE_SUFFIX_PATTERN.matcher(objectName);
+            if (pageMatcher.find()) {
+                page = Integer.parseInt(pageMatcher.group(1));
+                pageSize = Integer.parseInt(pageMatcher.group(2));
+            }
+            String objectRetrievalPayload = String.format(SPECIFIC_OBJECT_PAYLOAD_TEMPLATE, escapedObjectName, pageSize, page);
 
             // Build new request with modified message parameter
             String newBody = "message=" + java.net.URLEncoder.encode(objectRetrievalPayload, java.nio.charset.StandardCharsets.UTF_8) + "&aura.context=" + extractAuraContext(originalRequest.bodyToString()) + "&aura.token=" + extractAuraToken(originalRequest.bodyToString());
@@ -6909,7 +7557,7 @@ public class ActionsTab {
 
                     for (int i = 0; i < modelToExport.getSize(); i++) {
                         String objectName = modelToExport.getElementAt(i);
-                        String jsonData = currentObjectData.get(objectName);
+                        String jsonData = objectByNameResult.getObjectData(objectName);
 
                         if (jsonData != null && !jsonData.trim().isEmpty()) {
                             // Create safe filename
@@ -7603,9 +8251,22 @@ public class ActionsTab {
         findCustomObjectsBtn.setEnabled(false);
         findAllObjectsBtn.setEnabled(false);
 
+        // Descriptors are extracted again on the next discovery
+        extractionCache.clear();
+
         api.logging().logToOutput("Discovery state has been reset");
     }
 
+    /**
+     * Release the stored object results of a deleted results tab
+     */
+    public void releaseObjectResults(String tabId) {
+        ObjectByNameResult result = tabObjectResults.remove(tabId);
+        if (result != null) {
+            result.close();
+        }
+    }
+
     /**
      * Reset the route discovery state
      */
@@ -7615,6 +8276,9 @@ public class ActionsTab {
         // Reset UI state
         getNavItemsBtn.setEnabled(false);
 
+        // Route paths are extracted again on the next discovery
+        extractionCache.clear();
+
         api.logging().logToOutput("Route discovery state has been reset");
     }
 
@@ -7624,6 +8288,7 @@ public class ActionsTab {
     public void cancelOperation() {
         api.logging().logToOutput("Operation cancelled - stopping all requests");
         operationCancelled = true; // Set cancellation flag immediately
+        stopBulkExecutor();
 
         // More aggressive thread stopping
         if (currentOperationThread != null && currentOperationThread.isAlive()) {
@@ -7649,6 +8314,16 @@ public class ActionsTab {
         api.logging().logToOutput("Cancellation complete - no new requests should be sent");
     }
 
+    /**
+     * Stop the bulk retrieval worker pool, interrupting in-flight requests
+     */
+    private void stopBulkExecutor() {
+        java.util.concurrent.ExecutorService executor = currentBulkExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Cleanup method to properly dispose of resources when extension is unloaded
      */
@@ -7656,6 +8331,14 @@ public class ActionsTab {
         try {
             // Cancel any running operation
             cancelOperation();
+            stopLiveDiscovery();
+
+            // Delete the temp files holding object results
+            for (ObjectByNameResult result : tabObjectResults.values()) {
+                result.close();
+            }
+            tabObjectResults.clear();
+            objectByNameResults.close();
 
             api.logging().logToOutput("ActionsTab cleanup completed");
         } catch (Exception e) {
@@ -7663,6 +8346,150 @@ public class ActionsTab {
         }
     }
 
+    /**
+     * Start analyzing new JavaScript responses as they arrive, collecting results in the live discovery tab
+     */
+    private void startLiveDiscovery() {
+        if (liveDiscoveryRegistration != null) {
+            return;
+        }
+
+        liveRouterPaths.clear();
+        liveJSPaths.clear();
+        liveDescriptors.clear();
+        liveDiscoveryPending.set(0);
+        liveDiscoveryResults = new RouteDiscoveryResult();
+        liveDiscoveryExecutor = ThreadManager.createManagedExecutor(1, "Auraditor-LiveDiscovery");
+
+        liveDiscoveryRegistration = api.http().registerHttpHandler(new HttpHandler() {
+            @Override
+            public RequestToBeSentAction handleHttpRequestToBeSent(HttpRequestToBeSent requestToBeSent) {
+                return RequestToBeSentAction.continueWith(requestToBeSent);
+            }
+
+            @Override
+            public ResponseReceivedAction handleHttpResponseReceived(HttpResponseReceived responseReceived) {
+                queueLiveDiscovery(responseReceived);
+                return ResponseReceivedAction.continueWith(responseReceived);
+            }
+        });
+
+        api.logging().logToOutput("Live discovery started - new JavaScript responses will be analyzed as they arrive");
+        showStatusMessage("Live discovery enabled - results appear in the '" + LIVE_DISCOVERY_RESULT_ID + "' tab", Color.BLUE);
+    }
+
+    /**
+     * Stop live discovery; results collected so far stay in their tab
+     */
+    private void stopLiveDiscovery() {
+        if (liveDiscoveryRegistration != null) {
+            liveDiscoveryRegistration.deregister();
+            liveDiscoveryRegistration = null;
+        }
+
+        java.util.concurrent.ExecutorService executor = liveDiscoveryExecutor;
+        liveDiscoveryExecutor = null;
+        if (executor != null) {
+            executor.shutdownNow();
+            ThreadManager.unregisterExecutor(executor);
+            api.logging().logToOutput("Live discovery stopped");
+        }
+    }
+
+    /**
+     * Queue a JavaScript response for live discovery (called on Burp's HTTP threads, so it only filters and queues)
+     */
+    private void queueLiveDiscovery(HttpResponseReceived responseReceived) {
+        java.util.concurrent.ExecutorService executor = liveDiscoveryExecutor;
+        if (executor == null || responseReceived.mimeType() != MimeType.SCRIPT) {
+            return;
+        }
+
+        try {
+            HttpRequest request = responseReceived.initiatingRequest();
+            if (searchSitemapOnlyCheckbox.isSelected() && !api.scope().isInScope(request.url())) {
+                return;
+            }
+
+            // Drop responses rather than piling up bodies while the worker catches up
+            if (liveDiscoveryPending.incrementAndGet() > LIVE_DISCOVERY_MAX_PENDING) {
+                liveDiscoveryPending.decrementAndGet();
+                return;
+            }
+
+            HttpRequestResponse item = HttpRequestResponse.httpRequestResponse(request, responseReceived);
+            executor.execute(() -> {
+                try {
+                    processLiveJavaScriptResponse(item);
+                } finally {
+                    liveDiscoveryPending.decrementAndGet();
+                }
+            });
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            // Live discovery was stopped while the response was being queued
+            liveDiscoveryPending.decrementAndGet();
+        } catch (Exception e) {
+            api.logging().logToError("Failed to queue response for live discovery: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Run all three extractors on one response and add anything new to the live results
+     */
+    private void processLiveJavaScriptResponse(HttpRequestResponse item) {
+        RouteDiscoveryResult results = liveDiscoveryResults;
+        if (results == null || item.response() == null) {
+            return;
+        }
+
+        try {
+            ScriptBody body = new ScriptBody(item);
+            int knownItems = liveRouterPaths.size() + liveJSPaths.size() + liveDescriptors.size();
+
+            // Router paths go straight into their live category
+            String routerCategoryName = "Router Initializer Paths (" + LIVE_SESSION_LABEL + ")";
+            for (String routePath : routerPathsFor(body)) {
+                if (liveRouterPaths.add(routePath)) {
+                    results.appendRoute(routerCategoryName, routePath);
+                }
+            }
+
+            for (String[] jsPath : jsPathsFor(body)) {
+                addJSPathToResults(jsPath[1], jsPath[0], results, liveJSPaths, LIVE_SESSION_LABEL);
+            }
+
+            for (DescriptorInfo descriptorInfo : descriptorsFor(body)) {
+                if (liveDescriptors.add(descriptorInfo.getDescriptor())) {
+                    addDescriptorToResults(descriptorInfo, results, LIVE_SESSION_LABEL);
+                }
+            }
+
+            body.release();
+
+            if (liveRouterPaths.size() + liveJSPaths.size() + liveDescriptors.size() > knownItems) {
+                scheduleLiveDiscoveryRefresh(results);
+            }
+        } catch (Exception e) {
+            api.logging().logToError("Live discovery failed for " + item.request().url() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Refresh the live discovery tab once for any number of findings made before the EDT gets to it
+     */
+    private void scheduleLiveDiscoveryRefresh(RouteDiscoveryResult results) {
+        if (!liveRefreshScheduled.compareAndSet(false, true) || resultTabCallback == null) {
+            return;
+        }
+
+        SwingUtilities.invokeLater(() -> {
+            liveRefreshScheduled.set(false);
+
+            // Hand the tab a snapshot so the worker can keep adding to the live results
+            resultTabCallback.refreshDiscoveredRoutesTab(LIVE_DISCOVERY_RESULT_ID, results.snapshot());
+        });
+    }
+
     /**
      * Perform all three sitemap searches at once to avoid multiple sitemap iterations
      */
@@ -7708,85 +8535,61 @@ public class ActionsTab {
     private void processSitemapWithMultipleProcessors(BaseRequest baseRequest, boolean sitemapOnly, String routerPathsResultId, String jsPathsResultId, String descriptorsResultId) {
 
         try {
-            // Get sitemap items once
+            // Get the JavaScript responses once for all searches
             api.logging().logToOutput("Retrieving sitemap entries for all searches...");
-            List<HttpRequestResponse> sitemapItems = new ArrayList<>();
-            sitemapItems.addAll(api.siteMap().requestResponses());
-
-            api.logging().logToOutput("Total sitemap items retrieved: " + sitemapItems.size());
-
-            // Filter for JavaScript responses once
-            List<HttpRequestResponse> jsResponses = new ArrayList<>();
-            for (HttpRequestResponse item : sitemapItems) {
-                // Check for cancellation from any search
-                if (routerPathsCancelled || jsPathsCancelled || descriptorsCancelled ||
-                    operationCancelled || Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("Consolidated sitemap searches cancelled by user");
-                    return;
-                }
-
-                try {
-                    if (item.response() != null && item.response().mimeType() == MimeType.SCRIPT) {
-                        // Apply scope filtering if sitemapOnly is false
-                        if (!sitemapOnly || api.scope().isInScope(item.request().url())) {
-                            jsResponses.add(item);
-                        }
-                    }
-                } catch (Exception e) {
-                    api.logging().logToError("Error filtering JavaScript response: " + e.getMessage());
-                }
+            java.util.function.BooleanSupplier cancelled = () -> routerPathsCancelled || jsPathsCancelled ||
+                descriptorsCancelled || operationCancelled || Thread.currentThread().isInterrupted();
+            List<HttpRequestResponse> jsResponses = retrieveSitemapJavaScriptResponses(sitemapOnly, cancelled);
+            if (cancelled.getAsBoolean()) {
+                api.logging().logToOutput("Consolidated sitemap searches cancelled by user");
+                return;
             }
 
             api.logging().logToOutput("JavaScript responses found: " + jsResponses.size());
 
-            // Process each JavaScript response with all three processors
-            AtomicInteger processedItems = new AtomicInteger(0);
+            // Process the JavaScript responses in parallel with all three processors
             int totalItems = jsResponses.size();
 
             // Generate timestamp for JS paths processing (required by that method)
             String jsTimestamp = generateTimestamp();
 
-            for (HttpRequestResponse jsResponse : jsResponses) {
-                // Check for cancellation from any search
-                if (routerPathsCancelled || jsPathsCancelled || descriptorsCancelled ||
-                    operationCancelled || Thread.currentThread().isInterrupted()) {
-                    api.logging().logToOutput("Consolidated sitemap searches cancelled by user");
-                    return;
-                }
+            boolean completed = analyzeJavaScriptResponses(jsResponses,
+                () -> routerPathsCancelled || jsPathsCancelled || descriptorsCancelled ||
+                    operationCancelled || Thread.currentThread().isInterrupted(),
+                jsResponse -> {
+                    // Hash, decode and scan the body once for all three processors
+                    ScriptBody body = new ScriptBody(jsResponse);
 
-                try {
-                    // Process with router paths processor
-                    if (!routerPathsCancelled) {
-                        processJavaScriptResponseForRouterPaths(jsResponse, "consolidated", jsTimestamp);
-                    }
+                    try {
+                        // Process with router paths processor
+                        if (!routerPathsCancelled) {
+                            processJavaScriptResponseForRouterPaths(body);
+                        }
 
-                    // Process with JS paths processor
-                    if (!jsPathsCancelled) {
-                        processJavaScriptResponseForPaths(jsResponse, baseRequest, jsTimestamp);
-                    }
+                        // Process with JS paths processor
+                        if (!jsPathsCancelled) {
+                            processJavaScriptResponseForPaths(body, jsTimestamp);
+                        }
 
-                    // Process with descriptors processor
-                    if (!descriptorsCancelled) {
-                        processJavaScriptResponseForDescriptors(jsResponse, jsTimestamp);
+                        // Process with descriptors processor
+                        if (!descriptorsCancelled) {
+                            processJavaScriptResponseForDescriptors(body, jsTimestamp);
+                        }
+                    } finally {
+                        body.release();
                     }
-
-                    // Update progress
-                    int processed = processedItems.incrementAndGet();
-                    int progress = (processed * 100) / totalItems;
-
-                    // Update status for all searches
-                    SwingUtilities.invokeLater(() -> {
-                        performAllSitemapSearchesBtn.setText("⟳ All Searches (" + progress + "%)");
-                    });
-
-                    if (processed % 10 == 0) {
-                        api.logging().logToOutput("Processed " + processed + "/" + totalItems +
-                            " JavaScript files for all searches (" + progress + "%)");
+                },
+                progress -> {
+                    SwingUtilities.invokeLater(() -> performAllSitemapSearchesBtn.setText("⟳ All Searches (" + progress + "%)"));
+                    if (progress % 10 == 0) {
+                        api.logging().logToOutput("Processed " + progress + "% of " + totalItems +
+                            " JavaScript files for all searches");
                     }
+                });
 
-                } catch (Exception e) {
-                    api.logging().logToError("Error processing JavaScript response in consolidated search: " + e.getMessage());
-                }
+            if (!completed) {
+                api.logging().logToOutput("Consolidated sitemap searches cancelled by user");
+                return;
             }
 
             // Completion - finalize all results and create tabs
@@ -31,6 +31,7 @@ public class AuraditorSuiteTab {
     private final JTabbedPane resultsTabbedPane;
     private final java.util.Map<String, ActionsTab.ObjectByNameResultPanel> existingObjectPanels;
     private final SalesforceIdGeneratorManager generatorManager;
+    private final SalesforceIdLabTab salesforceIdLabTab;
 
     public AuraditorSuiteTab(MontoyaApi api, SalesforceIdGeneratorManager generatorManager) {
         this.api = api;
@@ -77,6 +78,12 @@ public class AuraditorSuiteTab {
                 AuraditorSuiteTab.this.updateObjectByNameTabWithoutSwitching(resultId, objectByNameResult);
             }
 
+            @Override
+            public void appendObjectByNameEntries(String resultId, ActionsTab.ObjectByNameResult objectByNameResult,
+                                                  java.util.Collection<String> newNames) {
+                AuraditorSuiteTab.this.appendObjectByNameEntries(resultId, objectByNameResult, newNames);
+            }
+
             @Override
             public void createRecordTab(String resultId, String recordId, String recordData, BaseRequest baseRequest) {
                 AuraditorSuiteTab.this.createRecordTab(resultId, recordId, recordData, baseRequest);
@@ -92,6 +99,11 @@ public class AuraditorSuiteTab {
                 AuraditorSuiteTab.this.updateDiscoveredRoutesTab(resultId, routeDiscoveryResult);
             }
 
+            @Override
+            public void refreshDiscoveredRoutesTab(String resultId, ActionsTab.RouteDiscoveryResult routeDiscoveryResult) {
+                AuraditorSuiteTab.this.updateDiscoveredRoutesTabWithoutSwitching(resultId, routeDiscoveryResult);
+            }
+
             public void createRetrievedRecordsTab(String resultId, String recordId, String recordData) {
                 AuraditorSuiteTab.this.createRetrievedRecordsTab(resultId, recordId, recordData);
             }
@@ -109,8 +121,8 @@ public class AuraditorSuiteTab {
         });
 
         // Create and add Salesforce ID Lab tab
-        SalesforceIdLabTab salesforceIdLabTab = new SalesforceIdLabTab(api, generatorManager);
-        this.tabbedPane.addTab("Salesforce ID Lab", salesforceIdLabTab.getComponent());
+        this.salesforceIdLabTab = new SalesforceIdLabTab(api, generatorManager);
+        this.tabbedPane.addTab("Salesforce ID Lab", this.salesforceIdLabTab.getComponent());
 
         // Add placeholder tab for future functionality
         JPanel placeholderTab = new JPanel(new BorderLayout());
@@ -258,6 +270,31 @@ public class AuraditorSuiteTab {
         });
     }
 
+    /**
+     * Update or create discovered routes result tab without switching to it (for live updates)
+     */
+    private void updateDiscoveredRoutesTabWithoutSwitching(String resultId, ActionsTab.RouteDiscoveryResult routeDiscoveryResult) {
+        SwingUtilities.invokeLater(() -> {
+            // Remove "No Results" tab if it exists
+            if (resultsTabbedPane.getTabCount() == 1 &&
+                "No Results".equals(resultsTabbedPane.getTitleAt(0))) {
+                resultsTabbedPane.removeTabAt(0);
+            }
+
+            for (int i = 0; i < resultsTabbedPane.getTabCount(); i++) {
+                if (resultId.equals(resultsTabbedPane.getTitleAt(i))) {
+                    ActionsTab.DiscoveredRoutesResultPanel existingPanel =
+                        (ActionsTab.DiscoveredRoutesResultPanel) resultsTabbedPane.getComponentAt(i);
+                    existingPanel.updateRouteDiscoveryResult(routeDiscoveryResult);
+                    return;
+                }
+            }
+
+            // Tab doesn't exist - create it in the background
+            resultsTabbedPane.addTab(resultId, new ActionsTab.DiscoveredRoutesResultPanel(routeDiscoveryResult, api));
+        });
+    }
+
     /**
      * Update or create discovered routes result tab with route discovery result
      */
@@ -399,6 +436,20 @@ public class AuraditorSuiteTab {
         });
     }
 
+    /**
+     * Append new entries to an existing object by name tab, falling back to a full update
+     * when the tab has not been created yet (called on the EDT)
+     */
+    private void appendObjectByNameEntries(String resultId, ActionsTab.ObjectByNameResult objectByNameResult,
+                                           java.util.Collection<String> newNames) {
+        ActionsTab.ObjectByNameResultPanel objectByNamePanel = existingObjectPanels.get(resultId);
+        if (objectByNamePanel != null && resultsTabbedPane.indexOfComponent(objectByNamePanel) >= 0) {
+            objectByNamePanel.appendEntries(newNames);
+        } else {
+            updateObjectByNameTabWithoutSwitching(resultId, objectByNameResult);
+        }
+    }
+
     /**
      * Create a new retrieved records result tab with context menu support
      */
@@ -678,6 +729,7 @@ public class AuraditorSuiteTab {
             } else if (tabTitle.startsWith("Objects") || tabTitle.startsWith("Retrieved Objects")) {
                 // Clean up object results tracking
                 existingObjectPanels.remove(tabTitle);
+                actionsTab.releaseObjectResults(tabTitle);
                 api.logging().logToOutput("Deleted object results tab: " + tabTitle);
             } else if (tabTitle.startsWith("Retrieved Records")) {
                 // Clean up record results tracking
@@ -717,6 +769,11 @@ public class AuraditorSuiteTab {
                 baseRequestsTab.cleanup();
             }
 
+            // Stop the Salesforce ID harvester
+            if (salesforceIdLabTab != null) {
+                salesforceIdLabTab.cleanup();
+            }
+
             // Clear any remaining UI components
             if (tabbedPane != null) {
                 tabbedPane.removeAll();
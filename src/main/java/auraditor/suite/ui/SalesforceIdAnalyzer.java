@@ -22,14 +22,28 @@ import java.util.Map;
 public class SalesforceIdAnalyzer {
 
     // Base62 alphabet used by Salesforce (0-9, A-Z, a-z)
-    private static final String BASE62_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
-    private static final int BASE62 = BASE62_ALPHABET.length();
+    private static final char[] BASE62_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int BASE62 = BASE62_DIGITS.length;
+
+    // Reverse lookup: ASCII character -> base62 digit value, -1 for anything else
+    private static final byte[] BASE62_VALUES = new byte[128];
+
+    static {
+        java.util.Arrays.fill(BASE62_VALUES, (byte) -1);
+        for (int i = 0; i < BASE62; i++) {
+            BASE62_VALUES[BASE62_DIGITS[i]] = (byte) i;
+        }
+    }
+
+    // Offset and length of the record number (base62 counter) inside an ID
+    public static final int COUNTER_OFFSET = 7;
+    public static final int COUNTER_LENGTH = 8;
 
     // Maximum value representable by 8 base62 chars: 62^8 - 1 = 218,340,105,584,895
     public static final long MAX_BASE62_8 = 218340105584895L;
 
     // Checksum mapping alphabet (A-Z, 0-5) - 32 characters for 5-bit values
-    private static final String CHECKSUM_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ012345";
+    private static final char[] CHECKSUM_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ012345".toCharArray();
 
     // Common Salesforce object prefixes
     // Source: https://help.salesforce.com/s/articleView?id=000385203&type=1
@@ -101,7 +115,7 @@ public class SalesforceIdAnalyzer {
         }
 
         // Check alphanumeric
-        if (!id.matches("[A-Za-z0-9]+")) {
+        if (!isBase62(id, 0, id.length())) {
             result.errorMessage = "ID must contain only alphanumeric characters";
             return result;
         }
@@ -133,7 +147,7 @@ public class SalesforceIdAnalyzer {
         result.recordNumberBase62 = result.id15.substring(7, 15);
 
         // Lookup object type
-        result.objectType = OBJECT_PREFIXES.getOrDefault(result.objectPrefix, "Unknown");
+        result.objectType = objectType(result.objectPrefix);
 
         // Convert record number to decimal
         try {
@@ -147,46 +161,70 @@ public class SalesforceIdAnalyzer {
         return result;
     }
 
+    /**
+     * Name of a common object type for a 3-char object prefix, or "Unknown"
+     */
+    public static String objectType(String objectPrefix) {
+        return OBJECT_PREFIXES.getOrDefault(objectPrefix, "Unknown");
+    }
+
     /**
      * Compute 3-character checksum for a 15-char Salesforce ID
      *
      * Algorithm:
      * 1. Split ID into 3 segments of 5 characters
      * 2. Reverse each segment
-     * 3. For each segment, create 5-bit binary string (1=uppercase, 0=lowercase/digit)
-     * 4. Convert 5-bit value to index (0-31)
-     * 5. Map index to checksum character (A-Z, 0-5)
+     * 3. For each segment, create 5-bit value (1=uppercase, 0=lowercase/digit)
+     * 4. Map the value (0-31) to checksum character (A-Z, 0-5)
+     *
+     * Reading the reversed segment as a binary number is the same as setting
+     * bit j for an uppercase character at position j of the segment.
      */
     private static String computeChecksum(String id15) {
         if (id15.length() != 15) {
             throw new IllegalArgumentException("ID must be exactly 15 characters");
         }
 
-        StringBuilder checksum = new StringBuilder();
-
-        // Process 3 segments of 5 characters each
-        for (int i = 0; i < 3; i++) {
-            int start = i * 5;
-            int end = start + 5;
-            String segment = id15.substring(start, end);
-
-            // Reverse the segment
-            String reversed = new StringBuilder(segment).reverse().toString();
+        char[] id = new char[18];
+        id15.getChars(0, 15, id, 0);
+        writeChecksum(id);
+        return new String(id, 15, 3);
+    }
 
-            // Build 5-bit binary string (1 for uppercase, 0 for lowercase/digit)
-            StringBuilder bits = new StringBuilder();
-            for (char c : reversed.toCharArray()) {
-                bits.append(Character.isUpperCase(c) ? '1' : '0');
+    /**
+     * Write the checksum of id[0..15) into id[15..18)
+     */
+    public static void writeChecksum(char[] id) {
+        for (int segment = 0; segment < 3; segment++) {
+            int start = segment * 5;
+            int index = 0;
+            for (int j = 0; j < 5; j++) {
+                char c = id[start + j];
+                if (c >= 'A' && c <= 'Z') {
+                    index |= 1 << j;
+                }
             }
+            id[15 + segment] = CHECKSUM_ALPHABET[index];
+        }
+    }
 
-            // Convert binary string to index (0-31)
-            int index = Integer.parseInt(bits.toString(), 2);
+    /**
+     * Value of a base62 digit, or -1 if the character is not one
+     */
+    public static int base62Value(char c) {
+        return c < 128 ? BASE62_VALUES[c] : -1;
+    }
 
-            // Map to checksum character
-            checksum.append(CHECKSUM_ALPHABET.charAt(index));
+    /**
+     * Check whether text[start..end) consists only of base62 characters
+     */
+    public static boolean isBase62(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (base62Value(text.charAt(i)) < 0) {
+                return false;
+            }
         }
-
-        return checksum.toString();
+        return true;
     }
 
     /**
@@ -194,16 +232,79 @@ public class SalesforceIdAnalyzer {
      */
     private static long base62ToDecimal(String base62) {
         long result = 0;
-        for (char c : base62.toCharArray()) {
-            int index = BASE62_ALPHABET.indexOf(c);
-            if (index == -1) {
+        for (int i = 0; i < base62.length(); i++) {
+            char c = base62.charAt(i);
+            int digit = base62Value(c);
+            if (digit < 0) {
                 throw new IllegalArgumentException("Invalid Base62 character: " + c);
             }
-            result = result * BASE62 + index;
+            result = result * BASE62 + digit;
         }
         return result;
     }
 
+    /**
+     * Decode the 8-char record number at COUNTER_OFFSET, or -1 if it is not base62
+     */
+    public static long decodeCounter(CharSequence id) {
+        long result = 0;
+        for (int i = COUNTER_OFFSET; i < COUNTER_OFFSET + COUNTER_LENGTH; i++) {
+            int digit = base62Value(id.charAt(i));
+            if (digit < 0) {
+                return -1;
+            }
+            result = result * BASE62 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Write a record number (0 to MAX_BASE62_8) as 8 base62 chars at COUNTER_OFFSET
+     */
+    public static void encodeCounter(long value, char[] id) {
+        long n = value;
+        for (int i = COUNTER_OFFSET + COUNTER_LENGTH - 1; i >= COUNTER_OFFSET; i--) {
+            id[i] = BASE62_DIGITS[(int) (n % BASE62)];
+            n /= BASE62;
+        }
+    }
+
+    /**
+     * Add one to the 8-char record number in place
+     *
+     * @return false (leaving the ID unchanged) if the counter is already MAX_BASE62_8
+     */
+    public static boolean incrementCounter(char[] id) {
+        for (int i = COUNTER_OFFSET + COUNTER_LENGTH - 1; i >= COUNTER_OFFSET; i--) {
+            if (id[i] != 'z') {
+                id[i] = BASE62_DIGITS[BASE62_VALUES[id[i]] + 1];
+                for (int j = i + 1; j < COUNTER_OFFSET + COUNTER_LENGTH; j++) {
+                    id[j] = '0';
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Subtract one from the 8-char record number in place
+     *
+     * @return false (leaving the ID unchanged) if the counter is already 0
+     */
+    public static boolean decrementCounter(char[] id) {
+        for (int i = COUNTER_OFFSET + COUNTER_LENGTH - 1; i >= COUNTER_OFFSET; i--) {
+            if (id[i] != '0') {
+                id[i] = BASE62_DIGITS[BASE62_VALUES[id[i]] - 1];
+                for (int j = i + 1; j < COUNTER_OFFSET + COUNTER_LENGTH; j++) {
+                    id[j] = 'z';
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Format a long number as plain string without separators
      */
@@ -219,28 +320,21 @@ public class SalesforceIdAnalyzer {
             throw new IllegalArgumentException("Only non-negative values are supported");
         }
 
-        if (value == 0) {
-            String zeros = "0";
-            while (zeros.length() < minLength) {
-                zeros += "0";
-            }
-            return zeros;
-        }
-
-        StringBuilder result = new StringBuilder();
+        // Long.MAX_VALUE needs 11 base62 digits
+        char[] digits = new char[Math.max(11, minLength)];
+        int pos = digits.length;
         long n = value;
-        while (n > 0) {
-            int remainder = (int) (n % BASE62);
-            result.insert(0, BASE62_ALPHABET.charAt(remainder));
-            n = n / BASE62;
-        }
+        do {
+            digits[--pos] = BASE62_DIGITS[(int) (n % BASE62)];
+            n /= BASE62;
+        } while (n > 0);
 
         // Pad with zeros to minimum length
-        while (result.length() < minLength) {
-            result.insert(0, '0');
+        while (digits.length - pos < minLength) {
+            digits[--pos] = '0';
         }
 
-        return result.toString();
+        return new String(digits, pos, digits.length - pos);
     }
 
     /**
@@ -252,8 +346,7 @@ public class SalesforceIdAnalyzer {
             return false;
         }
 
-        String id15 = id.substring(0, 15);
-        return id15.matches("[A-Za-z0-9]{15}");
+        return isBase62(id, 0, 15);
     }
 
     /**
@@ -284,6 +377,54 @@ public class SalesforceIdAnalyzer {
         return id15 + computeChecksum(id15);
     }
 
+    /**
+     * Cursor over a sequence of Salesforce IDs; each ID is produced on demand
+     * from one reused buffer, so any count runs in constant memory
+     */
+    public static class IdSequence {
+        private final char[] id = new char[18];
+        private final int length;
+        private final boolean upward;
+        private final boolean use18Char;
+        private int remaining;
+
+        /**
+         * @param baseId Base Salesforce ID (15 or 18 chars)
+         * @param count Number of IDs to generate
+         * @param upward Direction: true=increment, false=decrement
+         * @param use18Char Output format: true=18-char, false=15-char
+         */
+        public IdSequence(String baseId, int count, boolean upward, boolean use18Char) {
+            String id15 = normalize15(baseId);
+            if (decodeCounter(id15) < 0) {
+                throw new IllegalArgumentException("Invalid Base62 record number: " + id15.substring(COUNTER_OFFSET));
+            }
+            id15.getChars(0, 15, id, 0);
+            this.length = use18Char ? 18 : 15;
+            this.upward = upward;
+            this.use18Char = use18Char;
+            this.remaining = Math.max(count, 0);
+        }
+
+        /**
+         * Next ID of the sequence, or null once count IDs were produced or the
+         * counter left 0..MAX_BASE62_8 (same bounds as sfidenum.py)
+         */
+        public String next() {
+            if (remaining <= 0) {
+                return null;
+            }
+            if (use18Char) {
+                writeChecksum(id);
+            }
+            String next = new String(id, 0, length);
+
+            boolean stepped = upward ? incrementCounter(id) : decrementCounter(id);
+            remaining = stepped ? remaining - 1 : 0;
+            return next;
+        }
+    }
+
     /**
      * Generate a sequence of Salesforce IDs starting from a base ID
      *
@@ -301,35 +442,10 @@ public class SalesforceIdAnalyzer {
             return ids;
         }
 
-        // Normalize to 15 chars
-        String id15 = normalize15(baseId);
-
-        // Extract prefix7 and record number
-        String prefix7 = id15.substring(0, 7);
-        String counter8 = id15.substring(7, 15);
-        long startValue = base62ToDecimal(counter8);
-
-        // Generate sequence
-        int step = upward ? 1 : -1;
-        long current = startValue;
-
-        for (int i = 0; i < count; i++) {
-            // Check bounds (same as sfidenum.py)
-            if (current < 0 || current > MAX_BASE62_8) {
-                break;
-            }
-
-            // Generate ID
-            String base62 = decimalToBase62(current, 8);
-            String newId15 = prefix7 + base62;
-
-            if (use18Char) {
-                ids.add(computeId18(newId15));
-            } else {
-                ids.add(newId15);
-            }
-
-            current += step;
+        IdSequence sequence = new IdSequence(baseId, count, upward, use18Char);
+        String id;
+        while ((id = sequence.next()) != null) {
+            ids.add(id);
         }
 
         return ids;
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.suite.ui;
+
+import auraditor.core.ThreadManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Writes a Salesforce ID sequence to a file, one ID per line.
+ *
+ * The counter range is split into fixed-size chunks that are encoded in
+ * parallel into a small ring of direct buffers and written strictly in order
+ * through a FileChannel, so the file matches generateSequence() line for line.
+ */
+public class SalesforceIdExporter {
+
+    // IDs per chunk; a chunk of 18-char IDs is about 1.2 MB
+    private static final int CHUNK_IDS = 1 << 16;
+
+    private SalesforceIdExporter() {
+    }
+
+    /**
+     * Write the sequence starting at baseId to the file, replacing its content.
+     * Stops early (leaving the IDs written so far) when cancelled.
+     *
+     * @param progress Receives the number of IDs written after every chunk
+     * @return Number of IDs written
+     */
+    public static long export(Path file, String baseId, long count, boolean upward, boolean use18Char,
+                              BooleanSupplier cancelled, LongConsumer progress) throws IOException {
+        String id15 = SalesforceIdAnalyzer.normalize15(baseId);
+        long start = SalesforceIdAnalyzer.decodeCounter(id15);
+        if (start < 0) {
+            throw new IllegalArgumentException("Invalid Base62 record number: " + id15.substring(SalesforceIdAnalyzer.COUNTER_OFFSET));
+        }
+
+        // The sequence stops at the 0..MAX_BASE62_8 bounds
+        long available = upward ? SalesforceIdAnalyzer.MAX_BASE62_8 - start + 1 : start + 1;
+        long total = Math.max(0, Math.min(count, available));
+        long chunkCount = (total + CHUNK_IDS - 1) / CHUNK_IDS;
+        int lineLength = (use18Char ? 18 : 15) + 1;
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int window = (int) Math.min(chunkCount, threads * 2L);
+        ExecutorService executor = ThreadManager.createManagedExecutor(threads, "Auraditor-IdExport");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // Keep one chunk in flight per buffer; a written buffer is reused for the next chunk
+            List<Future<ByteBuffer>> pending = new ArrayList<>(window);
+            for (int i = 0; i < window; i++) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_IDS * lineLength);
+                pending.add(submitChunk(executor, buffer, id15, start, i, total, upward, use18Char));
+            }
+
+            long written = 0;
+            for (long chunk = 0; chunk < chunkCount; chunk++) {
+                if (cancelled.getAsBoolean()) {
+                    break;
+                }
+
+                int slot = (int) (chunk % window);
+                ByteBuffer buffer = pending.get(slot).get();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                written += buffer.limit() / lineLength;
+                progress.accept(written);
+
+                long nextChunk = chunk + window;
+                if (nextChunk < chunkCount) {
+                    pending.set(slot, submitChunk(executor, buffer, id15, start, nextChunk, total, upward, use18Char));
+                }
+            }
+            return written;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("ID export interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to encode Salesforce IDs", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            ThreadManager.unregisterExecutor(executor);
+        }
+    }
+
+    /**
+     * Write the IDs of a cursor (until it returns null) to the file, replacing its content.
+     * Used for sequences that cannot be split into counter ranges; stops early when cancelled.
+     *
+     * @param progress Receives the number of IDs written after every chunk
+     * @return Number of IDs written
+     */
+    public static long export(Path file, Supplier<String> ids, BooleanSupplier cancelled,
+                              LongConsumer progress) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_IDS * 19);
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            String id;
+            int buffered = 0;
+            while (!cancelled.getAsBoolean() && (id = ids.get()) != null) {
+                for (int i = 0; i < id.length(); i++) {
+                    buffer.put((byte) id.charAt(i));
+                }
+                buffer.put((byte) '\n');
+
+                if (++buffered == CHUNK_IDS) {
+                    written += flush(channel, buffer, buffered);
+                    buffered = 0;
+                    progress.accept(written);
+                }
+            }
+            if (buffered > 0) {
+                written += flush(channel, buffer, buffered);
+                progress.accept(written);
+            }
+        }
+        return written;
+    }
+
+    private static int flush(FileChannel channel, ByteBuffer buffer, int ids) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        return ids;
+    }
+
+    private static Future<ByteBuffer> submitChunk(ExecutorService executor, ByteBuffer buffer, String id15,
+                                                  long start, long chunk, long total,
+                                                  boolean upward, boolean use18Char) {
+        long offset = chunk * CHUNK_IDS;
+        long first = upward ? start + offset : start - offset;
+        int ids = (int) Math.min(CHUNK_IDS, total - offset);
+        return executor.submit(() -> encodeChunk(buffer, id15, first, ids, upward, use18Char));
+    }
+
+    /**
+     * Encode ids consecutive IDs from the first counter value as ASCII lines
+     */
+    private static ByteBuffer encodeChunk(ByteBuffer buffer, String id15, long first, int ids,
+                                          boolean upward, boolean use18Char) {
+        char[] id = new char[18];
+        id15.getChars(0, 15, id, 0);
+        SalesforceIdAnalyzer.encodeCounter(first, id);
+
+        int idLength = use18Char ? 18 : 15;
+        byte[] line = new byte[idLength + 1];
+        line[idLength] = '\n';
+        for (int i = 0; i < SalesforceIdAnalyzer.COUNTER_OFFSET; i++) {
+            line[i] = (byte) id[i];
+        }
+
+        buffer.clear();
+        for (int n = 0; n < ids; n++) {
+            if (use18Char) {
+                SalesforceIdAnalyzer.writeChecksum(id);
+            }
+            for (int i = SalesforceIdAnalyzer.COUNTER_OFFSET; i < idLength; i++) {
+                line[i] = (byte) id[i];
+            }
+            buffer.put(line);
+
+            // The chunk never steps past the bounds, as total was clamped to them
+            if (upward) {
+                SalesforceIdAnalyzer.incrementCounter(id);
+            } else {
+                SalesforceIdAnalyzer.decrementCounter(id);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
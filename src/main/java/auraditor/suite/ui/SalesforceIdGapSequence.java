@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.suite.ui;
+
+import auraditor.core.CounterBitmap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Cursor over the unobserved Salesforce IDs closest to a set of known IDs.
+ *
+ * The known record numbers of one ID prefix form clusters of consecutive
+ * values. Every round steps one further away from each cluster, taking the
+ * unobserved counter below and then above it, so the IDs nearest to any
+ * known record come first and consecutive IDs alternate between clusters.
+ * Each counter is produced once: the search stops in a gap when the
+ * frontiers of its two neighbouring clusters meet.
+ */
+public class SalesforceIdGapSequence {
+
+    private final char[] id = new char[18];
+    private final int length;
+    private final boolean use18Char;
+    private int remaining;
+
+    // Per cluster, in counter order: next unobserved counter below and above it
+    private long[] down;
+    private long[] up;
+    private final int clusterCount;
+
+    // Clusters with candidates left, visited round-robin
+    private final int[] active;
+    private int activeCount;
+    private int slot = 0;
+    private boolean upNext = false;
+
+    /**
+     * @param baseId Base Salesforce ID (15 or 18 chars); its first 7 chars are the ID prefix and it counts as known
+     * @param known Observed record numbers of the base ID's prefix (not modified), or null
+     * @param count Number of IDs to generate
+     * @param use18Char Output format: true=18-char, false=15-char
+     */
+    public SalesforceIdGapSequence(String baseId, CounterBitmap known, int count, boolean use18Char) {
+        String id15 = SalesforceIdAnalyzer.normalize15(baseId);
+        long baseCounter = SalesforceIdAnalyzer.decodeCounter(id15);
+        if (baseCounter < 0) {
+            throw new IllegalArgumentException("Invalid Base62 record number: " + id15.substring(SalesforceIdAnalyzer.COUNTER_OFFSET));
+        }
+        id15.getChars(0, 15, id, 0);
+        this.length = use18Char ? 18 : 15;
+        this.use18Char = use18Char;
+        this.remaining = Math.max(count, 0);
+
+        CounterBitmap seeds = known != null ? known.copy() : new CounterBitmap();
+        seeds.add(baseCounter);
+
+        // One cluster per run of consecutive known counters
+        down = new long[16];
+        up = new long[16];
+        int clusters = 0;
+        long position = seeds.first();
+        while (position >= 0 && position <= SalesforceIdAnalyzer.MAX_BASE62_8) {
+            long end = seeds.nextAbsent(position) - 1;
+            if (clusters == down.length) {
+                down = Arrays.copyOf(down, clusters * 2);
+                up = Arrays.copyOf(up, clusters * 2);
+            }
+            down[clusters] = position - 1;
+            up[clusters] = end + 1;
+            clusters++;
+            position = seeds.nextValue(end + 1);
+        }
+        this.clusterCount = clusters;
+
+        this.active = new int[clusters];
+        for (int i = 0; i < clusters; i++) {
+            active[i] = i;
+        }
+        this.activeCount = clusters;
+    }
+
+    /**
+     * Number of clusters of consecutive known record numbers
+     */
+    public int getClusterCount() {
+        return clusterCount;
+    }
+
+    /**
+     * Next ID, or null once count IDs were produced or every gap is exhausted
+     */
+    public String next() {
+        while (remaining > 0) {
+            if (slot == activeCount) {
+                // Start the next round with the clusters that still have candidates
+                int kept = 0;
+                for (int i = 0; i < activeCount; i++) {
+                    int cluster = active[i];
+                    if (hasDown(cluster) || hasUp(cluster)) {
+                        active[kept++] = cluster;
+                    }
+                }
+                activeCount = kept;
+                slot = 0;
+                if (activeCount == 0) {
+                    remaining = 0;
+                    return null;
+                }
+            }
+
+            int cluster = active[slot];
+            long candidate = -1;
+            if (!upNext) {
+                if (hasDown(cluster)) {
+                    candidate = down[cluster]--;
+                }
+                upNext = true;
+            } else {
+                if (hasUp(cluster)) {
+                    candidate = up[cluster]++;
+                }
+                upNext = false;
+                slot++;
+            }
+
+            if (candidate >= 0) {
+                SalesforceIdAnalyzer.encodeCounter(candidate, id);
+                if (use18Char) {
+                    SalesforceIdAnalyzer.writeChecksum(id);
+                }
+                remaining--;
+                return new String(id, 0, length);
+            }
+        }
+        return null;
+    }
+
+    // The unvisited part of the gap below a cluster is up[cluster - 1]..down[cluster]
+    private boolean hasDown(int cluster) {
+        long limit = cluster > 0 ? up[cluster - 1] : 0;
+        return down[cluster] >= limit;
+    }
+
+    // The unvisited part of the gap above a cluster is up[cluster]..down[cluster + 1]
+    private boolean hasUp(int cluster) {
+        long limit = cluster < clusterCount - 1 ? down[cluster + 1] : SalesforceIdAnalyzer.MAX_BASE62_8;
+        return up[cluster] <= limit;
+    }
+
+    /**
+     * Record numbers of the known IDs that share the 7-char ID prefix of the base ID.
+     * Known IDs come from the file (one 15 or 18-char ID per line) when one is
+     * given, or else from the harvester.
+     */
+    public static CounterBitmap loadKnownCounters(String baseId, String knownIdsFile,
+                                                  SalesforceIdHarvester harvester) throws IOException {
+        String idPrefix = SalesforceIdAnalyzer.normalize15(baseId).substring(0, SalesforceIdAnalyzer.COUNTER_OFFSET);
+
+        if (knownIdsFile == null || knownIdsFile.trim().isEmpty()) {
+            CounterBitmap harvested = harvester != null ? harvester.getCounters(idPrefix) : null;
+            return harvested != null ? harvested : new CounterBitmap();
+        }
+
+        CounterBitmap known = new CounterBitmap();
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(knownIdsFile.trim()), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String knownId = line.trim();
+                if ((knownId.length() == 15 || knownId.length() == 18)
+                        && knownId.startsWith(idPrefix)
+                        && SalesforceIdAnalyzer.isValidSalesforceIdPrefix(knownId)) {
+                    known.add(SalesforceIdAnalyzer.decodeCounter(knownId));
+                }
+            }
+        }
+        return known;
+    }
+}
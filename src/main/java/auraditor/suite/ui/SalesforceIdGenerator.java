@@ -20,6 +20,8 @@ public class SalesforceIdGenerator {
     private int count; // Number of IDs to generate
     private boolean upward; // Direction: true=upward, false=downward
     private boolean generate18Char; // Output format: true=18-char, false=15-char (default)
+    private boolean gapAware; // If true, enumerate the unobserved IDs nearest to known IDs instead of a linear sweep
+    private String knownIdsFile; // Optional file of known IDs for gap-aware mode - harvested IDs are used if empty
     private String outputFilePath; // Optional file path for batch export
     private boolean modified; // Dirty flag for unsaved changes
 
@@ -33,6 +35,8 @@ public class SalesforceIdGenerator {
         this.count = 100;
         this.upward = true;
         this.generate18Char = false;
+        this.gapAware = false;
+        this.knownIdsFile = "";
         this.outputFilePath = "";
         this.modified = false;
     }
@@ -47,6 +51,8 @@ public class SalesforceIdGenerator {
         this.count = other.count;
         this.upward = other.upward;
         this.generate18Char = other.generate18Char;
+        this.gapAware = other.gapAware;
+        this.knownIdsFile = other.knownIdsFile;
         this.outputFilePath = other.outputFilePath;
         this.modified = other.modified;
     }
@@ -119,6 +125,28 @@ public class SalesforceIdGenerator {
         }
     }
 
+    public boolean isGapAware() {
+        return gapAware;
+    }
+
+    public void setGapAware(boolean gapAware) {
+        if (this.gapAware != gapAware) {
+            this.gapAware = gapAware;
+            this.modified = true;
+        }
+    }
+
+    public String getKnownIdsFile() {
+        return knownIdsFile;
+    }
+
+    public void setKnownIdsFile(String knownIdsFile) {
+        if (!this.knownIdsFile.equals(knownIdsFile)) {
+            this.knownIdsFile = knownIdsFile;
+            this.modified = true;
+        }
+    }
+
     public String getOutputFilePath() {
         return outputFilePath;
     }
@@ -183,6 +211,11 @@ public class SalesforceIdGenerator {
             }
         }
 
+        if (gapAware && knownIdsFile != null && !knownIdsFile.trim().isEmpty()
+                && !new java.io.File(knownIdsFile.trim()).isFile()) {
+            return "Known IDs file does not exist: " + knownIdsFile.trim();
+        }
+
         return null; // Valid
     }
 
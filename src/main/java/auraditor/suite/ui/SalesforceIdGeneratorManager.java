@@ -35,6 +35,7 @@ public class SalesforceIdGeneratorManager {
     private final List<SalesforceIdGenerator> generators;
     private final Map<String, Registration> registrations;
     private final ObjectMapper objectMapper;
+    private final SalesforceIdHarvester harvester;
 
     public SalesforceIdGeneratorManager(MontoyaApi api) {
         this.api = api;
@@ -42,11 +43,19 @@ public class SalesforceIdGeneratorManager {
         this.registrations = new HashMap<>();
         this.objectMapper = new ObjectMapper();
         this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.harvester = new SalesforceIdHarvester(api);
 
         // Load saved generators from project file
         loadFromPersistence();
     }
 
+    /**
+     * Harvester whose observed IDs seed gap-aware generators
+     */
+    public SalesforceIdHarvester getHarvester() {
+        return harvester;
+    }
+
     /**
      * Get all generators
      */
@@ -158,7 +167,7 @@ public class SalesforceIdGeneratorManager {
      * Register a generator with Burp Intruder
      */
     private void registerWithBurp(SalesforceIdGenerator generator) {
-        SalesforceIdGeneratorProvider provider = new SalesforceIdGeneratorProvider(generator);
+        SalesforceIdGeneratorProvider provider = new SalesforceIdGeneratorProvider(generator, harvester);
         Registration registration = api.intruder().registerPayloadGeneratorProvider(provider);
         registrations.put(generator.getName(), registration);
     }
@@ -284,6 +293,8 @@ public class SalesforceIdGeneratorManager {
         public int count;
         public boolean upward;
         public boolean generate18Char;
+        public boolean gapAware;
+        public String knownIdsFile;
 
         // Default constructor for Jackson
         public GeneratorConfig() {
@@ -297,6 +308,8 @@ public class SalesforceIdGeneratorManager {
             this.count = gen.getCount();
             this.upward = gen.isUpward();
             this.generate18Char = gen.isGenerate18Char();
+            this.gapAware = gen.isGapAware();
+            this.knownIdsFile = gen.getKnownIdsFile();
         }
 
         // Convert to SalesforceIdGenerator
@@ -307,6 +320,8 @@ public class SalesforceIdGeneratorManager {
             gen.setCount(count);
             gen.setUpward(upward);
             gen.setGenerate18Char(generate18Char);
+            gen.setGapAware(gapAware);
+            gen.setKnownIdsFile(knownIdsFile != null ? knownIdsFile : "");
             return gen;
         }
     }
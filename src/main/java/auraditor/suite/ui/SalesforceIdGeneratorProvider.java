@@ -20,9 +20,11 @@ import burp.api.montoya.intruder.PayloadGeneratorProvider;
 public class SalesforceIdGeneratorProvider implements PayloadGeneratorProvider {
 
     private final SalesforceIdGenerator config;
+    private final SalesforceIdHarvester harvester;
 
-    public SalesforceIdGeneratorProvider(SalesforceIdGenerator config) {
+    public SalesforceIdGeneratorProvider(SalesforceIdGenerator config, SalesforceIdHarvester harvester) {
         this.config = config;
+        this.harvester = harvester;
     }
 
     @Override
@@ -32,6 +34,6 @@ public class SalesforceIdGeneratorProvider implements PayloadGeneratorProvider {
 
     @Override
     public PayloadGenerator providePayloadGenerator(AttackConfiguration attackConfiguration) {
-        return new SalesforceIdPayloadGenerator(config);
+        return new SalesforceIdPayloadGenerator(config, harvester);
     }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.suite.ui;
+
+import auraditor.core.CounterBitmap;
+import auraditor.core.ThreadManager;
+import burp.api.montoya.MontoyaApi;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * UI panel for the passive Salesforce ID harvester
+ *
+ * Lists the observed ID prefixes with their record number range and density,
+ * and reports observed clusters and the largest unobserved gaps of a range.
+ */
+public class SalesforceIdHarvestPanel {
+
+    private static final int REFRESH_INTERVAL_MS = 2000;
+    private static final int MAX_LISTED_GAPS = 20;
+
+    private final MontoyaApi api;
+    private final SalesforceIdHarvester harvester;
+    private final JPanel mainPanel;
+    private final JCheckBox harvestCheckbox;
+    private final JLabel statusLabel;
+    private final DefaultTableModel prefixTableModel;
+    private final JTable prefixTable;
+    private final JTextField fromField;
+    private final JTextField toField;
+    private final JTextArea resultsArea;
+
+    private long lastObservedCount = -1;
+
+    public SalesforceIdHarvestPanel(MontoyaApi api, SalesforceIdHarvester harvester) {
+        this.api = api;
+        this.harvester = harvester;
+
+        this.harvestCheckbox = new JCheckBox("Harvest IDs from proxied Aura responses");
+        this.statusLabel = new JLabel(" ");
+        this.prefixTableModel = new DefaultTableModel(
+            new Object[] {"ID Prefix", "Object", "Pod", "Observed", "Lowest", "Highest", "Density"}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        this.prefixTable = new JTable(prefixTableModel);
+        this.fromField = new JTextField(15);
+        this.toField = new JTextField(15);
+        this.resultsArea = new JTextArea();
+
+        this.mainPanel = new JPanel(new BorderLayout(10, 10));
+        this.mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        createUI();
+
+        // Pick up new IDs while harvesting
+        Timer refreshTimer = ThreadManager.createManagedTimer(REFRESH_INTERVAL_MS, e -> refreshIfChanged());
+        refreshTimer.start();
+    }
+
+    private void createUI() {
+        // Top toolbar
+        JPanel toolbarPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 5));
+        JButton clearButton = new JButton("Clear");
+
+        harvestCheckbox.setToolTipText("Collect 15/18-char Salesforce IDs from Aura responses passing through the proxy");
+        harvestCheckbox.addActionListener(e -> {
+            if (harvestCheckbox.isSelected()) {
+                harvester.start();
+            } else {
+                harvester.stop();
+            }
+            refreshIfChanged();
+        });
+        clearButton.addActionListener(e -> {
+            harvester.clear();
+            resultsArea.setText("");
+            refreshIfChanged();
+        });
+
+        toolbarPanel.add(harvestCheckbox);
+        toolbarPanel.add(clearButton);
+        toolbarPanel.add(statusLabel);
+        mainPanel.add(toolbarPanel, BorderLayout.NORTH);
+
+        // Observed prefixes
+        prefixTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        prefixTable.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 13));
+        prefixTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                loadSelectedRange();
+            }
+        });
+        JScrollPane tableScrollPane = new JScrollPane(prefixTable);
+        tableScrollPane.setBorder(BorderFactory.createTitledBorder("Observed ID Prefixes"));
+
+        // Range query
+        JPanel queryPanel = new JPanel(new BorderLayout(5, 5));
+        queryPanel.setBorder(BorderFactory.createTitledBorder("Range Query (decimal record numbers)"));
+        JPanel queryInputs = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 5));
+        JButton queryButton = new JButton("Query");
+        queryButton.addActionListener(e -> performQuery());
+        toField.addActionListener(e -> performQuery());
+        queryInputs.add(new JLabel("From:"));
+        queryInputs.add(fromField);
+        queryInputs.add(new JLabel("To:"));
+        queryInputs.add(toField);
+        queryInputs.add(queryButton);
+        queryPanel.add(queryInputs, BorderLayout.NORTH);
+
+        resultsArea.setEditable(false);
+        resultsArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 13));
+        queryPanel.add(new JScrollPane(resultsArea), BorderLayout.CENTER);
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, tableScrollPane, queryPanel);
+        splitPane.setResizeWeight(0.4);
+        mainPanel.add(splitPane, BorderLayout.CENTER);
+    }
+
+    /**
+     * Get the main UI component for this panel
+     */
+    public JComponent getComponent() {
+        return mainPanel;
+    }
+
+    /**
+     * Reload the prefix table if IDs were added or cleared since the last refresh
+     */
+    private void refreshIfChanged() {
+        statusLabel.setText(String.format("%,d IDs from %,d responses%s",
+            harvester.getObservedIdCount(), harvester.getScannedResponseCount(),
+            harvester.isRunning() ? " (harvesting)" : ""));
+
+        long observedCount = harvester.getObservedIdCount();
+        if (observedCount == lastObservedCount) {
+            return;
+        }
+        lastObservedCount = observedCount;
+
+        String selectedPrefix = getSelectedPrefix();
+        prefixTableModel.setRowCount(0);
+        List<String> prefixes = harvester.getIdPrefixes();
+        for (String prefix : prefixes) {
+            CounterBitmap counters = harvester.getCounters(prefix);
+            if (counters == null) {
+                continue;
+            }
+            long lowest = counters.first();
+            long highest = counters.last();
+            long observed = counters.cardinality();
+            prefixTableModel.addRow(new Object[] {
+                prefix,
+                SalesforceIdAnalyzer.objectType(prefix.substring(0, 3)),
+                prefix.substring(3, 6),
+                String.format("%,d", observed),
+                lowest,
+                highest,
+                String.format("%.4f%%", observed * 100.0 / (highest - lowest + 1))
+            });
+        }
+
+        // Keep the selection across refreshes
+        if (selectedPrefix != null) {
+            int row = prefixes.indexOf(selectedPrefix);
+            if (row >= 0 && row < prefixTable.getRowCount()) {
+                prefixTable.setRowSelectionInterval(row, row);
+            }
+        }
+    }
+
+    private String getSelectedPrefix() {
+        int row = prefixTable.getSelectedRow();
+        return row >= 0 ? (String) prefixTableModel.getValueAt(row, 0) : null;
+    }
+
+    /**
+     * Default the query range to the lowest..highest observed record number of the selected prefix
+     */
+    private void loadSelectedRange() {
+        String prefix = getSelectedPrefix();
+        CounterBitmap counters = prefix != null ? harvester.getCounters(prefix) : null;
+        if (counters == null || counters.isEmpty()) {
+            return;
+        }
+        fromField.setText(String.valueOf(counters.first()));
+        toField.setText(String.valueOf(counters.last()));
+    }
+
+    private void performQuery() {
+        String prefix = getSelectedPrefix();
+        if (prefix == null) {
+            resultsArea.setText("Select an ID prefix first");
+            return;
+        }
+
+        long from;
+        long to;
+        try {
+            from = Long.parseLong(fromField.getText().trim().replace(",", ""));
+            to = Long.parseLong(toField.getText().trim().replace(",", ""));
+        } catch (NumberFormatException e) {
+            resultsArea.setText("From and To must be decimal record numbers");
+            return;
+        }
+
+        // Walking the gaps of a sparse range can take a moment
+        new SwingWorker<SalesforceIdHarvester.RangeStats, Void>() {
+            @Override
+            protected SalesforceIdHarvester.RangeStats doInBackground() {
+                return harvester.queryRange(prefix, from, to, MAX_LISTED_GAPS);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    resultsArea.setText(formatStats(prefix, get()));
+                    resultsArea.setCaretPosition(0);
+                } catch (Exception e) {
+                    api.logging().logToError("Error querying harvested IDs: " + e.getMessage());
+                    resultsArea.setText("Query failed: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    private static String formatStats(String prefix, SalesforceIdHarvester.RangeStats stats) {
+        StringBuilder output = new StringBuilder();
+        output.append("ID prefix ").append(prefix).append(", record numbers ")
+            .append(stats.from).append(" to ").append(stats.to).append("\n\n");
+        output.append(String.format("Observed:  %,d of %,d (%.4f%%)%n", stats.observed, stats.span(), stats.density() * 100));
+        output.append(String.format("Clusters:  %,d runs of consecutive record numbers%n", stats.clusters));
+
+        if (!stats.largestGaps.isEmpty()) {
+            output.append("\nLargest unobserved gaps:\n");
+            for (long[] gap : stats.largestGaps) {
+                output.append(String.format("  %,15d IDs  %s .. %s%n", gap[1] - gap[0] + 1,
+                    prefix + SalesforceIdAnalyzer.decimalToBase62(gap[0], 8),
+                    prefix + SalesforceIdAnalyzer.decimalToBase62(gap[1], 8)));
+            }
+        }
+        return output.toString();
+    }
+}
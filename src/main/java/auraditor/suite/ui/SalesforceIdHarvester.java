@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.suite.ui;
+
+import auraditor.core.CounterBitmap;
+import auraditor.core.ThreadManager;
+import auraditor.suite.AuraDetector;
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.Registration;
+import burp.api.montoya.proxy.http.InterceptedResponse;
+import burp.api.montoya.proxy.http.ProxyResponseHandler;
+import burp.api.montoya.proxy.http.ProxyResponseReceivedAction;
+import burp.api.montoya.proxy.http.ProxyResponseToBeSentAction;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Passively collects Salesforce IDs from Aura responses passing through the proxy.
+ *
+ * IDs are not kept as strings: each distinct 7-char ID prefix (object prefix,
+ * pod and reserved char) maps to a CounterBitmap of the decoded 8-char record
+ * numbers, so millions of observed IDs take a few MB and can be queried for
+ * ranges, gaps and density at any time.
+ */
+public class SalesforceIdHarvester {
+
+    // Responses waiting for the worker; newer ones are dropped beyond this
+    private static final int MAX_PENDING = 200;
+
+    private final MontoyaApi api;
+    private final Map<String, CounterBitmap> countersByPrefix = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger(0);
+    private final AtomicLong observedIds = new AtomicLong(0);
+    private final AtomicLong scannedResponses = new AtomicLong(0);
+
+    // Written under the lock in start()/stop(), read by the proxy handler threads
+    private volatile Registration registration;
+    private volatile ExecutorService executor;
+
+    /**
+     * Observed counters between two bounds of one ID prefix
+     */
+    public static class RangeStats {
+        public long from;
+        public long to;
+        public long observed;
+        // Runs of consecutive observed counters
+        public long clusters;
+        // Largest unobserved ranges as {first, last}, largest first
+        public List<long[]> largestGaps = new ArrayList<>();
+
+        public long span() {
+            return to - from + 1;
+        }
+
+        public double density() {
+            return span() > 0 ? (double) observed / span() : 0;
+        }
+    }
+
+    public SalesforceIdHarvester(MontoyaApi api) {
+        this.api = api;
+    }
+
+    /**
+     * Start harvesting from proxied Aura responses
+     */
+    public synchronized void start() {
+        if (registration != null) {
+            return;
+        }
+
+        pending.set(0);
+        executor = ThreadManager.createManagedExecutor(1, "Auraditor-IdHarvester");
+        registration = api.proxy().registerResponseHandler(new ProxyResponseHandler() {
+            @Override
+            public ProxyResponseReceivedAction handleResponseReceived(InterceptedResponse interceptedResponse) {
+                queueResponse(interceptedResponse);
+                return ProxyResponseReceivedAction.continueWith(interceptedResponse);
+            }
+
+            @Override
+            public ProxyResponseToBeSentAction handleResponseToBeSent(InterceptedResponse interceptedResponse) {
+                return ProxyResponseToBeSentAction.continueWith(interceptedResponse);
+            }
+        });
+
+        api.logging().logToOutput("Salesforce ID harvesting started");
+    }
+
+    /**
+     * Stop harvesting; IDs observed so far are kept
+     */
+    public synchronized void stop() {
+        if (registration != null) {
+            registration.deregister();
+            registration = null;
+        }
+
+        if (executor != null) {
+            executor.shutdownNow();
+            ThreadManager.unregisterExecutor(executor);
+            executor = null;
+            api.logging().logToOutput("Salesforce ID harvesting stopped");
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return registration != null;
+    }
+
+    /**
+     * Forget every observed ID
+     */
+    public void clear() {
+        countersByPrefix.clear();
+        observedIds.set(0);
+        scannedResponses.set(0);
+    }
+
+    /**
+     * Number of distinct IDs observed; also serves as a change counter
+     */
+    public long getObservedIdCount() {
+        return observedIds.get();
+    }
+
+    public long getScannedResponseCount() {
+        return scannedResponses.get();
+    }
+
+    /**
+     * Observed 7-char ID prefixes, sorted
+     */
+    public List<String> getIdPrefixes() {
+        List<String> prefixes = new ArrayList<>(countersByPrefix.keySet());
+        prefixes.sort(null);
+        return prefixes;
+    }
+
+    /**
+     * Live set of record numbers observed for the 7-char ID prefix, or null if there are none
+     */
+    public CounterBitmap getCounters(String idPrefix) {
+        return countersByPrefix.get(idPrefix);
+    }
+
+    /**
+     * Summarize the observed record numbers of an ID prefix in from..to (inclusive)
+     */
+    public RangeStats queryRange(String idPrefix, long from, long to, int maxGaps) {
+        RangeStats stats = new RangeStats();
+        stats.from = Math.max(0, from);
+        stats.to = Math.min(to, SalesforceIdAnalyzer.MAX_BASE62_8);
+
+        CounterBitmap counters = countersByPrefix.get(idPrefix);
+        if (counters == null || stats.to < stats.from) {
+            return stats;
+        }
+        stats.observed = counters.rangeCardinality(stats.from, stats.to);
+
+        // Walk alternating runs of observed and unobserved counters, keeping the largest gaps
+        PriorityQueue<long[]> gaps = new PriorityQueue<>((a, b) -> Long.compare(a[1] - a[0], b[1] - b[0]));
+        long position = stats.from;
+        while (position <= stats.to) {
+            long gapStart = counters.nextAbsent(position);
+            if (gapStart > position) {
+                stats.clusters++;
+            }
+            if (gapStart > stats.to) {
+                break;
+            }
+            long nextObserved = counters.nextValue(gapStart);
+            long gapEnd = nextObserved < 0 || nextObserved > stats.to ? stats.to : nextObserved - 1;
+
+            gaps.add(new long[] {gapStart, gapEnd});
+            if (gaps.size() > maxGaps) {
+                gaps.poll();
+            }
+            position = gapEnd + 1;
+        }
+
+        while (!gaps.isEmpty()) {
+            stats.largestGaps.add(0, gaps.poll());
+        }
+        return stats;
+    }
+
+    /**
+     * Record every Salesforce ID in a response body
+     *
+     * Only quoted tokens of exactly 15 or 18 alphanumeric characters are taken.
+     * 18-char IDs must carry a valid checksum; 15-char IDs have none, so they
+     * must at least have a digit in their first 7 chars, as every object prefix
+     * and pod in practice does.
+     *
+     * @return Number of IDs that had not been observed before
+     */
+    public int harvest(byte[] body) {
+        int added = 0;
+        char[] id = new char[18];
+        char[] checksum = new char[3];
+
+        int i = 0;
+        while (i < body.length) {
+            if (!isAlphanumeric(body[i])) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < body.length && isAlphanumeric(body[i])) {
+                i++;
+            }
+            int length = i - start;
+            if ((length != 15 && length != 18) || start == 0 || body[start - 1] != '"'
+                    || i == body.length || (body[i] != '"' && body[i] != '\\')) {
+                continue;
+            }
+
+            boolean hasDigit = false;
+            for (int j = 0; j < length; j++) {
+                id[j] = (char) body[start + j];
+                hasDigit |= j < SalesforceIdAnalyzer.COUNTER_OFFSET && id[j] >= '0' && id[j] <= '9';
+            }
+            if (length == 18) {
+                System.arraycopy(id, 15, checksum, 0, 3);
+                SalesforceIdAnalyzer.writeChecksum(id);
+                if (id[15] != checksum[0] || id[16] != checksum[1] || id[17] != checksum[2]) {
+                    continue;
+                }
+            } else if (!hasDigit) {
+                continue;
+            }
+
+            String idPrefix = new String(id, 0, SalesforceIdAnalyzer.COUNTER_OFFSET);
+            long counter = SalesforceIdAnalyzer.decodeCounter(CharBuffer.wrap(id));
+            if (countersByPrefix.computeIfAbsent(idPrefix, key -> new CounterBitmap()).add(counter)) {
+                added++;
+            }
+        }
+
+        if (added > 0) {
+            observedIds.addAndGet(added);
+        }
+        return added;
+    }
+
+    /**
+     * Queue an Aura response for harvesting (called on Burp's proxy threads, so it only filters and queues)
+     */
+    private void queueResponse(InterceptedResponse response) {
+        ExecutorService worker = executor;
+        if (worker == null) {
+            return;
+        }
+
+        try {
+            if (!AuraDetector.isAuraRequest(response.initiatingRequest())) {
+                return;
+            }
+
+            // Drop responses rather than piling up bodies while the worker catches up
+            if (pending.incrementAndGet() > MAX_PENDING) {
+                pending.decrementAndGet();
+                return;
+            }
+
+            byte[] body = response.body().getBytes();
+            worker.execute(() -> {
+                try {
+                    harvest(body);
+                    scannedResponses.incrementAndGet();
+                } catch (Exception e) {
+                    api.logging().logToError("Failed to harvest Salesforce IDs: " + e.getMessage());
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Harvesting was stopped while the response was being queued
+            pending.decrementAndGet();
+        } catch (Exception e) {
+            api.logging().logToError("Failed to queue response for ID harvesting: " + e.getMessage());
+        }
+    }
+
+    private static boolean isAlphanumeric(byte b) {
+        return (b >= '0' && b <= '9') || (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z');
+    }
+}
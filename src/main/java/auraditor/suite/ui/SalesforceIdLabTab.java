@@ -16,6 +16,7 @@ import java.awt.*;
  * Sub-tabs:
  * - ID Analysis: Analyze 15/18 character Salesforce IDs
  * - Payload ID Generators: Manage Burp Intruder payload ID generators
+ * - Harvested IDs: IDs passively collected from proxied Aura responses
  *
  * Reference: https://codebycody.com/salesforce-ids-explained/
  */
@@ -25,10 +26,12 @@ public class SalesforceIdLabTab {
     private final JPanel mainPanel;
     private final JTabbedPane tabbedPane;
     private final SalesforceIdGeneratorManager generatorManager;
+    private final SalesforceIdHarvester harvester;
 
     public SalesforceIdLabTab(MontoyaApi api, SalesforceIdGeneratorManager generatorManager) {
         this.api = api;
         this.generatorManager = generatorManager;
+        this.harvester = generatorManager.getHarvester();
         this.mainPanel = new JPanel(new BorderLayout());
 
         // Create tabbed pane for sub-tabs
@@ -43,6 +46,10 @@ public class SalesforceIdLabTab {
             new SalesforceIdPayloadGeneratorsPanel(api, generatorManager);
         this.tabbedPane.addTab("Payload ID Generators", payloadGeneratorsPanel.getComponent());
 
+        // Add Harvested IDs sub-tab
+        SalesforceIdHarvestPanel harvestPanel = new SalesforceIdHarvestPanel(api, harvester);
+        this.tabbedPane.addTab("Harvested IDs", harvestPanel.getComponent());
+
         this.mainPanel.add(tabbedPane, BorderLayout.CENTER);
     }
 
@@ -52,6 +59,13 @@ public class SalesforceIdLabTab {
     public JComponent getComponent() {
         return mainPanel;
     }
+
+    /**
+     * Stop harvesting when the extension is unloaded
+     */
+    public void cleanup() {
+        harvester.stop();
+    }
 }
 
 /**
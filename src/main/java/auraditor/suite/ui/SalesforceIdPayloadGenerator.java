@@ -10,25 +10,28 @@ import burp.api.montoya.intruder.GeneratedPayload;
 import burp.api.montoya.intruder.IntruderInsertionPoint;
 import burp.api.montoya.intruder.PayloadGenerator;
 
-import java.util.Iterator;
-import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Burp Intruder payload generator for Salesforce IDs
  *
  * Generates sequences of Salesforce IDs based on a configuration.
  * Can use either a predefined base ID or the current Intruder payload as the base.
+ * IDs are produced one at a time, so large counts start instantly and use constant memory.
+ * Gap-aware generators enumerate the unobserved IDs nearest to known IDs instead.
  */
 public class SalesforceIdPayloadGenerator implements PayloadGenerator {
 
     private final SalesforceIdGenerator config;
-    private Iterator<String> payloadIterator;
+    private final SalesforceIdHarvester harvester;
+    private Supplier<String> sequence;
     private String resolvedBaseId;
     private boolean initialized;
 
-    public SalesforceIdPayloadGenerator(SalesforceIdGenerator config) {
+    public SalesforceIdPayloadGenerator(SalesforceIdGenerator config, SalesforceIdHarvester harvester) {
         this.config = config;
-        this.payloadIterator = null;
+        this.harvester = harvester;
+        this.sequence = null;
         this.resolvedBaseId = null;
         this.initialized = false;
     }
@@ -62,16 +65,24 @@ public class SalesforceIdPayloadGenerator implements PayloadGenerator {
                     }
                 }
 
-                // Generate sequence using SalesforceIdAnalyzer
-                List<String> payloads = SalesforceIdAnalyzer.generateSequence(
-                    resolvedBaseId,
-                    config.getCount(),
-                    config.isUpward(),
-                    config.isGenerate18Char()
-                );
-
-                // Create iterator
-                payloadIterator = payloads.iterator();
+                // Cursor over the sequence; IDs are generated on demand
+                if (config.isGapAware()) {
+                    SalesforceIdGapSequence gapSequence = new SalesforceIdGapSequence(
+                        resolvedBaseId,
+                        SalesforceIdGapSequence.loadKnownCounters(resolvedBaseId, config.getKnownIdsFile(), harvester),
+                        config.getCount(),
+                        config.isGenerate18Char()
+                    );
+                    sequence = gapSequence::next;
+                } else {
+                    SalesforceIdAnalyzer.IdSequence linearSequence = new SalesforceIdAnalyzer.IdSequence(
+                        resolvedBaseId,
+                        config.getCount(),
+                        config.isUpward(),
+                        config.isGenerate18Char()
+                    );
+                    sequence = linearSequence::next;
+                }
 
             } catch (Exception e) {
                 // Any error during initialization - return empty sequence
@@ -80,8 +91,9 @@ public class SalesforceIdPayloadGenerator implements PayloadGenerator {
         }
 
         // Return next payload or end
-        if (payloadIterator != null && payloadIterator.hasNext()) {
-            return GeneratedPayload.payload(payloadIterator.next());
+        String next = sequence != null ? sequence.get() : null;
+        if (next != null) {
+            return GeneratedPayload.payload(next);
         } else {
             return GeneratedPayload.end();
         }
@@ -13,7 +13,6 @@ import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.io.File;
-import java.io.FileWriter;
 import java.util.List;
 
 /**
@@ -43,6 +42,9 @@ public class SalesforceIdPayloadGeneratorsPanel {
     private final JRadioButton upwardRadio;
     private final JRadioButton downwardRadio;
     private final JCheckBox use18CharCheckbox;
+    private final JCheckBox gapAwareCheckbox;
+    private final JTextField knownIdsFileField;
+    private final JButton browseKnownIdsButton;
     private final JButton saveButton;
     private final JLabel statusLabel;
 
@@ -72,6 +74,9 @@ public class SalesforceIdPayloadGeneratorsPanel {
         this.upwardRadio = new JRadioButton("Upward", true);
         this.downwardRadio = new JRadioButton("Downward");
         this.use18CharCheckbox = new JCheckBox("Output 18-character IDs (default is 15-char)");
+        this.gapAwareCheckbox = new JCheckBox("Gap-aware: unobserved IDs nearest to known IDs first");
+        this.knownIdsFileField = new JTextField(20);
+        this.browseKnownIdsButton = new JButton("Browse...");
         this.saveButton = new JButton("Save");
         this.statusLabel = new JLabel(" ");
 
@@ -239,6 +244,28 @@ public class SalesforceIdPayloadGeneratorsPanel {
         formPanel.add(use18CharCheckbox, gbc);
         row++;
 
+        // Gap-aware enumeration seeded from known IDs
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        gbc.gridwidth = 3;
+        gapAwareCheckbox.setToolTipText("Enumerate outwards from every cluster of known IDs with the Base ID's prefix, " +
+                "interleaving the clusters; direction is ignored");
+        formPanel.add(gapAwareCheckbox, gbc);
+        row++;
+
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        gbc.gridwidth = 1;
+        formPanel.add(new JLabel("Known IDs File:"), gbc);
+
+        gbc.gridx = 1;
+        knownIdsFileField.setToolTipText("One 15 or 18-char ID per line; leave empty to use the Harvested IDs");
+        formPanel.add(knownIdsFileField, gbc);
+
+        gbc.gridx = 2;
+        formPanel.add(browseKnownIdsButton, gbc);
+        row++;
+
         // Separator
         gbc.gridx = 0;
         gbc.gridy = row;
@@ -284,6 +311,7 @@ public class SalesforceIdPayloadGeneratorsPanel {
 
         nameField.getDocument().addDocumentListener(docListener);
         baseIdField.getDocument().addDocumentListener(docListener);
+        knownIdsFileField.getDocument().addDocumentListener(docListener);
 
         useBaseIdRadio.addActionListener(e -> {
             baseIdField.setEnabled(true);
@@ -299,6 +327,11 @@ public class SalesforceIdPayloadGeneratorsPanel {
         upwardRadio.addActionListener(e -> onFieldChanged());
         downwardRadio.addActionListener(e -> onFieldChanged());
         use18CharCheckbox.addActionListener(e -> onFieldChanged());
+        gapAwareCheckbox.addActionListener(e -> {
+            updateGapAwareControls();
+            onFieldChanged();
+        });
+        browseKnownIdsButton.addActionListener(e -> browseKnownIdsFile());
 
         saveButton.addActionListener(e -> saveCurrentGenerator());
     }
@@ -347,6 +380,8 @@ public class SalesforceIdPayloadGeneratorsPanel {
         gen.setCount((Integer) countSpinner.getValue());
         gen.setUpward(upwardRadio.isSelected());
         gen.setGenerate18Char(use18CharCheckbox.isSelected());
+        gen.setGapAware(gapAwareCheckbox.isSelected());
+        gen.setKnownIdsFile(knownIdsFileField.getText().trim());
 
         return gen;
     }
@@ -394,6 +429,9 @@ public class SalesforceIdPayloadGeneratorsPanel {
             upwardRadio.setSelected(gen.isUpward());
             downwardRadio.setSelected(!gen.isUpward());
             use18CharCheckbox.setSelected(gen.isGenerate18Char());
+            gapAwareCheckbox.setSelected(gen.isGapAware());
+            knownIdsFileField.setText(gen.getKnownIdsFile());
+            updateGapAwareControls();
 
             saveButton.setVisible(false);
             statusLabel.setText(" ");
@@ -417,6 +455,9 @@ public class SalesforceIdPayloadGeneratorsPanel {
         upwardRadio.setSelected(true);
         downwardRadio.setSelected(false);
         use18CharCheckbox.setSelected(false);
+        gapAwareCheckbox.setSelected(false);
+        knownIdsFileField.setText("");
+        updateGapAwareControls();
 
         saveButton.setVisible(false);
         statusLabel.setText(" ");
@@ -427,6 +468,34 @@ public class SalesforceIdPayloadGeneratorsPanel {
         updatingUI = false;
     }
 
+    /**
+     * Direction only applies to linear sweeps, the known IDs file only to gap-aware enumeration
+     */
+    private void updateGapAwareControls() {
+        boolean gapAware = gapAwareCheckbox.isSelected();
+        upwardRadio.setEnabled(!gapAware);
+        downwardRadio.setEnabled(!gapAware);
+        knownIdsFileField.setEnabled(gapAware);
+        browseKnownIdsButton.setEnabled(gapAware);
+    }
+
+    private void browseKnownIdsFile() {
+        JFileChooser fileChooser = new JFileChooser();
+        if (lastUsedDirectory != null) {
+            fileChooser.setCurrentDirectory(lastUsedDirectory);
+        }
+        fileChooser.setDialogTitle("Select Known Salesforce IDs File");
+
+        int result = fileChooser.showOpenDialog(SwingUtilities.getWindowAncestor(mainPanel));
+        if (result != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File file = fileChooser.getSelectedFile();
+        lastUsedDirectory = file.getParentFile();
+        knownIdsFileField.setText(file.getAbsolutePath());
+    }
+
     private void createNewGenerator() {
         int counter = manager.getGeneratorCount() + 1;
         String name = "Generator" + counter;
@@ -559,52 +628,20 @@ public class SalesforceIdPayloadGeneratorsPanel {
         currentOutputWorker = new SwingWorker<Void, Integer>() {
             @Override
             protected Void doInBackground() throws Exception {
-                // Normalize to 15 chars
-                String id15 = SalesforceIdAnalyzer.normalize15(gen.getBaseId());
-
-                // Extract prefix7 and record number
-                String prefix7 = id15.substring(0, 7);
-                String counter8 = id15.substring(7, 15);
-                long startValue = base62ToDecimal(counter8);
-
-                // Generate sequence with streaming (no memory buildup)
-                int step = gen.isUpward() ? 1 : -1;
-                long current = startValue;
-
-                try (FileWriter writer = new FileWriter(file)) {
-                    for (int i = 0; i < gen.getCount(); i++) {
-                        // Check cancellation
-                        if (isCancelled()) {
-                            break;
-                        }
-
-                        // Check bounds
-                        if (current < 0 || current > SalesforceIdAnalyzer.MAX_BASE62_8) {
-                            break;
-                        }
-
-                        // Generate single ID
-                        String base62 = decimalToBase62(current, 8);
-                        String newId15 = prefix7 + base62;
-
-                        String idToWrite;
-                        if (gen.isGenerate18Char()) {
-                            idToWrite = SalesforceIdAnalyzer.computeId18(newId15);
-                        } else {
-                            idToWrite = newId15;
-                        }
-
-                        writer.write(idToWrite + "\n");
-
-                        current += step;
-
-                        // Publish progress every 1000 IDs
-                        if (i % 1000 == 0 || i == gen.getCount() - 1) {
-                            publish(i + 1);
-                        }
-                    }
+                if (gen.isGapAware()) {
+                    // Gap-aware order depends on every known ID, so it is written from a single cursor
+                    SalesforceIdGapSequence sequence = new SalesforceIdGapSequence(gen.getBaseId(),
+                            SalesforceIdGapSequence.loadKnownCounters(gen.getBaseId(), gen.getKnownIdsFile(), manager.getHarvester()),
+                            gen.getCount(), gen.isGenerate18Char());
+                    SalesforceIdExporter.export(file.toPath(), sequence::next, this::isCancelled,
+                            written -> publish((int) written));
+                    return null;
                 }
 
+                // Chunks are encoded in parallel and written in order; progress is published per chunk
+                SalesforceIdExporter.export(file.toPath(), gen.getBaseId(), gen.getCount(),
+                        gen.isUpward(), gen.isGenerate18Char(), this::isCancelled,
+                        written -> publish((int) written));
                 return null;
             }
 
@@ -645,51 +682,6 @@ public class SalesforceIdPayloadGeneratorsPanel {
         currentOutputWorker.execute();
     }
 
-    /**
-     * Convert Base62 string to decimal (long) - helper for streaming generation
-     */
-    private long base62ToDecimal(String base62) {
-        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
-        long result = 0;
-        for (char c : base62.toCharArray()) {
-            int index = alphabet.indexOf(c);
-            if (index == -1) {
-                throw new IllegalArgumentException("Invalid Base62 character: " + c);
-            }
-            result = result * 62 + index;
-        }
-        return result;
-    }
-
-    /**
-     * Convert decimal to Base62 string with padding - helper for streaming generation
-     */
-    private String decimalToBase62(long value, int minLength) {
-        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
-        if (value < 0) {
-            throw new IllegalArgumentException("Only non-negative values are supported");
-        }
-
-        if (value == 0) {
-            return "0".repeat(Math.max(0, minLength));
-        }
-
-        StringBuilder result = new StringBuilder();
-        long n = value;
-        while (n > 0) {
-            int remainder = (int) (n % 62);
-            result.insert(0, alphabet.charAt(remainder));
-            n = n / 62;
-        }
-
-        // Pad with zeros to minimum length
-        while (result.length() < minLength) {
-            result.insert(0, '0');
-        }
-
-        return result.toString();
-    }
-
     private void exportConfigs() {
         // Show file chooser with proper parent
         JFileChooser fileChooser = new JFileChooser();
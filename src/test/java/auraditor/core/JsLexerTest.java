@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsLexerTest {
+
+    @Test
+    void slashAfterOperandIsDivision() {
+        assertClosesAtEnd("{x=y++/2;}");
+        assertClosesAtEnd("{x=y--/2;}");
+        assertClosesAtEnd("{x=(a+b)/2;y=c/d}");
+        assertClosesAtEnd("{x=a[0]/2;}");
+        assertClosesAtEnd("{x=10/2/1;}");
+        assertClosesAtEnd("{x='a'/2;}");
+        assertClosesAtEnd("{x=fn(a)/fn(b)/2}");
+    }
+
+    @Test
+    void slashAfterConditionStartsRegex() {
+        assertClosesAtEnd("{if(a)/}/.test(b)}");
+        assertClosesAtEnd("{while (f(a)) /}/g.exec(s)}");
+        assertClosesAtEnd("{for(;;)/}/.test(s)}");
+        assertClosesAtEnd("{if(x)y=(a)/2;}");
+    }
+
+    @Test
+    void slashAfterOperatorOrKeywordStartsRegex() {
+        assertClosesAtEnd("{return /}/.test(x)}");
+        assertClosesAtEnd("{x=/[}/]/g;}");
+        assertClosesAtEnd("{x=a&&/}/.test(b)}");
+        assertClosesAtEnd("{x=++/}/.lastIndex}");
+        assertClosesAtEnd("{x=typeof /}/}");
+    }
+
+    @Test
+    void commentsStringsAndTemplatesAreSkipped() {
+        assertClosesAtEnd("{/* } */ // }\n x='}'+\"}\"}");
+        assertClosesAtEnd("{x=`}${ {a:1} }}`}");
+        assertClosesAtEnd("{if /* c */ (a) /}/.test(b)}");
+        assertEquals(-1, JsLexer.matchingBrace("{x={}", 0, false));
+    }
+
+    @Test
+    void embeddedSourceEndsAtTheJsonQuote() {
+        // The component source as it appears inside a JSON string value
+        String json = "{\"code\":\"function(){x=\\\"}\\\";y=i++/2;}\",\"other\":\"}\"}";
+        int open = json.indexOf('{', json.indexOf("function"));
+        assertEquals(json.indexOf(";}\"") + 1, JsLexer.matchingBrace(json, open, true));
+    }
+
+    @Test
+    void reportsStringValues() {
+        JsLexer lexer = new JsLexer("{a:'x\\'y', b:\"z\"}", 0, false);
+        List<String> values = new ArrayList<>();
+        int event;
+        while ((event = lexer.next()) != JsLexer.END) {
+            if (event == JsLexer.STRING) {
+                values.add(lexer.stringValue());
+            }
+        }
+        assertEquals(List.of("x'y", "z"), values);
+    }
+
+    private static void assertClosesAtEnd(String source) {
+        assertEquals(source.length() - 1, JsLexer.matchingBrace(source, 0, false), source);
+    }
+}
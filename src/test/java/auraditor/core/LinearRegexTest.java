@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025, Soroush Dalili (@irsdl)
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE.txt file in the repo root
+ */
+package auraditor.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Differential tests: every pattern LinearRegex accepts must find exactly the
+ * matches java.util.regex finds, walking the input the way SafeRegex does.
+ */
+class LinearRegexTest {
+
+    private static final int CI = Pattern.CASE_INSENSITIVE;
+    private static final int ML = Pattern.MULTILINE;
+
+    @Test
+    void assertionsMatchAfterTheSearchStart() {
+        assertSameMatches("\\bfoo", 0, "xfoo foo_foo (foo)");
+        assertSameMatches("\\bAccount\\b", CI, "MyAccount, account; ACCOUNT_ Account.");
+        assertSameMatches("^Name", ML, "Id: 1\nName: a\r\nName: b\rxName\n");
+        assertSameMatches("$", 0, "abc");
+        assertSameMatches("\\z", 0, "abc\n");
+        assertSameMatches("\\Bo", 0, "foo o");
+    }
+
+    @Test
+    void lineAnchorsFollowJavaRules() {
+        for (int flags : new int[] {0, ML, Pattern.DOTALL}) {
+            assertSameMatches("^", flags, "");
+            assertSameMatches("^", flags, "a\n");
+            assertSameMatches("^", flags, "a\r\nb c\u0085");
+            assertSameMatches("$", flags, "a\r\n");
+            assertSameMatches("$", flags, "a\n\n");
+            assertSameMatches("$", flags, "a\r\nb ");
+            assertSameMatches("^$", flags, "\n\r\n\r");
+            assertSameMatches(".$", flags, "ab\r\ncd\n");
+        }
+    }
+
+    @Test
+    void caseInsensitiveFoldsAsciiOnly() {
+        assertSameMatches("k", CI, "kKK");
+        assertSameMatches("s", CI, "sSſ");
+        assertSameMatches("é", CI, "éÉ");
+        assertSameMatches("[a-z]+", CI, "abKcDſe");
+        assertSameMatches("[^k]", CI, "kKKx");
+        assertSameMatches("[à-ï]", CI, "Éé");
+        assertSameMatches("[Z-a]", CI, "zZ`_aA[");
+    }
+
+    @Test
+    void wordBoundariesUseAsciiWordChars() {
+        assertSameMatches("\\b", 0, "café naïve Über");
+        assertSameMatches("\\B", 0, "café naïve");
+        assertSameMatches("\\bx", CI, "éx Kx");
+        // Non-spacing marks count as word characters after a letter or digit
+        assertSameMatches("\\b", 0, "é ́ 1́́x é́");
+        assertSameMatches("\\w+\\b", 0, "áb");
+    }
+
+    @Test
+    void inputIsReadByCodePoint() {
+        String text = "a😀b\uD83D \uDE00😀";
+        assertSameMatches(".", 0, text);
+        assertSameMatches("[^a]", 0, text);
+        assertSameMatches("\\W", 0, text);
+        assertSameMatches("\\B", 0, text);
+        assertSameMatches("[a-c]*\\B", CI, text);
+        assertSameMatches("a.b", 0, text);
+    }
+
+    @Test
+    void quantifiersAndAlternation() {
+        assertSameMatches("a+?b", 0, "aaab ab b");
+        assertSameMatches("(ab|a)(bc|c)", 0, "abc abbc");
+        assertSameMatches("x{2,3}", 0, "x xx xxx xxxx");
+        assertSameMatches("\\Qa.\\E+", 0, "a.. a. ax");
+        assertSameMatches("\"[^\"]*\"", 0, "say \"hi\" and \"\" \"open");
+        assertSameMatches("(?<key>[A-Za-z_]\\w*)\\s*:", 0, "{ id : 1, Name:2 }");
+    }
+
+    @Test
+    void unsupportedPatternsFallBack() {
+        assertNull(LinearRegex.compile("(a)\\1", 0));
+        assertNull(LinearRegex.compile("a(?=b)", 0));
+        assertNull(LinearRegex.compile("a++", 0));
+        assertNull(LinearRegex.compile("\\p{L}", 0));
+        assertNull(LinearRegex.compile("a", Pattern.UNICODE_CASE | CI));
+        assertNull(LinearRegex.compile("😀", 0));
+        // Repeated empty matches end a java.util.regex loop early
+        assertNull(LinearRegex.compile("(a?)*", 0));
+        assertNull(LinearRegex.compile("(\\b|x)+", 0));
+        assertNotNull(LinearRegex.compile("(a?)?", 0));
+    }
+
+    @Test
+    void largeInputStaysLinear() {
+        String text = "a".repeat(200_000);
+        LinearRegex regex = LinearRegex.compile("(a|aa)+b", 0);
+        assertNotNull(regex);
+        assertNull(regex.find(text, 0));
+    }
+
+    @Test
+    void randomPatternsAgreeWithJavaRegex() {
+        String[] atoms = {"a", "b", "A", "K", "é", "K", "ſ", "s", "_", "1", ".", "\\d", "\\w",
+            "\\s", "\\W", "\\D", "[a-c]", "[^a]", "[A-Z]", "[]a]", "[a-]", "[\\W\\d]", "\\b", "\\B", "^", "$",
+            "\\A", "\\z", "\\n", "\\r", "\\Qa.\\E", "(?:ab)", "(?<n>a)", "\\u0301"};
+        String[] pieces = {"a", "b", "A", "K", "k", "é", "É", "K", "ſ", "s", "S", "_", "1",
+            " ", "-", "\n", "\r", "\r\n", "\u0085", " ", "́", "😀", "\uD83D", "\uDE00"};
+        int[] flagSets = {0, CI, ML, Pattern.DOTALL, CI | ML};
+        Random random = new Random(20251015L);
+
+        int compared = 0;
+        for (int i = 0; i < 20_000; i++) {
+            String regex = randomPattern(random, atoms, 0);
+            int flags = flagSets[random.nextInt(flagSets.length)];
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                text.append(pieces[random.nextInt(pieces.length)]);
+            }
+            try {
+                Pattern.compile(regex, flags);
+            } catch (PatternSyntaxException e) {
+                continue;
+            }
+            if (LinearRegex.compile(regex, flags) != null) {
+                assertSameMatches(regex, flags, text.toString());
+                compared++;
+            }
+        }
+        // Most generated patterns must run on the linear engine for this test to mean anything
+        assertTrue(compared > 10_000, "compared " + compared);
+    }
+
+    private static String randomPattern(Random random, String[] atoms, int depth) {
+        String[] quantifiers = {"*", "+", "?", "{1,2}", "*?", "+?", "??"};
+        StringBuilder regex = new StringBuilder();
+        int count = 1 + random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            if (depth < 2 && random.nextInt(5) == 0) {
+                regex.append('(').append(randomPattern(random, atoms, depth + 1));
+                if (random.nextBoolean()) {
+                    regex.append('|').append(randomPattern(random, atoms, depth + 1));
+                }
+                regex.append(')');
+            } else {
+                regex.append(atoms[random.nextInt(atoms.length)]);
+            }
+            if (random.nextInt(10) < quantifiers.length) {
+                regex.append(quantifiers[random.nextInt(quantifiers.length)]);
+            }
+        }
+        return regex.toString();
+    }
+
+    private static void assertSameMatches(String regex, int flags, String text) {
+        LinearRegex linear = LinearRegex.compile(regex, flags);
+        assertNotNull(linear, "not compiled: " + regex);
+
+        List<String> expected = new ArrayList<>();
+        Matcher matcher = Pattern.compile(regex, flags).matcher(text);
+        while (matcher.find()) {
+            expected.add(matcher.start() + "-" + matcher.end());
+        }
+
+        List<String> actual = new ArrayList<>();
+        int from = 0;
+        int[] match;
+        while (from <= text.length() && (match = linear.find(text, from)) != null) {
+            actual.add(match[0] + "-" + match[1]);
+            from = match[1] > match[0] ? match[1] : match[1] + 1;
+        }
+
+        String context = "/" + regex + "/ flags=" + flags + " on \"" + text + "\"";
+        assertEquals(expected, actual, context);
+        assertEquals(!expected.isEmpty(), linear.find(text), context);
+    }
+}